@@ -0,0 +1,52 @@
+-- =====================================================
+-- BeeHub 기존 DB 변경분 (schema.sql 보다 먼저 만든 MySQL DB 에 한 번 실행)
+-- - 프로그램은 운영 DB 에 DDL 을 실행하지 않음 (beehub.db.initSchema=true 인 내장 DB 만 자동 적용)
+-- - 사용자가 적은 시간에 관리자 계정으로: mysql -u root -p beehub < migrate.sql
+-- - 이미 적용된 항목은 "Duplicate column / key name / table exists" 오류가 나므로
+--   --force 로 실행하거나 해당 줄을 지우고 실행
+-- =====================================================
+
+-- 1) 미반납 중복 대여 금지 키 (RentalDAO.rentItem 의 마지막 안전장치)
+--    먼저 중복 미반납 기록이 없는지 확인 → 결과가 있으면 정리한 뒤 진행 (있으면 UNIQUE INDEX 생성이 실패함)
+SELECT renter_id, item_id, COUNT(*) AS cnt
+FROM RENTAL WHERE is_returned = 0
+GROUP BY renter_id, item_id HAVING COUNT(*) > 1;
+
+ALTER TABLE RENTAL ADD COLUMN active_flag TINYINT
+    GENERATED ALWAYS AS (CASE WHEN is_returned = 0 THEN 1 ELSE NULL END);
+CREATE UNIQUE INDEX uq_rental_active ON RENTAL (renter_id, item_id, active_flag);
+
+-- 2) 조회용 인덱스 (연체 검사 / 관리자 대여 목록 / 메인 화면 일정 / 마이페이지 대여 기록 / 게시글 검색 색인)
+CREATE INDEX idx_members_ban ON members (rental_ban_end_date);
+CREATE INDEX idx_events_date ON events (event_date);
+CREATE INDEX idx_post_updated ON community_post (updated_at);
+CREATE INDEX idx_rental_overdue ON RENTAL (is_returned, due_date);
+CREATE INDEX idx_rental_status_id ON RENTAL (is_returned, rental_id);
+CREATE INDEX idx_rental_rent_date ON RENTAL (rent_date);
+CREATE INDEX idx_rental_renter_history ON RENTAL (renter_id, rent_date, rental_id);
+
+-- 3) 물품 이용 통계 (ItemUsageAnalytics)
+CREATE TABLE IF NOT EXISTS item_usage_daily (
+    item_id          INT  NOT NULL,
+    stat_date        DATE NOT NULL,
+    rent_count       INT  NOT NULL DEFAULT 0,
+    return_count     INT  NOT NULL DEFAULT 0,
+    rent_days        INT  NOT NULL DEFAULT 0,
+    overdue_count    INT  NOT NULL DEFAULT 0,
+    stockout_minutes INT  NOT NULL DEFAULT 0,
+    PRIMARY KEY (item_id, stat_date)
+);
+CREATE INDEX idx_usage_date ON item_usage_daily (stat_date);
+
+CREATE TABLE IF NOT EXISTS item_usage_state (
+    item_id         INT      NOT NULL PRIMARY KEY,
+    stockout_since  DATETIME,
+    last_restock_at DATETIME
+);
+
+-- 4) 러시 모드(RushStock) 잠금
+CREATE TABLE IF NOT EXISTS stock_rush_lease (
+    lease_name VARCHAR(30)  NOT NULL PRIMARY KEY,
+    holder     VARCHAR(100) NOT NULL,
+    expires_at DATETIME     NOT NULL
+);
@@ -0,0 +1,206 @@
+-- =====================================================
+-- BeeHub 스키마 (DAO 에서 사용하는 테이블/컬럼 기준)
+-- MySQL 8 과 H2(MODE=MySQL) 양쪽에서 실행 가능한 문법만 사용
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS members (
+    hakbun              VARCHAR(20)  NOT NULL PRIMARY KEY,
+    pw                  VARCHAR(100) NOT NULL,
+    name                VARCHAR(50)  NOT NULL,
+    nickname            VARCHAR(50),
+    major               VARCHAR(50),
+    phone               VARCHAR(20),
+    point               INT          NOT NULL DEFAULT 0,
+    role                VARCHAR(20)  NOT NULL DEFAULT 'USER',
+    is_fee_paid         CHAR(1)      NOT NULL DEFAULT 'N',
+    dept_fee_yn         CHAR(1)      NOT NULL DEFAULT 'N',
+    rental_ban_end_date DATE
+);
+-- 야간 연체 검사(OverdueScanner)의 만료 정지 일괄 해제용
+CREATE INDEX idx_members_ban ON members (rental_ban_end_date);
+
+CREATE TABLE IF NOT EXISTS ITEM (
+    item_id         INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name            VARCHAR(100) NOT NULL,
+    total_stock     INT          NOT NULL DEFAULT 0,
+    available_stock INT          NOT NULL DEFAULT 0,
+    max_rent_days   INT          NOT NULL DEFAULT 1,
+    target_major    VARCHAR(50),
+    image_path      VARCHAR(255),
+    is_active       TINYINT(1)   NOT NULL DEFAULT 1
+);
+
+CREATE TABLE IF NOT EXISTS RENTAL (
+    rental_id   INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    item_id     INT          NOT NULL,
+    item_name   VARCHAR(100),
+    renter_id   VARCHAR(20)  NOT NULL,
+    renter_name VARCHAR(50),
+    rent_date   DATE         NOT NULL,
+    due_date    DATE         NOT NULL,
+    return_date DATE,
+    is_returned TINYINT(1)   NOT NULL DEFAULT 0,
+    -- 미반납이면 1, 반납하면 NULL → (renter_id, item_id, active_flag) 유니크 = 같은 물품 중복 대여 금지
+    active_flag TINYINT      GENERATED ALWAYS AS (CASE WHEN is_returned = 0 THEN 1 ELSE NULL END)
+);
+CREATE INDEX idx_rental_renter ON RENTAL (renter_id, is_returned);
+CREATE INDEX idx_rental_item ON RENTAL (item_id, is_returned);
+CREATE UNIQUE INDEX uq_rental_active ON RENTAL (renter_id, item_id, active_flag);
+-- 연체 검사: 미반납 + 반납 예정일 지난 기록만 범위 검색
+CREATE INDEX idx_rental_overdue ON RENTAL (is_returned, due_date);
+-- 관리자 대여 목록: 상태별 키셋 페이지(rental_id 내림차순), 대여일 범위 필터
+CREATE INDEX idx_rental_status_id ON RENTAL (is_returned, rental_id);
+CREATE INDEX idx_rental_rent_date ON RENTAL (rent_date);
+-- 마이페이지 대여 기록: 회원별 (대여일, rental_id) 내림차순 키셋 페이지
+CREATE INDEX idx_rental_renter_history ON RENTAL (renter_id, rent_date, rental_id);
+
+CREATE TABLE IF NOT EXISTS events (
+    event_id           INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_type         VARCHAR(20),
+    event_name         VARCHAR(100) NOT NULL,
+    event_date         DATETIME,
+    location           VARCHAR(100),
+    apply_start        DATETIME,
+    apply_end          DATETIME,
+    total_quantity     INT          NOT NULL DEFAULT 0,
+    remaining_quantity INT          NOT NULL DEFAULT 0,
+    secret_code        VARCHAR(50),
+    description        TEXT,
+    status             VARCHAR(20)  NOT NULL DEFAULT 'SCHEDULED',
+    target_major       VARCHAR(50),
+    owner_hakbun       VARCHAR(20),
+    required_fee       VARCHAR(10)  NOT NULL DEFAULT 'NONE',
+    created_at         DATETIME,
+    updated_at         DATETIME
+);
+-- 메인 화면 일정: 오늘부터 며칠 안의 행사만 범위 검색
+CREATE INDEX idx_events_date ON events (event_date);
+
+-- 물품 이용 통계 (ItemUsageAnalytics): 물품별 일별 합계, 대여/반납 때 더해 감
+CREATE TABLE IF NOT EXISTS item_usage_daily (
+    item_id          INT  NOT NULL,
+    stat_date        DATE NOT NULL,
+    rent_count       INT  NOT NULL DEFAULT 0,
+    return_count     INT  NOT NULL DEFAULT 0,
+    rent_days        INT  NOT NULL DEFAULT 0,
+    overdue_count    INT  NOT NULL DEFAULT 0,
+    stockout_minutes INT  NOT NULL DEFAULT 0,
+    PRIMARY KEY (item_id, stat_date)
+);
+CREATE INDEX idx_usage_date ON item_usage_daily (stat_date);
+
+-- 물품별 품절 시작 시각 (NULL 이면 재고 있음) / 마지막 재입고 시각
+CREATE TABLE IF NOT EXISTS item_usage_state (
+    item_id         INT      NOT NULL PRIMARY KEY,
+    stockout_since  DATETIME,
+    last_restock_at DATETIME
+);
+
+-- 러시 모드(RushStock) 잠금: 한 번에 한 PC 만 메모리 재고 카운터를 씀 (expires_at 이 지나면 다른 PC 가 가져갈 수 있음)
+CREATE TABLE IF NOT EXISTS stock_rush_lease (
+    lease_name VARCHAR(30)  NOT NULL PRIMARY KEY,
+    holder     VARCHAR(100) NOT NULL,
+    expires_at DATETIME     NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS event_participation (
+    participation_id   INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_id           INT          NOT NULL,
+    participant_hakbun VARCHAR(20)  NOT NULL,
+    participation_type VARCHAR(20),
+    participation_date DATETIME,
+    quantity           INT          NOT NULL DEFAULT 1,
+    note               VARCHAR(255)
+);
+CREATE INDEX idx_participation_event ON event_participation (event_id, participant_hakbun);
+
+CREATE TABLE IF NOT EXISTS community_post (
+    post_id         INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    writer_hakbun   VARCHAR(20)  NOT NULL,
+    writer_nickname VARCHAR(50),
+    title           VARCHAR(200) NOT NULL,
+    content         TEXT,
+    like_count      INT          NOT NULL DEFAULT 0,
+    comment_count   INT          NOT NULL DEFAULT 0,
+    is_deleted      TINYINT(1)   NOT NULL DEFAULT 0,
+    created_at      DATETIME     DEFAULT CURRENT_TIMESTAMP,
+    updated_at      DATETIME
+);
+CREATE INDEX idx_post_writer ON community_post (writer_hakbun);
+-- 게시글 검색 색인(PostSearchIndex): 다른 PC 에서 수정된 글만 다시 읽기
+CREATE INDEX idx_post_updated ON community_post (updated_at);
+
+CREATE TABLE IF NOT EXISTS community_comment (
+    comment_id      INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    post_id         INT          NOT NULL,
+    writer_hakbun   VARCHAR(20)  NOT NULL,
+    writer_nickname VARCHAR(50),
+    content         TEXT,
+    created_at      DATETIME,
+    updated_at      DATETIME
+);
+CREATE INDEX idx_comment_post ON community_comment (post_id);
+
+CREATE TABLE IF NOT EXISTS community_post_like (
+    post_id      INT          NOT NULL,
+    liker_hakbun VARCHAR(20)  NOT NULL,
+    created_at   DATETIME,
+    PRIMARY KEY (post_id, liker_hakbun)
+);
+
+CREATE TABLE IF NOT EXISTS lottery_round (
+    round_id          INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    round_name        VARCHAR(100) NOT NULL,
+    prize_name        VARCHAR(100),
+    winner_count      INT          NOT NULL DEFAULT 1,
+    announcement_date DATE,
+    application_start DATETIME,
+    application_end   DATETIME,
+    pickup_location   VARCHAR(100),
+    pickup_start      DATETIME,
+    pickup_end        DATETIME,
+    is_drawn          TINYINT(1)   NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS lottery_entry (
+    raffle_id   INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    round_id    INT          NOT NULL,
+    hakbun      VARCHAR(20)  NOT NULL,
+    entry_count INT          NOT NULL DEFAULT 1,
+    is_win      TINYINT(1)   NOT NULL DEFAULT 0,
+    created_at  DATETIME     DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_entry_round ON lottery_entry (round_id, hakbun);
+
+CREATE TABLE IF NOT EXISTS space_info (
+    space_id      INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    building_name VARCHAR(50)  NOT NULL,
+    room_name     VARCHAR(50)  NOT NULL,
+    room_type     VARCHAR(20)  NOT NULL,
+    min_people    INT          NOT NULL DEFAULT 1,
+    max_people    INT          NOT NULL DEFAULT 1,
+    oper_time     VARCHAR(50),
+    is_active     TINYINT(1)   NOT NULL DEFAULT 1
+);
+
+CREATE TABLE IF NOT EXISTS space_reservation (
+    reservation_id INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    space_id       INT          NOT NULL,
+    reserve_date   DATE         NOT NULL,
+    time_slot      VARCHAR(20)  NOT NULL,
+    hakbun         VARCHAR(20)  NOT NULL,
+    people_count   INT          NOT NULL DEFAULT 1,
+    status         VARCHAR(20)  NOT NULL DEFAULT 'RESERVED',
+    created_at     DATETIME
+);
+CREATE INDEX idx_reservation_space ON space_reservation (space_id, reserve_date);
+
+CREATE TABLE IF NOT EXISTS class_timetable (
+    class_id    INT          NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    space_id    INT          NOT NULL,
+    class_date  DATE         NOT NULL,
+    start_hour  INT          NOT NULL,
+    end_hour    INT          NOT NULL,
+    course_name VARCHAR(100)
+);
+CREATE INDEX idx_timetable_date ON class_timetable (class_date, space_id);
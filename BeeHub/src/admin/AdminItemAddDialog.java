@@ -12,6 +12,9 @@ import java.util.List;
 // 🔥 DB 기반으로 변경: beehub.Item / ItemDAO 사용
 import beehub.Item;
 import beehub.ItemDAO;
+import beehub.ThumbnailService;
+import beehub.ImageStore;
+import beehub.AsyncDAO;
 
 public class AdminItemAddDialog extends JDialog {
 
@@ -35,7 +38,7 @@ public class AdminItemAddDialog extends JDialog {
     // ====== 필드들 ======
     private AdminItemManageFrame parent;
     private Item currentItem;              // 🔥 수정 모드일 때 기존 아이템
-    private String selectedImagePath = null;  // 🔥 DB에 저장할 image_path (예: "images/1733xxx_book.png")
+    private String selectedImagePath = null;  // 🔥 DB에 저장할 image_path (예: "images/ab/ab12...ef.jpg")
 
     private JTextField nameField;
     private JSpinner stockSpinner, daySpinner;
@@ -197,10 +200,7 @@ public class AdminItemAddDialog extends JDialog {
 
         if (item.getImagePath() != null) {
             selectedImagePath = item.getImagePath();   // 🔥 기존 이미지 경로 저장
-            ImageIcon icon = new ImageIcon(selectedImagePath);
-            Image img = icon.getImage().getScaledInstance(100, 100, Image.SCALE_SMOOTH);
-            imagePreview.setIcon(new ImageIcon(img));
-            imagePreview.setText("");
+            showPreview(selectedImagePath);
         }
     }
 
@@ -319,42 +319,32 @@ public class AdminItemAddDialog extends JDialog {
 
         File selectedFile = chooser.getSelectedFile();
 
-        try {
-            // 1) 저장할 디렉토리 (프로젝트 기준)
-            java.nio.file.Path imagesDir = java.nio.file.Paths.get("images");
-            if (!java.nio.file.Files.exists(imagesDir)) {
-                java.nio.file.Files.createDirectories(imagesDir);
-            }
+        // 사진 저장소에 넣기 (정규화 + 같은 사진은 한 번만 저장) → 디코딩이 있으므로 EDT 밖에서
+        imagePreview.setIcon(null);
+        imagePreview.setText("저장 중...");
+        AsyncDAO.supply(() -> ImageStore.getInstance().store(selectedFile.toPath()))
+                .whenComplete((path, ex) -> SwingUtilities.invokeLater(() -> {
+                    if (ex != null) {
+                        Throwable cause = (ex.getCause() != null) ? ex.getCause() : ex;
+                        cause.printStackTrace();
+                        imagePreview.setText(selectedImagePath == null ? "이미지 없음" : "");
+                        if (selectedImagePath != null) showPreview(selectedImagePath);
+                        JOptionPane.showMessageDialog(this,
+                                "이미지 파일을 저장하는 중 오류가 발생했습니다.\n" + cause.getMessage(),
+                                "에러",
+                                JOptionPane.ERROR_MESSAGE
+                        );
+                        return;
+                    }
+                    // DB에 넣을 경로 (상대 경로만, 예: "images/ab/ab12...ef.jpg")
+                    selectedImagePath = path;
+                    showPreview(selectedImagePath);
+                }));
+    }
 
-            // 2) 파일명: 충돌 방지용으로 타임스탬프 붙이기
-            String originalName = selectedFile.getName();
-            String newFileName = System.currentTimeMillis() + "_" + originalName;
-
-            java.nio.file.Path destPath = imagesDir.resolve(newFileName);
-
-            // 3) 실제 파일 복사
-            java.nio.file.Files.copy(
-                    selectedFile.toPath(),
-                    destPath,
-                    java.nio.file.StandardCopyOption.REPLACE_EXISTING
-            );
-
-            // 4) DB에 넣을 경로 (상대 경로만)
-            selectedImagePath = "images/" + newFileName;
-
-            // 5) 미리보기 세팅
-            ImageIcon icon = new ImageIcon(destPath.toString());
-            Image img = icon.getImage().getScaledInstance(100, 100, Image.SCALE_SMOOTH);
-            imagePreview.setIcon(new ImageIcon(img));
-            imagePreview.setText("");
-
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "이미지 파일을 저장하는 중 오류가 발생했습니다.\n" + ex.getMessage(),
-                    "에러",
-                    JOptionPane.ERROR_MESSAGE
-            );
-        }
+    // 미리보기: 썸네일은 작업 스레드에서 만들고, 읽을 수 없는 파일이면 "이미지 없음"
+    private void showPreview(String path) {
+        ThumbnailService.getInstance().loadInto(imagePreview, path, 100, 100,
+                () -> imagePreview.setText("이미지 없음"));
     }
 }
@@ -5,12 +5,16 @@ import javax.swing.border.Border;
 
 import java.awt.*;
 import java.io.InputStream;
-import java.net.URL;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 // 🔥 beehub 패키지에서 Item / ItemDAO 불러오기
 import beehub.Item;
 import beehub.ItemDAO;
+import beehub.ThumbnailService;
+import beehub.AsyncDAO;
+import beehub.ItemUsageAnalytics;
 
 public class AdminItemManageFrame extends JFrame {
 
@@ -29,6 +33,11 @@ public class AdminItemManageFrame extends JFrame {
     }
 
     private JPanel itemListPanel;
+    private JComboBox<String> sortCombo;
+    private JLabel usageLabel;
+
+    private List<Item> items = new ArrayList<>();
+    private ItemUsageAnalytics.Report usage;   // 최근 기간 이용 통계 (불러오기 전이면 null)
 
     public AdminItemManageFrame() {
         setTitle("관리자 - 물품 관리");
@@ -74,6 +83,20 @@ public class AdminItemManageFrame extends JFrame {
         addBtn.addActionListener(e -> new AdminItemAddDialog(this, null));
         add(addBtn);
 
+        // 📊 이용 통계 기준 정렬
+        sortCombo = new JComboBox<>(new String[]{ "이름순", "이용률 높은 순", "이용률 낮은 순" });
+        sortCombo.setBounds(30, 103, 160, 35);
+        sortCombo.setFont(uiFont.deriveFont(14f));
+        sortCombo.setBackground(Color.WHITE);
+        sortCombo.addActionListener(e -> renderItems());
+        add(sortCombo);
+
+        usageLabel = new JLabel("최근 " + ItemUsageAnalytics.WINDOW_DAYS + "일 이용 통계 불러오는 중...");
+        usageLabel.setFont(uiFont.deriveFont(14f));
+        usageLabel.setForeground(Color.GRAY);
+        usageLabel.setBounds(205, 105, 410, 30);
+        add(usageLabel);
+
         itemListPanel = new JPanel(null);
         itemListPanel.setBackground(BG_MAIN);
 
@@ -90,13 +113,35 @@ public class AdminItemManageFrame extends JFrame {
 
     // 🔥 DB 에서 전체 아이템(비활성 포함) 가져오기
     public void refreshList() {
+        // 조회는 AsyncDAO(가상 스레드)에서, 카드 그리기는 EDT 에서
+        AsyncDAO.scope(this).run(AsyncDAO.getAllItemsAdmin(), list -> {
+            items = list;
+            renderItems();
+        });
+        // 이용 통계는 따로 (일별 합계 테이블만 읽음) → 도착하면 카드에 한 줄 추가
+        AsyncDAO.scope(this).run(AsyncDAO.getItemUsageReport(), report -> {
+            usage = report;
+            usageLabel.setText(String.format("최근 %d일 이용 통계 (%s ~ %s)",
+                    ItemUsageAnalytics.WINDOW_DAYS, report.from, report.to));
+            renderItems();
+        }, ex -> {
+            ex.printStackTrace();
+            usageLabel.setText("이용 통계를 불러오지 못했습니다.");
+        });
+    }
+
+    private void renderItems() {
         itemListPanel.removeAll();
 
-        // 기존: ItemManager.getAllItems()
-        List<Item> items = ItemDAO.getInstance().getAllItemsAdmin();
+        List<Item> sorted = new ArrayList<>(items);
+        int sort = sortCombo.getSelectedIndex();
+        if (sort > 0 && usage != null) {
+            Comparator<Item> byUtil = Comparator.comparingDouble(this::utilizationOf);
+            sorted.sort(sort == 1 ? byUtil.reversed() : byUtil);
+        }
 
         int y = 0;
-        for (Item item : items) {
+        for (Item item : sorted) {
             JPanel card = createItemCard(item);
             card.setBounds(10, y, 700, 100);
             itemListPanel.add(card);
@@ -108,6 +153,11 @@ public class AdminItemManageFrame extends JFrame {
         itemListPanel.repaint();
     }
 
+    private double utilizationOf(Item item) {
+        ItemUsageAnalytics.ItemUsage u = (usage != null) ? usage.byItem.get(item.getItemId()) : null;
+        return (u != null) ? u.utilization : 0;
+    }
+
     private JPanel createItemCard(Item item) {
         JPanel p = new JPanel(null);
         // 비활성인 경우 살짝 회색 (기존 is_active 컬럼 그대로 활용)
@@ -119,29 +169,9 @@ public class AdminItemManageFrame extends JFrame {
         icon.setBounds(15, 15, 70, 70);
         icon.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
 
-        boolean imgLoaded = false;
-        String path = item.getImagePath();
-        if (path != null && !path.isEmpty()) {
-            try {
-                URL url = getClass().getResource(path.startsWith("/") ? path : "/" + path);
-                if (url == null) {
-                    ImageIcon ii = new ImageIcon(path);
-                    if (ii.getIconWidth() > 0) {
-                        icon.setIcon(new ImageIcon(ii.getImage().getScaledInstance(70, 70, Image.SCALE_SMOOTH)));
-                        icon.setText("");
-                        imgLoaded = true;
-                    }
-                } else {
-                    ImageIcon ii = new ImageIcon(url);
-                    icon.setIcon(new ImageIcon(ii.getImage().getScaledInstance(70, 70, Image.SCALE_SMOOTH)));
-                    icon.setText("");
-                    imgLoaded = true;
-                }
-            } catch (Exception e) { }
-        }
-        if (!imgLoaded) {
-            icon.setText("📦");
-        }
+        // 썸네일은 작업 스레드에서 만들고, 준비될 때까지 자리표시
+        ThumbnailService.getInstance().loadInto(icon, item.getImagePath(), 70, 70,
+                () -> icon.setText("📦"));
         p.add(icon);
 
         // 이름 + (비활성) 표시
@@ -168,9 +198,19 @@ public class AdminItemManageFrame extends JFrame {
         JLabel info = new JLabel(infoText);
         info.setFont(uiFont.deriveFont(14f));
         info.setForeground(Color.GRAY);
-        info.setBounds(100, 50, 450, 20);
+        info.setBounds(100, 45, 420, 20);
         p.add(info);
 
+        // 이용률 / 평균 대여 기간 / 연체율 / 품절 시간 (통계가 도착한 뒤에만)
+        ItemUsageAnalytics.ItemUsage u = (usage != null) ? usage.byItem.get(item.getItemId()) : null;
+        if (u != null) {
+            JLabel usageInfo = new JLabel(u.toString());
+            usageInfo.setFont(uiFont.deriveFont(13f));
+            usageInfo.setForeground(u.utilization >= 0.8 ? new Color(200, 50, 50) : BROWN);
+            usageInfo.setBounds(100, 68, 420, 20);
+            p.add(usageInfo);
+        }
+
         JButton edit = new JButton("수정");
         edit.setBounds(530, 30, 70, 40);
         edit.setFont(uiFont.deriveFont(12f));
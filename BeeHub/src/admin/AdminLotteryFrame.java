@@ -8,11 +8,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Random;
 import java.util.List;
 
 import admin.LotteryManager.Applicant;
 import admin.LotteryManager.LotteryRound;
+import beehub.AsyncDAO;
 
 public class AdminLotteryFrame extends JFrame {
 
@@ -51,7 +52,7 @@ public class AdminLotteryFrame extends JFrame {
         getContentPane().setBackground(BG_MAIN);
 
         initUI();
-        refreshList();
+        loadRounds(false);
         setVisible(true);
     }
 
@@ -92,18 +93,10 @@ public class AdminLotteryFrame extends JFrame {
         comboLabel.setBounds(0, 15, 90, 30);
         controlPanel.add(comboLabel);
 
-        rounds = LotteryManager.getAllRounds();
-
         roundCombo = new JComboBox<>();
         roundCombo.setFont(uiFont.deriveFont(14f));
         roundCombo.setBounds(90, 15, 300, 35);
         roundCombo.setBackground(Color.WHITE);
-
-        for (int i = 0; i < rounds.size(); i++) {
-            LotteryRound r = rounds.get(i);
-            String display = (i + 1) + "회차: " + r.name;
-            roundCombo.addItem(display);
-        }
         roundCombo.addActionListener(e -> refreshList());
         controlPanel.add(roundCombo);
 
@@ -278,18 +271,7 @@ public class AdminLotteryFrame extends JFrame {
             return;
         }
 
-        List<Applicant> shuffled = new ArrayList<>(r.applicants);
-        Collections.shuffle(shuffled);
-
-        for (Applicant a : r.applicants) {
-            a.status = "미당첨";
-        }
-
-        for (int i = 0; i < r.winnerCount && i < shuffled.size(); i++) {
-            shuffled.get(i).status = "당첨";
-        }
-
-        r.isDrawn = true;
+        LotteryManager.drawWinners(r, new Random());
 
         boolean ok = LotteryManager.saveDrawResult(r);
         if (!ok) {
@@ -383,17 +365,25 @@ public class AdminLotteryFrame extends JFrame {
                 pickE
         );
 
-        rounds = LotteryManager.getAllRounds();
-        roundCombo.removeAllItems();
-        for (int i = 0; i < rounds.size(); i++) {
-            roundCombo.addItem((i + 1) + "회차: " + rounds.get(i).name);
-        }
+        loadRounds(true);
+    }
 
-        if (!rounds.isEmpty()) {
-            roundCombo.setSelectedIndex(rounds.size() - 1);
-        }
+    // 회차 목록 조회는 AsyncDAO(가상 스레드)에서, 콤보박스 갱신은 EDT 에서
+    private void loadRounds(boolean selectLast) {
+        infoLabel.setText("회차 정보를 불러오는 중...");
+        AsyncDAO.scope(this).run(AsyncDAO.getAllRounds(), list -> {
+            rounds = list;
+            roundCombo.removeAllItems();
+            for (int i = 0; i < rounds.size(); i++) {
+                roundCombo.addItem((i + 1) + "회차: " + rounds.get(i).name);
+            }
 
-        refreshList();
+            if (selectLast && !rounds.isEmpty()) {
+                roundCombo.setSelectedIndex(rounds.size() - 1);
+            }
+
+            refreshList();
+        });
     }
 
     private static class RoundedBorder implements Border {
@@ -4,8 +4,15 @@ import javax.swing.*;
 import javax.swing.border.Border;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import beehub.AsyncDAO;
 import beehub.LoginFrame; 
+import beehub.OverdueScanner;
+import beehub.QueryStats;
 
 public class AdminMainFrame extends JFrame {
 
@@ -28,6 +35,8 @@ public class AdminMainFrame extends JFrame {
         }
     }
 
+    private JLabel overdueLabel;
+
     public AdminMainFrame() {
         setTitle("서울여대 꿀단지 - 총 관리자");
         setSize(800, 600);
@@ -65,6 +74,36 @@ public class AdminMainFrame extends JFrame {
         logoutBtn.addActionListener(e -> showLogoutConfirmDialog()); // 변경된 메소드 호출
         headerPanel.add(logoutBtn);
 
+        // DB 통계 버튼 (SQL 실행 통계 / 느린 쿼리 확인용)
+        JButton statsBtn = new JButton("DB 통계");
+        statsBtn.setFont(uiFont.deriveFont(14f));
+        statsBtn.setBackground(Color.WHITE);
+        statsBtn.setForeground(BROWN);
+        statsBtn.setBounds(575, 25, 95, 35);
+        statsBtn.setBorder(new RoundedBorder(15, BROWN));
+        statsBtn.setFocusPainted(false);
+        statsBtn.addActionListener(e -> showQueryStatsDialog());
+        headerPanel.add(statsBtn);
+
+        // --- 연체 검사 요약 (OverdueScanner 마지막 결과) ---
+        overdueLabel = new JLabel();
+        overdueLabel.setFont(uiFont.deriveFont(14f));
+        overdueLabel.setForeground(BROWN);
+        overdueLabel.setBounds(100, 92, 480, 28);
+        add(overdueLabel);
+
+        JButton scanBtn = new JButton("지금 검사");
+        scanBtn.setFont(uiFont.deriveFont(13f));
+        scanBtn.setBackground(Color.WHITE);
+        scanBtn.setForeground(BROWN);
+        scanBtn.setBounds(600, 90, 100, 30);
+        scanBtn.setBorder(new RoundedBorder(15, BROWN));
+        scanBtn.setFocusPainted(false);
+        scanBtn.addActionListener(e -> runOverdueScan(scanBtn));
+        add(scanBtn);
+
+        updateOverdueLabel(OverdueScanner.getInstance().getLastSummary());
+
         // --- 메인 메뉴 버튼들 ---
         JPanel menuContainer = new JPanel();
         menuContainer.setLayout(new GridLayout(2, 2, 20, 20)); 
@@ -90,6 +129,36 @@ public class AdminMainFrame extends JFrame {
         }));
     }
 
+    // ===============================================================
+    // ⏰ 연체 검사 (정지 적용/해제는 OverdueScanner 가 매일 자동으로, 여기선 결과 표시 + 수동 실행)
+    // ===============================================================
+    private void updateOverdueLabel(OverdueScanner.Summary s) {
+        if (s == null) {
+            overdueLabel.setText("연체 검사: 아직 실행 전");
+            return;
+        }
+        overdueLabel.setText(String.format("연체 검사 %s | 연체 %d명(%d건) · 정지 중 %d명 · 새 정지 %d · 해제 %d",
+                s.finishedAt.format(DateTimeFormatter.ofPattern("MM/dd HH:mm")),
+                s.overdueMembers, s.overdueRentals, s.activeBans, s.bansExtended, s.bansCleared));
+    }
+
+    private void runOverdueScan(JButton scanBtn) {
+        scanBtn.setEnabled(false);
+        overdueLabel.setText("연체 검사 중...");
+        AsyncDAO.scope(this).run(
+                AsyncDAO.supply(() -> OverdueScanner.getInstance().scan(LocalDate.now())),
+                s -> {
+                    scanBtn.setEnabled(true);
+                    updateOverdueLabel(s);
+                },
+                ex -> {
+                    ex.printStackTrace();
+                    scanBtn.setEnabled(true);
+                    updateOverdueLabel(OverdueScanner.getInstance().getLastSummary());
+                    showMsg("연체 검사 실패: " + ex.getMessage());
+                });
+    }
+
     private JButton createMenuButton(String text, ActionListener action) {
         JButton btn = new JButton(text);
         btn.setFont(uiFont.deriveFont(24f));
@@ -184,6 +253,49 @@ public class AdminMainFrame extends JFrame {
 
         dialog.setVisible(true);
     }
+    // ===============================================================
+    // 📊 SQL 실행 통계 창 (QueryStats)
+    // ===============================================================
+    private void showQueryStatsDialog() {
+        JDialog dialog = new JDialog(this, "DB 통계", true);
+        dialog.setSize(760, 500);
+        dialog.setLocationRelativeTo(this);
+        dialog.setLayout(new BorderLayout());
+
+        JTextArea area = new JTextArea(QueryStats.dumpToString());
+        area.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        area.setEditable(false);
+        dialog.add(new JScrollPane(area), BorderLayout.CENTER);
+
+        JPanel btnPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        btnPanel.setBackground(BG_YELLOW);
+
+        JButton refreshBtn = createStyledButton("새로고침");
+        refreshBtn.addActionListener(e -> area.setText(QueryStats.dumpToString()));
+        btnPanel.add(refreshBtn);
+
+        JButton saveBtn = createStyledButton("파일로 저장");
+        saveBtn.addActionListener(e -> {
+            JFileChooser chooser = new JFileChooser();
+            chooser.setSelectedFile(new File("beehub-sql-stats.txt"));
+            if (chooser.showSaveDialog(dialog) != JFileChooser.APPROVE_OPTION) return;
+            try {
+                QueryStats.dumpToFile(chooser.getSelectedFile().toPath());
+                showMsg("통계를 저장했습니다.");
+            } catch (IOException ex) {
+                showMsg("저장 실패: " + ex.getMessage());
+            }
+        });
+        btnPanel.add(saveBtn);
+
+        JButton closeBtn = createStyledButton("닫기");
+        closeBtn.addActionListener(e -> dialog.dispose());
+        btnPanel.add(closeBtn);
+
+        dialog.add(btnPanel, BorderLayout.SOUTH);
+        dialog.setVisible(true);
+    }
+
     // --- 팝업 UI 헬퍼 메소드들 ---
     private JPanel createPopupBackgroundPanel() {
         return new JPanel() {
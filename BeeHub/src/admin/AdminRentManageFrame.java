@@ -6,14 +6,18 @@ import java.awt.*;
 import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import beehub.Item;
 import beehub.Rent;
 import beehub.RentDAO;
-import beehub.ItemDAO;
-import beehub.PointService;
+import beehub.AsyncDAO;
 
 public class AdminRentManageFrame extends JFrame {
 
@@ -36,8 +40,36 @@ public class AdminRentManageFrame extends JFrame {
         }
     }
 
+    // 한 번에 불러오는 대여 기록 수 (스크롤이 끝에 가까워지면 다음 페이지)
+    private static final int PAGE_SIZE = 30;
+
     private JPanel rentListPanel;
-    private List<Rent> rentList = new ArrayList<>();
+    private JScrollPane scrollPane;
+    private JLabel footerLabel;
+    private List<Rent> rentList = new ArrayList<>();   // 지금까지 불러온 기록
+
+    // 목록 필터 (검색할 때마다 새 객체로 교체 → 조회 중인 작업과 공유 안 함)
+    private RentDAO.RentFilter filter = new RentDAO.RentFilter();
+    private RentDAO.RentCounts counts;
+    private JComboBox<RentDAO.RentFilter.Status> statusCombo;
+    private JComboBox<String> itemCombo;
+    private final List<Integer> itemComboIds = new ArrayList<>();   // itemCombo 순서대로 item_id (0번 = 전체)
+    private JTextField renterField;
+    private JTextField fromField;
+    private JTextField toField;
+
+    // 페이지 상태
+    private Integer nextCursor;          // 다음 페이지 커서 (RentDAO.RentPage.nextCursor)
+    private boolean hasMore;
+    private boolean loadingPage;
+    private int generation;              // 필터가 바뀌면 증가 → 이전 조건으로 늦게 도착한 결과는 버림
+    private int listY = 10;
+
+    // 선택 반납용 (rental_id)
+    private final Set<Integer> selectedIds = new LinkedHashSet<>();
+    private JButton selectAllBtn;
+    private JButton bulkReturnBtn;
+    private boolean returning = false;   // 반납 처리 중에는 버튼 잠금
 
     public AdminRentManageFrame() {
         setTitle("관리자 - 대여 관리");
@@ -50,6 +82,7 @@ public class AdminRentManageFrame extends JFrame {
         initUI();
 
         try {
+            loadItemOptions();
             refreshList();
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -85,61 +118,351 @@ public class AdminRentManageFrame extends JFrame {
         });
         headerPanel.add(homeBtn);
 
+        selectAllBtn = new JButton("전체 선택");
+        selectAllBtn.setFont(uiFont.deriveFont(14f));
+        selectAllBtn.setBackground(Color.WHITE);
+        selectAllBtn.setForeground(BROWN);
+        selectAllBtn.setBounds(360, 25, 110, 35);
+        selectAllBtn.setBorder(new RoundedBorder(15, BROWN));
+        selectAllBtn.setFocusPainted(false);
+        selectAllBtn.addActionListener(e -> toggleSelectAll());
+        headerPanel.add(selectAllBtn);
+
+        bulkReturnBtn = new JButton("선택 반납 (0)");
+        bulkReturnBtn.setFont(uiFont.deriveFont(14f));
+        bulkReturnBtn.setBackground(BROWN);
+        bulkReturnBtn.setForeground(Color.WHITE);
+        bulkReturnBtn.setBounds(480, 25, 150, 35);
+        bulkReturnBtn.setBorder(new RoundedBorder(15, BROWN));
+        bulkReturnBtn.setFocusPainted(false);
+        bulkReturnBtn.addActionListener(e -> returnSelected());
+        headerPanel.add(bulkReturnBtn);
+
+        initFilterBar();
+
         rentListPanel = new JPanel();
         rentListPanel.setLayout(null);
         rentListPanel.setBackground(BG_MAIN);
 
-        JScrollPane scrollPane = new JScrollPane(rentListPanel);
-        scrollPane.setBounds(30, 100, 730, 440);
+        footerLabel = new JLabel("", SwingConstants.CENTER);
+        footerLabel.setFont(uiFont.deriveFont(14f));
+        footerLabel.setForeground(Color.GRAY);
+
+        scrollPane = new JScrollPane(rentListPanel);
+        scrollPane.setBounds(30, 130, 730, 420);
         scrollPane.setBorder(null);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
         add(scrollPane);
         
         scrollPane.getVerticalScrollBar().setUI(new ModernScrollBarUI());
         scrollPane.getVerticalScrollBar().setPreferredSize(new Dimension(8, 0));
+
+        // 끝에서 카드 2장 정도 남으면 다음 페이지
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            JScrollBar bar = scrollPane.getVerticalScrollBar();
+            if (bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - 220) {
+                loadNextPage();
+            }
+        });
     }
 
-    private void refreshList() {
-        rentListPanel.removeAll();
+    // ================================
+    // 🔍 필터 (상태 / 물품 / 대여자 / 대여일 범위) — 조건은 DB 에서 적용
+    // ================================
+    private void initFilterBar() {
+        statusCombo = new JComboBox<>(RentDAO.RentFilter.Status.values());
+        statusCombo.setFont(uiFont.deriveFont(13f));
+        statusCombo.setBackground(Color.WHITE);
+        statusCombo.setBounds(30, 90, 130, 30);
+        statusCombo.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                RentDAO.RentFilter.Status st = (RentDAO.RentFilter.Status) value;
+                String text = statusName(st) + (counts != null && st != null ? " (" + counts.of(st) + ")" : "");
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+        statusCombo.addActionListener(e -> applyFilter());
+        add(statusCombo);
+
+        itemCombo = new JComboBox<>(new String[]{ "전체 물품" });
+        itemComboIds.add(null);
+        itemCombo.setFont(uiFont.deriveFont(13f));
+        itemCombo.setBackground(Color.WHITE);
+        itemCombo.setBounds(170, 90, 150, 30);
+        itemCombo.addActionListener(e -> applyFilter());
+        add(itemCombo);
+
+        renterField = createFilterField(330, 110, "대여자 학번 또는 이름");
+        fromField = createFilterField(450, 90, "대여일 시작 (예: 2024-03-01)");
+
+        JLabel tilde = new JLabel("~", SwingConstants.CENTER);
+        tilde.setFont(uiFont.deriveFont(14f));
+        tilde.setForeground(BROWN);
+        tilde.setBounds(540, 90, 16, 30);
+        add(tilde);
+
+        toField = createFilterField(556, 90, "대여일 끝 (예: 2024-06-30)");
+
+        JButton searchBtn = new JButton("검색");
+        searchBtn.setFont(uiFont.deriveFont(14f));
+        searchBtn.setBackground(BROWN);
+        searchBtn.setForeground(Color.WHITE);
+        searchBtn.setBounds(655, 90, 105, 30);
+        searchBtn.setBorder(new RoundedBorder(15, BROWN));
+        searchBtn.setFocusPainted(false);
+        searchBtn.addActionListener(e -> applyFilter());
+        add(searchBtn);
+    }
+
+    private JTextField createFilterField(int x, int width, String tooltip) {
+        JTextField field = new JTextField();
+        field.setFont(uiFont.deriveFont(13f));
+        field.setBounds(x, 90, width, 30);
+        field.setToolTipText(tooltip);
+        field.addActionListener(e -> applyFilter());   // Enter
+        add(field);
+        return field;
+    }
 
+    private static String statusName(RentDAO.RentFilter.Status st) {
+        if (st == null) return "";
+        switch (st) {
+            case ACTIVE:   return "대여 중";
+            case OVERDUE:  return "연체";
+            case RETURNED: return "반납 완료";
+            default:       return "전체";
+        }
+    }
+
+    // 물품 선택 목록 (ItemDAO 캐시에서, 비활성 물품 포함)
+    private void loadItemOptions() {
+        AsyncDAO.scope(this).run(AsyncDAO.getAllItemsAdmin(), items -> {
+            for (Item item : items) {
+                itemComboIds.add(item.getItemId());
+                itemCombo.addItem(item.getName());
+            }
+        });
+    }
+
+    // 입력값으로 새 필터를 만들어 첫 페이지부터 다시 조회
+    private void applyFilter() {
+        RentDAO.RentFilter f = new RentDAO.RentFilter();
+        f.status = (RentDAO.RentFilter.Status) statusCombo.getSelectedItem();
+        int itemIdx = itemCombo.getSelectedIndex();
+        f.itemId = (itemIdx > 0 && itemIdx < itemComboIds.size()) ? itemComboIds.get(itemIdx) : null;
+        f.renter = renterField.getText().trim();
         try {
-            rentList = RentDAO.getInstance().getAllRentals();
-        } catch (Exception ex) {
+            f.rentFrom = parseDate(fromField.getText());
+            f.rentTo = parseDate(toField.getText());
+        } catch (DateTimeParseException ex) {
+            showMsgPopup("입력 오류", "날짜는 2024-03-01 형식으로\n입력해 주세요.");
+            return;
+        }
+
+        filter = f;
+        selectedIds.clear();   // 안 보이는 기록이 선택된 채로 남지 않게
+        refreshList();
+    }
+
+    private static LocalDate parseDate(String text) {
+        String t = text.trim();
+        return t.isEmpty() ? null : LocalDate.parse(t);
+    }
+
+    // ================================
+    // 📄 목록 (첫 페이지부터 다시 / 다음 페이지 이어 붙이기)
+    // ================================
+    private void refreshList() {
+        generation++;
+        rentList = new ArrayList<>();
+        nextCursor = null;
+        hasMore = true;
+        loadingPage = false;
+        renderList();
+        scrollPane.getVerticalScrollBar().setValue(0);
+
+        // 상태별 건수 (필터 옆 숫자)
+        int gen = generation;
+        AsyncDAO.scope(this).run(AsyncDAO.countRentals(filter), c -> {
+            if (gen != generation) return;
+            counts = c;
+            statusCombo.repaint();
+            updateFooter();
+        });
+
+        loadNextPage();
+    }
+
+    private void loadNextPage() {
+        if (loadingPage || !hasMore) return;
+        loadingPage = true;
+        updateFooter();
+
+        // 조회는 AsyncDAO(가상 스레드)에서, 결과/오류 표시는 EDT 에서
+        int gen = generation;
+        AsyncDAO.scope(this).run(AsyncDAO.getRentalsPage(filter, nextCursor, PAGE_SIZE), page -> {
+            if (gen != generation) return;   // 그 사이 필터가 바뀜
+            loadingPage = false;
+            rentList.addAll(page.rows);
+            nextCursor = page.nextCursor;
+            hasMore = page.nextCursor != null;
+            appendCards(page.rows);
+
+            // 첫 페이지가 화면을 다 채우지 못하면 스크롤이 생기지 않으므로 바로 이어서
+            if (hasMore && rentListPanel.getPreferredSize().height <= scrollPane.getViewport().getHeight()) {
+                loadNextPage();
+            }
+        }, ex -> {
+            if (gen != generation) return;
+            loadingPage = false;
+            hasMore = false;
             ex.printStackTrace();
             showMsgPopup("오류", "대여 목록 조회 중 오류가 발생했습니다.\n" + ex.getMessage());
-            rentList = new ArrayList<>();
-        }
+            updateFooter();
+        });
+    }
+
+    // 불러온 기록 전체를 다시 그림 (선택 상태가 바뀌었을 때 등)
+    private void renderList() {
+        rentListPanel.removeAll();
+        listY = 10;
+        appendCards(rentList);
+    }
 
-        int yPos = 10;
-        for (Rent data : rentList) {
+    private void appendCards(List<Rent> rows) {
+        rentListPanel.remove(footerLabel);
+        for (Rent data : rows) {
             JPanel card = createRentCard(data);
-            card.setBounds(10, yPos, 690, 100);
+            card.setBounds(10, listY, 690, 100);
             rentListPanel.add(card);
-            yPos += 110;
+            listY += 110;
         }
+        rentListPanel.add(footerLabel);
+        updateFooter();
+        updateSelectionButtons();
+    }
+
+    private void updateFooter() {
+        String text;
+        if (loadingPage) text = "불러오는 중...";
+        else if (hasMore) text = "";
+        else if (rentList.isEmpty()) text = "조건에 맞는 대여 기록이 없습니다.";
+        else text = "마지막 기록입니다." + (counts != null ? " (총 " + counts.of(filter.status) + "건)" : "");
 
-        rentListPanel.setPreferredSize(new Dimension(690, yPos));
+        footerLabel.setText(text);
+        footerLabel.setBounds(10, listY, 690, 30);
+        rentListPanel.setPreferredSize(new Dimension(690, listY + 40));
         rentListPanel.revalidate();
         rentListPanel.repaint();
     }
 
+    // ================================
+    // ✅ 선택 / 반납 처리 (선택은 지금까지 불러온 기록 기준)
+    // ================================
+
+    private void updateSelectionButtons() {
+        int openCount = 0;
+        for (Rent r : rentList) {
+            if (!r.isReturned()) openCount++;
+        }
+        boolean allSelected = openCount > 0 && selectedIds.size() == openCount;
+
+        selectAllBtn.setText(allSelected ? "선택 해제" : "전체 선택");
+        selectAllBtn.setEnabled(!returning && openCount > 0);
+        bulkReturnBtn.setText("선택 반납 (" + selectedIds.size() + ")");
+        bulkReturnBtn.setEnabled(!returning && !selectedIds.isEmpty());
+    }
+
+    private void toggleSelectAll() {
+        List<Integer> open = new ArrayList<>();
+        for (Rent r : rentList) {
+            if (!r.isReturned()) open.add(r.getRentalId());
+        }
+        if (selectedIds.containsAll(open)) selectedIds.clear();
+        else selectedIds.addAll(open);
+        renderList();
+    }
+
+    private void returnSelected() {
+        if (selectedIds.isEmpty() || returning) return;
+
+        boolean confirm = showConfirmPopup(
+                "선택 반납",
+                "선택한 " + selectedIds.size() + "건을\n반납 처리 하시겠습니까?"
+        );
+        if (!confirm) return;
+
+        returnRentals(new ArrayList<>(selectedIds), summary -> {
+            String msg = summary.returned + "건 반납 완료\n"
+                       + "제때 " + summary.onTime + "건 (+" + RentDAO.RETURN_ON_TIME_POINT + "꿀)"
+                       + " / 연체 " + summary.overdue + "건 (" + RentDAO.RETURN_OVERDUE_POINT + "꿀)";
+            if (summary.skipped > 0) msg += "\n이미 반납된 " + summary.skipped + "건은 건너뜀";
+            showMsgPopup("반납 완료", msg);
+        });
+    }
+
+    /**
+     * 대여 기록 반납 (1건이든 여러 건이든 같은 경로)
+     * - RentDAO.returnRentals: 반납 표시 + 재고 + 포인트 + 연체 정지를 트랜잭션 1개로
+     * - DB 작업은 가상 스레드에서, 결과 팝업과 목록 갱신(1번)은 EDT 에서
+     */
+    private void returnRentals(List<Integer> rentalIds, Consumer<RentDAO.ReturnSummary> onDone) {
+        returning = true;
+        updateSelectionButtons();
+
+        AsyncDAO.scope(this).run(
+                AsyncDAO.supply(() -> RentDAO.getInstance().returnRentals(rentalIds, LocalDate.now())),
+                summary -> {
+                    returning = false;
+                    selectedIds.removeAll(rentalIds);
+                    onDone.accept(summary);
+                    refreshList();   // 리스트 갱신
+                },
+                ex -> {
+                    returning = false;
+                    ex.printStackTrace();
+                    showMsgPopup("오류",
+                            "DB 처리 중 오류가 발생했습니다.\n(대여 기록 또는 재고 업데이트 실패)");
+                    refreshList();
+                });
+    }
+
     private JPanel createRentCard(Rent data) {
         JPanel panel = new JPanel();
         panel.setLayout(null);
         panel.setBackground(Color.WHITE);
         panel.setBorder(new RoundedBorder(15, Color.LIGHT_GRAY));
 
+        // 미반납 기록만 선택 가능
+        int textX = 20;
+        if (!data.isReturned()) {
+            JCheckBox check = new JCheckBox();
+            check.setBackground(Color.WHITE);
+            check.setFocusPainted(false);
+            check.setBounds(15, 38, 24, 24);
+            check.setSelected(selectedIds.contains(data.getRentalId()));
+            check.addActionListener(e -> {
+                if (check.isSelected()) selectedIds.add(data.getRentalId());
+                else selectedIds.remove(data.getRentalId());
+                updateSelectionButtons();
+            });
+            panel.add(check);
+            textX = 50;
+        }
+
         JLabel nameLabel = new JLabel(data.getItemName());
         nameLabel.setFont(uiFont.deriveFont(20f));
         nameLabel.setForeground(BROWN);
-        nameLabel.setBounds(20, 15, 250, 30);
+        nameLabel.setBounds(textX, 15, 250, 30);
         panel.add(nameLabel);
 
         JLabel renterLabel =
                 new JLabel("대여자: " + data.getRenterId() + " | " + data.getRenterName());
         renterLabel.setFont(uiFont.deriveFont(14f));
         renterLabel.setForeground(Color.GRAY);
-        renterLabel.setBounds(20, 50, 250, 20);
+        renterLabel.setBounds(textX, 50, 250, 20);
         panel.add(renterLabel);
 
         DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yy.MM.dd");
@@ -147,7 +470,7 @@ public class AdminRentManageFrame extends JFrame {
         JLabel dateLabel = new JLabel(dateStr);
         dateLabel.setFont(uiFont.deriveFont(14f));
         dateLabel.setForeground(Color.GRAY);
-        dateLabel.setBounds(20, 70, 250, 20);
+        dateLabel.setBounds(textX, 70, 250, 20);
         panel.add(dateLabel);
 
         long daysDiff = ChronoUnit.DAYS.between(LocalDate.now(), data.getDueDate());
@@ -192,38 +515,21 @@ public class AdminRentManageFrame extends JFrame {
                         "[" + data.getItemName() + "] 반납 처리를\n하시겠습니까?"
                 );
 
-                if (!confirm) return;   // 아니오 누르면 바로 종료
-
-                boolean rentSuccess =
-                        RentDAO.getInstance().returnItem(data.getRentalId());
-                boolean itemSuccess =
-                        ItemDAO.getInstance().increaseAvailableStock(data.getItemId());
-
-                if (rentSuccess && itemSuccess) {
-                    long overdueDays =
-                            ChronoUnit.DAYS.between(data.getDueDate(), LocalDate.now());
-
-                    String renterId = data.getRenterId();  // 학번
-
-                    if (overdueDays > 0) {
-                        // 연체: -50꿀
-                        PointService.addPoint(renterId, -50);
+                if (!confirm || returning) return;   // 아니오 누르면 바로 종료
 
+                returnRentals(List.of(data.getRentalId()), summary -> {
+                    if (summary.returned == 0) {
+                        showMsgPopup("반납 확인", "이미 반납 처리된 기록입니다.");
+                    } else if (summary.overdue > 0) {
+                        // 연체: -50꿀 + 연체 일수만큼 대여 정지
                         showMsgPopup("연체 확인",
                                 "연체 반납 확인되었습니다.\n" +
                                         "50꿀 차감");
                     } else {
                         // 제때 반납: +10꿀
-                        PointService.addPoint(renterId, +10);
-
                         showMsgPopup("반납 완료", "정상적으로 반납되었습니다.\n+10꿀이 지급되었습니다.");
                     }
-
-                    refreshList();   // 리스트 갱신
-                } else {
-                    showMsgPopup("오류",
-                            "DB 처리 중 오류가 발생했습니다.\n(대여 기록 또는 재고 업데이트 실패)");
-                }
+                });
             });
 
         }
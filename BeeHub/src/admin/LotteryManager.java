@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 public class LotteryManager {
 
@@ -76,7 +78,7 @@ public class LotteryManager {
                 "FROM lottery_round " +
                 "ORDER BY round_id ASC";
 
-        try (Connection conn = DBUtil.getConnection();
+        try (Connection conn = DBUtil.getReadConnection();   // 목록 조회 → 복제 DB 가능
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
             
@@ -154,7 +156,7 @@ public class LotteryManager {
                 "WHERE e.round_id = ? " +
                 "ORDER BY e.raffle_id ASC";
 
-        try (Connection conn = DBUtil.getConnection();
+        try (Connection conn = DBUtil.getReadConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, roundId);
@@ -193,87 +195,65 @@ public class LotteryManager {
 
     public static boolean applyUsingPoints(int roundId, String hakbun, int costPoints) {
 
-        String selectPointSql = "SELECT point FROM members WHERE hakbun = ?";
-        String updatePointSql = "UPDATE members SET point = point - ? WHERE hakbun = ?";
-        String selectEntrySql = "SELECT entry_count FROM lottery_entry WHERE round_id = ? AND hakbun = ?";
-        String insertEntrySql = "INSERT INTO lottery_entry (round_id, hakbun, entry_count, is_win) VALUES (?, ?, 1, 0)";
+        // 포인트 차감은 "잔액이 충분할 때만" 한 문장으로 처리 (SELECT 왕복 제거)
+        String updatePointSql = "UPDATE members SET point = point - ? WHERE hakbun = ? AND point >= ?";
         String updateEntrySql = "UPDATE lottery_entry SET entry_count = entry_count + 1 WHERE round_id = ? AND hakbun = ?";
+        String insertEntrySql = "INSERT INTO lottery_entry (round_id, hakbun, entry_count, is_win) VALUES (?, ?, 1, 0)";
         String selectRoundPeriodSql = "SELECT application_start, application_end FROM lottery_round WHERE round_id = ?";
 
-        try (Connection conn = DBUtil.getConnection()) {
-            conn.setAutoCommit(false);
-
-            // 기간 체크
-            try (PreparedStatement ps = conn.prepareStatement(selectRoundPeriodSql)) {
-                ps.setInt(1, roundId);
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        java.sql.Timestamp tsStart = rs.getTimestamp("application_start");
-                        java.sql.Timestamp tsEnd   = rs.getTimestamp("application_end");
-
-                        if (tsStart != null && tsEnd != null) {
-                            LocalDateTime now = LocalDateTime.now();
-                            LocalDateTime start = tsStart.toLocalDateTime();
-                            LocalDateTime end   = tsEnd.toLocalDateTime();
-
-                            if (now.isBefore(start) || now.isAfter(end)) {
-                                System.out.println("[Lottery] 응모 기간이 아님.");
-                                conn.rollback();
-                                return false;
+        try {
+            // 커넥션 1개 + 트랜잭션 1개 (DBUtil.inTransaction), 데드락/락 대기 초과 시 재시도
+            return DBUtil.inTransaction("lottery.applyUsingPoints", conn -> {
+
+                // 기간 체크
+                try (PreparedStatement ps = conn.prepareStatement(selectRoundPeriodSql)) {
+                    ps.setInt(1, roundId);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        if (rs.next()) {
+                            java.sql.Timestamp tsStart = rs.getTimestamp("application_start");
+                            java.sql.Timestamp tsEnd   = rs.getTimestamp("application_end");
+
+                            if (tsStart != null && tsEnd != null) {
+                                LocalDateTime now = LocalDateTime.now();
+                                LocalDateTime start = tsStart.toLocalDateTime();
+                                LocalDateTime end   = tsEnd.toLocalDateTime();
+
+                                if (now.isBefore(start) || now.isAfter(end)) {
+                                    System.out.println("[Lottery] 응모 기간이 아님.");
+                                    return false;
+                                }
                             }
                         }
                     }
                 }
-            }
 
-            int currentPoint;
-            try (PreparedStatement pstmt = conn.prepareStatement(selectPointSql)) {
-                pstmt.setString(1, hakbun);
-                try (ResultSet rs = pstmt.executeQuery()) {
-                    if (!rs.next()) {
-                        conn.rollback();
+                // 포인트 차감 (회원 없음 / 포인트 부족이면 0행 → 아무것도 안 바뀐 상태로 종료)
+                try (PreparedStatement pstmt = conn.prepareStatement(updatePointSql)) {
+                    pstmt.setInt(1, costPoints);
+                    pstmt.setString(2, hakbun);
+                    pstmt.setInt(3, costPoints);
+                    if (pstmt.executeUpdate() == 0) {
                         return false;
                     }
-                    currentPoint = rs.getInt("point");
                 }
-            }
-
-            if (currentPoint < costPoints) {
-                conn.rollback();
-                return false;
-            }
-
-            try (PreparedStatement pstmt = conn.prepareStatement(updatePointSql)) {
-                pstmt.setInt(1, costPoints);
-                pstmt.setString(2, hakbun);
-                pstmt.executeUpdate();
-            }
-
-            boolean exists;
-            try (PreparedStatement pstmt = conn.prepareStatement(selectEntrySql)) {
-                pstmt.setInt(1, roundId);
-                pstmt.setString(2, hakbun);
-                try (ResultSet rs = pstmt.executeQuery()) {
-                    exists = rs.next();
-                }
-            }
 
-            if (exists) {
+                // 기존 응모 기록이 있으면 +1, 없으면 새로 INSERT
+                int updated;
                 try (PreparedStatement pstmt = conn.prepareStatement(updateEntrySql)) {
                     pstmt.setInt(1, roundId);
                     pstmt.setString(2, hakbun);
-                    pstmt.executeUpdate();
+                    updated = pstmt.executeUpdate();
                 }
-            } else {
-                try (PreparedStatement pstmt = conn.prepareStatement(insertEntrySql)) {
-                    pstmt.setInt(1, roundId);
-                    pstmt.setString(2, hakbun);
-                    pstmt.executeUpdate();
-                }
-            }
 
-            conn.commit();
-            return true;
+                if (updated == 0) {
+                    try (PreparedStatement pstmt = conn.prepareStatement(insertEntrySql)) {
+                        pstmt.setInt(1, roundId);
+                        pstmt.setString(2, hakbun);
+                        pstmt.executeUpdate();
+                    }
+                }
+                return true;
+            });
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -329,6 +309,24 @@ public class LotteryManager {
         }
     }
 
+    // ===================== 추첨 (메모리) =====================
+
+    // 응모자를 섞어서 앞에서부터 winnerCount 명을 "당첨", 나머지는 "미당첨" 처리
+    public static void drawWinners(LotteryRound round, Random random) {
+        List<Applicant> shuffled = new ArrayList<>(round.applicants);
+        Collections.shuffle(shuffled, random);
+
+        for (Applicant a : round.applicants) {
+            a.status = "미당첨";
+        }
+
+        for (int i = 0; i < round.winnerCount && i < shuffled.size(); i++) {
+            shuffled.get(i).status = "당첨";
+        }
+
+        round.isDrawn = true;
+    }
+
     // ===================== 추첨 결과 저장 =====================
 
     public static boolean saveDrawResult(LotteryRound round) {
@@ -48,6 +48,7 @@ public class PenaltyManager {
 
     /**
      * 물품 대여 정지 남은 기간(일)을 조회
+     * - 조회만 함: 연체 정지 적용/만료 정지 해제는 OverdueScanner 가 매일 일괄 처리
      */
     public static long getRentalBanDaysRemaining(String userId) {
         UserDAO userDAO = new UserDAO();
@@ -57,9 +58,8 @@ public class PenaltyManager {
 
         LocalDate today = LocalDate.now();
 
-        // 이미 정지 기간이 끝났으면 DB에서 해제
+        // 이미 정지 기간이 끝났으면 대여 가능 (DB 값은 다음 검사 때 정리)
         if (today.isAfter(banUntil)) {
-            userDAO.clearRentalBan(userId);
             return 0;
         }
 
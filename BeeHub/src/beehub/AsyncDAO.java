@@ -0,0 +1,190 @@
+package beehub;
+
+import java.awt.Window;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.swing.JFrame;
+import javax.swing.JRootPane;
+import javax.swing.SwingUtilities;
+
+import admin.LotteryManager;
+import council.EventManager;
+
+/**
+ * DAO 호출을 EDT(Swing 이벤트 스레드) 밖에서 실행하기 위한 비동기 레이어
+ * - 작업은 가상 스레드(virtual thread)에서 실행 → MySQL 이 느려도 화면이 멈추지 않음
+ * - 결과는 SwingUtilities.invokeLater 로 EDT 에 전달
+ * - 화면(JFrame)이 닫히면 그 화면에서 시작한 작업은 취소 (시작 전이면 실행 안 함, 실행 중이면 결과만 버림)
+ *
+ * 사용 예)
+ *   AsyncDAO.scope(this).run(AsyncDAO.getAllItems(), items -> renderItems(items));
+ */
+public class AsyncDAO {
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final String SCOPE_KEY = "beehub.AsyncDAO.scope";
+
+    private AsyncDAO() {}
+
+    // ================================
+    // 1. 공통: 가상 스레드에서 실행
+    // ================================
+    public static <T> CompletableFuture<T> supply(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        // 취소는 표시만 함: 시작 전이면 건너뛰고, 이미 실행 중이면 끝까지 두고 결과만 버림
+        // (인터럽트하면 JDBC 대기 중인 스레드가 MySQL 소켓을 닫아 풀의 커넥션이 망가짐)
+        EXECUTOR.execute(() -> {
+            if (future.isDone()) return;   // 시작 전에 취소됨
+            try {
+                future.complete(task.call());   // 그 사이 취소됐으면 무시됨
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    // ================================
+    // 2. DAO 별 비동기 메서드 (목록 화면용)
+    // ================================
+    public static CompletableFuture<List<Item>> getAllItems() {
+        return supply(() -> ItemDAO.getInstance().getAllItems());
+    }
+
+    public static CompletableFuture<List<Item>> searchItems(String keyword, int limit) {
+        return supply(() -> ItemDAO.getInstance().searchItems(keyword, limit));
+    }
+
+    public static CompletableFuture<List<Item>> getAllItemsAdmin() {
+        return supply(() -> ItemDAO.getInstance().getAllItemsAdmin());
+    }
+
+    public static CompletableFuture<ItemUsageAnalytics.Report> getItemUsageReport() {
+        return supply(() -> ItemUsageAnalytics.getInstance().report(LocalDate.now()));
+    }
+
+    public static CompletableFuture<List<Rent>> getAllRentals() {
+        return supply(() -> RentDAO.getInstance().getAllRentals());
+    }
+
+    public static CompletableFuture<RentDAO.RentPage> getRentalsPage(RentDAO.RentFilter filter, Integer afterRentalId,
+                                                                     int pageSize) {
+        return supply(() -> RentDAO.getInstance().getRentalsPage(filter, afterRentalId, pageSize, LocalDate.now()));
+    }
+
+    public static CompletableFuture<RentDAO.RentCounts> countRentals(RentDAO.RentFilter filter) {
+        return supply(() -> RentDAO.getInstance().countRentals(filter, LocalDate.now()));
+    }
+
+    public static CompletableFuture<RentalDAO.HistoryPage> getRentalHistoryPage(String userId,
+                                                                                RentalDAO.HistoryCursor after,
+                                                                                int pageSize) {
+        return supply(() -> new RentalDAO().getRentalHistoryPage(userId, after, pageSize));
+    }
+
+    public static CompletableFuture<DashboardDAO.Dashboard> getDashboard(String userId, LocalDate today) {
+        return supply(() -> DashboardDAO.getInstance().get(userId, today));
+    }
+
+    public static CompletableFuture<CommunityDAO.PostPage> getPostsPage(String keyword, Integer beforePostId,
+                                                                        int skip, int pageSize) {
+        return supply(() -> new CommunityDAO().getPostsPage(keyword, beforePostId, skip, pageSize));
+    }
+
+    public static CompletableFuture<CommunityDAO.PostPage> searchPostsPage(String keyword, int offset, int pageSize) {
+        return supply(() -> new CommunityDAO().searchPostsPage(keyword, offset, pageSize));
+    }
+
+    public static CompletableFuture<CommunityDAO.PostCount> countPosts(String keyword) {
+        return supply(() -> new CommunityDAO().countPosts(keyword));
+    }
+
+    public static CompletableFuture<CommunityDAO.PostDTO> getPostById(int postId) {
+        return supply(() -> new CommunityDAO().getPostById(postId));
+    }
+
+    public static CompletableFuture<List<EventManager.EventData>> getAllEvents() {
+        return supply(EventManager::getAllEvents);
+    }
+
+    public static CompletableFuture<List<LotteryManager.LotteryRound>> getAllRounds() {
+        return supply(LotteryManager::getAllRounds);
+    }
+
+    // ================================
+    // 3. 화면 단위 작업 묶음 (닫히면 취소)
+    // ================================
+    public static Scope scope(JFrame frame) {
+        JRootPane root = frame.getRootPane();
+        Object existing = root.getClientProperty(SCOPE_KEY);
+        if (existing instanceof Scope) return (Scope) existing;
+
+        Scope scope = new Scope(frame);
+        root.putClientProperty(SCOPE_KEY, scope);
+        return scope;
+    }
+
+    public static class Scope {
+        private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+        private volatile boolean closed;
+
+        private Scope(Window window) {
+            window.addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowClosed(WindowEvent e) {
+                    closed = true;
+                    cancelAll();
+                }
+            });
+        }
+
+        /** 작업 결과를 EDT 에서 onSuccess 로 전달 (오류는 콘솔 출력) */
+        public <T> CompletableFuture<T> run(CompletableFuture<T> future, Consumer<? super T> onSuccess) {
+            return run(future, onSuccess, Throwable::printStackTrace);
+        }
+
+        /** 작업 결과/오류를 EDT 에서 전달. 화면이 닫혔거나 취소된 작업은 무시 */
+        public <T> CompletableFuture<T> run(CompletableFuture<T> future,
+                                            Consumer<? super T> onSuccess,
+                                            Consumer<Throwable> onError) {
+            pending.add(future);
+            future.whenComplete((result, error) -> {
+                pending.remove(future);
+                if (future.isCancelled()) return;
+
+                SwingUtilities.invokeLater(() -> {
+                    if (closed) return;   // 이미 dispose 된 화면
+                    if (error == null) {
+                        onSuccess.accept(result);
+                    } else {
+                        Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+                                ? error.getCause() : error;
+                        if (!(cause instanceof CancellationException)) onError.accept(cause);
+                    }
+                });
+            });
+            return future;
+        }
+
+        /** 이 화면에서 시작한 작업 전부 취소 */
+        public void cancelAll() {
+            for (CompletableFuture<?> f : pending) {
+                f.cancel(false);   // 실행 중인 DB 작업은 인터럽트하지 않음 (supply 참고)
+            }
+            pending.clear();
+        }
+    }
+}
@@ -3,7 +3,11 @@ package beehub;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class CommunityDAO {
 
@@ -33,6 +37,49 @@ public class CommunityDAO {
         public String createdDate;   // "yyyy-MM-dd HH:mm"
     }
 
+    // ================================
+    // 📌 게시글 목록 한 페이지 / 글 수 추정
+    // ================================
+    public static class PostPage {
+        public final List<PostDTO> rows;      // content 는 비어 있음 (상세는 getPostById)
+        public final Integer nextCursor;      // 다음 페이지 조회 시 beforePostId (마지막 페이지면 null)
+
+        PostPage(List<PostDTO> rows, Integer nextCursor) {
+            this.rows = rows;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    public static class PostCount {
+        public final int count;
+        public final boolean exact;           // false 면 "count 개 이상" (검색어가 있을 때 COUNT_CAP 까지만 셈)
+
+        PostCount(int count, boolean exact) {
+            this.count = count;
+            this.exact = exact;
+        }
+    }
+
+    // 검색어 있을 때 글 수를 어디까지 셀지 / 전체 글 수 캐시 유효 시간
+    private static final int COUNT_CAP = Math.max(1, Integer.getInteger("beehub.community.countCap", 1000));
+    private static final long COUNT_TTL_NANOS =
+            TimeUnit.SECONDS.toNanos(Math.max(0, Long.getLong("beehub.community.countTtlSec", 60L)));
+
+    // 전체 글 수 (검색어 없음): 이 프로그램에서 쓰고 지운 글은 바로 +1/-1, 다른 PC 변경은 TTL 뒤에 반영
+    private static final Object countLock = new Object();
+    private static int cachedTotal = -1;
+    private static long cachedTotalAt;
+
+    static final String NICKNAME_EXPR =
+            "COALESCE(NULLIF(m.nickname, ''), NULLIF(p.writer_nickname, ''), m.name)";
+
+    // 목록 컬럼만 (본문 제외)
+    private static final String LIST_SQL =
+            "SELECT p.post_id, p.writer_hakbun, " + NICKNAME_EXPR + " AS writer_nickname, p.title, " +
+            "       DATE_FORMAT(p.created_at, '%Y-%m-%d') AS created_date, p.like_count " +
+            "FROM community_post p " +
+            "LEFT JOIN members m ON p.writer_hakbun = m.hakbun ";
+
     // ================================
     // 🔗 공통 커넥션
     // ================================
@@ -62,7 +109,7 @@ public class CommunityDAO {
             "WHERE p.is_deleted = 0 " +
             "ORDER BY p.post_id DESC";
 
-        try (Connection conn = getConnection();
+        try (Connection conn = DBUtil.getReadConnection();   // 목록 조회 → 복제 DB 가능
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
 
@@ -87,6 +134,179 @@ public class CommunityDAO {
         return list;
     }
     
+    // ================================
+    // 0-1. 게시글 목록 한 페이지 (최신순, post_id 키셋)
+    //    - 목록에 필요한 컬럼만 (본문 제외), 댓글 수는 이 페이지 글들만 모아 GROUP BY 1번
+    //    - beforePostId: 이 번호보다 작은 글부터 (첫 페이지면 null)
+    //    - skip: 그 위치에서 몇 개 건너뛸지 (페이지 번호로 몇 페이지 앞을 누를 때만, 작게 유지)
+    //    - keyword: 제목/작성자에 포함 (null 또는 "" 이면 전체)
+    // ================================
+    public PostPage getPostsPage(String keyword, Integer beforePostId, int skip, int pageSize) throws SQLException {
+        if (pageSize <= 0) throw new IllegalArgumentException("pageSize 는 1 이상이어야 합니다: " + pageSize);
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(LIST_SQL + "WHERE p.is_deleted = 0");
+        if (beforePostId != null) {
+            sql.append(" AND p.post_id < ?");
+            params.add(beforePostId);
+        }
+        appendKeyword(sql, params, keyword);
+        sql.append(" ORDER BY p.post_id DESC LIMIT ? OFFSET ?");
+        params.add(pageSize + 1);
+        params.add(Math.max(0, skip));
+
+        List<PostDTO> rows = new ArrayList<>();
+        try (Connection conn = DBUtil.getReadConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+                for (int i = 0; i < params.size(); i++) pstmt.setObject(i + 1, params.get(i));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) rows.add(readListRow(rs));
+                }
+            }
+
+            Integer next = null;
+            if (rows.size() > pageSize) {
+                rows.remove(pageSize);
+                next = rows.get(pageSize - 1).postId;
+            }
+            fillCommentCounts(conn, rows);
+            return new PostPage(rows, next);
+        }
+    }
+
+    // ================================
+    // 0-2. 검색 결과 한 페이지 (PostSearchIndex 의 BM25 순위, 제목/본문/작성자)
+    //    - offset: 순위에서 몇 번째부터 → nextCursor 는 다음 offset (마지막 페이지면 null)
+    //    - 색인에서 고른 post_id 만 PK 로 읽음 (다른 PC 에서 지운 글은 여기서 빠짐)
+    //    - 색인이 아직 준비 전이면 getPostsPage(keyword, ...) 를 쓸 것
+    // ================================
+    public PostPage searchPostsPage(String keyword, int offset, int pageSize) throws SQLException {
+        if (pageSize <= 0) throw new IllegalArgumentException("pageSize 는 1 이상이어야 합니다: " + pageSize);
+        int[] ranked = PostSearchIndex.getInstance().search(keyword);
+        int from = Math.max(0, offset);
+        int to = Math.min(ranked.length, from + pageSize);
+        if (from >= to) return new PostPage(new ArrayList<>(), null);
+
+        String sql = LIST_SQL + "WHERE p.is_deleted = 0 AND p.post_id IN ("
+                   + String.join(", ", Collections.nCopies(to - from, "?")) + ")";
+        Map<Integer, PostDTO> byId = new HashMap<>();
+        try (Connection conn = DBUtil.getReadConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (int i = from; i < to; i++) pstmt.setInt(i - from + 1, ranked[i]);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        PostDTO dto = readListRow(rs);
+                        byId.put(dto.postId, dto);
+                    }
+                }
+            }
+
+            // 순위 순서대로
+            List<PostDTO> rows = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                PostDTO dto = byId.get(ranked[i]);
+                if (dto != null) rows.add(dto);
+            }
+            fillCommentCounts(conn, rows);
+            return new PostPage(rows, (to < ranked.length) ? to : null);
+        }
+    }
+
+    private static PostDTO readListRow(ResultSet rs) throws SQLException {
+        PostDTO dto = new PostDTO();
+        dto.postId         = rs.getInt("post_id");
+        dto.writerHakbun   = rs.getString("writer_hakbun");
+        dto.writerNickname = rs.getString("writer_nickname");
+        dto.title          = rs.getString("title");
+        dto.createdDate    = rs.getString("created_date");
+        dto.likeCount      = rs.getInt("like_count");
+        return dto;
+    }
+
+    // 이 페이지 글들의 댓글 수 (idx_comment_post, 쿼리 1번)
+    private void fillCommentCounts(Connection conn, List<PostDTO> rows) throws SQLException {
+        if (rows.isEmpty()) return;
+        String sql = "SELECT post_id, COUNT(*) AS cnt FROM community_comment WHERE post_id IN ("
+                   + String.join(", ", Collections.nCopies(rows.size(), "?")) + ") GROUP BY post_id";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < rows.size(); i++) pstmt.setInt(i + 1, rows.get(i).postId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int postId = rs.getInt("post_id");
+                    for (PostDTO dto : rows) {
+                        if (dto.postId == postId) dto.commentCount = rs.getInt("cnt");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 목록 글 수 추정 (페이지 버튼 개수용)
+     * - 검색어 없음: 전체 COUNT 를 캐시 (TTL 안에서는 DB 안 감)
+     * - 검색어 있음: 검색 색인이 준비됐으면 색인 결과 수 (searchPostsPage 와 같은 기준),
+     *   아니면 COUNT_CAP 개까지만 셈 → 넘으면 exact = false
+     */
+    public PostCount countPosts(String keyword) throws SQLException {
+        boolean all = (keyword == null || keyword.trim().isEmpty());
+        if (!all && PostSearchIndex.getInstance().isReady()) {
+            return new PostCount(PostSearchIndex.getInstance().search(keyword).length, true);
+        }
+        if (all) {
+            synchronized (countLock) {
+                if (cachedTotal >= 0 && System.nanoTime() - cachedTotalAt < COUNT_TTL_NANOS) {
+                    return new PostCount(cachedTotal, true);
+                }
+            }
+        }
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder inner = new StringBuilder(
+            "SELECT 1 FROM community_post p LEFT JOIN members m ON p.writer_hakbun = m.hakbun " +
+            "WHERE p.is_deleted = 0");
+        appendKeyword(inner, params, keyword);
+        String sql;
+        if (all) {
+            sql = "SELECT COUNT(*) FROM community_post p WHERE p.is_deleted = 0";
+        } else {
+            inner.append(" LIMIT ?");
+            params.add(COUNT_CAP + 1);
+            sql = "SELECT COUNT(*) FROM (" + inner + ") t";
+        }
+
+        int count = 0;
+        try (Connection conn = DBUtil.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) pstmt.setObject(i + 1, params.get(i));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) count = rs.getInt(1);
+            }
+        }
+
+        if (all) {
+            synchronized (countLock) {
+                cachedTotal = count;
+                cachedTotalAt = System.nanoTime();
+            }
+            return new PostCount(count, true);
+        }
+        return (count > COUNT_CAP) ? new PostCount(COUNT_CAP, false) : new PostCount(count, true);
+    }
+
+    private static void adjustCachedTotal(int delta) {
+        synchronized (countLock) {
+            if (cachedTotal >= 0) cachedTotal = Math.max(0, cachedTotal + delta);
+        }
+    }
+
+    // 제목/작성자 부분 일치 (%, _ 는 글자 그대로)
+    private static void appendKeyword(StringBuilder sql, List<Object> params, String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) return;
+        String like = "%" + keyword.trim().replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        sql.append(" AND (p.title LIKE ? ESCAPE '!' OR ").append(NICKNAME_EXPR).append(" LIKE ? ESCAPE '!')");
+        params.add(like);
+        params.add(like);
+    }
+
     // ================================
     // 1-0. 단일 게시글 조회
     //      ✅ 작성자 닉네임도 members 기준 최신값 사용
@@ -165,10 +385,13 @@ public class CommunityDAO {
 
             int affected = pstmt.executeUpdate();
             if (affected == 0) return -1;
+            adjustCachedTotal(1);
 
             try (ResultSet rs = pstmt.getGeneratedKeys()) {
                 if (rs.next()) {
-                    return rs.getInt(1);   // 새로 생성된 post_id
+                    int postId = rs.getInt(1);   // 새로 생성된 post_id
+                    PostSearchIndex.getInstance().put(postId, title, content, writerNickname);
+                    return postId;
                 }
             }
         } catch (Exception e) {
@@ -181,14 +404,15 @@ public class CommunityDAO {
     // 3. 게시글 수정
     // ================================
     public void updatePost(int postId, String title, String content) {
-        String sql = "UPDATE community_post SET title = ?, content = ? WHERE post_id = ?";
+        // updated_at: 다른 PC 의 검색 색인이 수정된 글을 찾는 기준 (PostSearchIndex)
+        String sql = "UPDATE community_post SET title = ?, content = ?, updated_at = CURRENT_TIMESTAMP WHERE post_id = ?";
         try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setString(1, title);
             pstmt.setString(2, content);
             pstmt.setInt(3, postId);
-            pstmt.executeUpdate();
+            if (pstmt.executeUpdate() > 0) PostSearchIndex.getInstance().update(postId, title, content);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -203,7 +427,8 @@ public class CommunityDAO {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, postId);
-            pstmt.executeUpdate();
+            if (pstmt.executeUpdate() > 0) adjustCachedTotal(-1);
+            PostSearchIndex.getInstance().remove(postId);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -273,6 +498,7 @@ public class CommunityDAO {
     // 5-2. 좋아요 추가
     //      - community_post_like 에 INSERT
     //      - community_post.like_count = like_count + 1
+    //      - 한 글에 좋아요가 몰려 데드락/락 대기 초과가 나면 트랜잭션째 재시도
     // ================================
     public void addLike(int postId, String likerHakbun) {
         String insertSql =
@@ -284,32 +510,25 @@ public class CommunityDAO {
             "UPDATE community_post SET like_count = like_count + 1 " +
             "WHERE post_id = ?";
 
-        try (Connection conn = getConnection()) {
-            conn.setAutoCommit(false);
-
-            try (PreparedStatement pstmt1 = conn.prepareStatement(insertSql);
-                 PreparedStatement pstmt2 = conn.prepareStatement(updateSql)) {
-
-                // 1) 좋아요 기록 추가
-                pstmt1.setInt(1, postId);
-                pstmt1.setString(2, likerHakbun);
-                pstmt1.executeUpdate();
-
-                // 2) 게시글 like_count + 1
-                pstmt2.setInt(1, postId);
-                pstmt2.executeUpdate();
-
-                conn.commit();
-            } catch (SQLIntegrityConstraintViolationException e) {
-                // PK(post_id, liker_hakbun) 중복인 경우 → 이미 좋아요 누른 글
-                System.out.println("이미 좋아요 누른 글입니다. postId=" + postId + ", hakbun=" + likerHakbun);
-                conn.rollback();
-            } catch (Exception e) {
-                conn.rollback();
-                e.printStackTrace();
-            } finally {
-                conn.setAutoCommit(true);
-            }
+        try {
+            DBUtil.inTransaction("community.addLike", conn -> {
+                try (PreparedStatement pstmt1 = conn.prepareStatement(insertSql);
+                     PreparedStatement pstmt2 = conn.prepareStatement(updateSql)) {
+
+                    // 1) 좋아요 기록 추가
+                    pstmt1.setInt(1, postId);
+                    pstmt1.setString(2, likerHakbun);
+                    pstmt1.executeUpdate();
+
+                    // 2) 게시글 like_count + 1
+                    pstmt2.setInt(1, postId);
+                    pstmt2.executeUpdate();
+                }
+                return null;
+            });
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // PK(post_id, liker_hakbun) 중복인 경우 → 이미 좋아요 누른 글
+            System.out.println("이미 좋아요 누른 글입니다. postId=" + postId + ", hakbun=" + likerHakbun);
         } catch (Exception e) {
             e.printStackTrace();
         }
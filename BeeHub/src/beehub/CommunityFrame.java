@@ -14,8 +14,10 @@ import java.net.URL;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import beehub.CommunityDetailFrame;
 
 
@@ -58,12 +60,19 @@ public class CommunityFrame extends JFrame {
     private DefaultTableModel tableModel;
     private JPanel pagePanel; 
 
-    // 데이터 및 페이지네이션 변수
-    private List<Post> allPosts = new ArrayList<>(); 
-    private List<Post> filteredPosts = new ArrayList<>(); 
+    // 데이터 및 페이지네이션 변수 (페이지마다 DB 에서 8개씩, CommunityDAO.getPostsPage)
+    private List<Post> pagePosts = new ArrayList<>();              // 지금 보이는 페이지의 글
+    private Map<Integer, Integer> pageCursors = new HashMap<>();   // 페이지 번호 → 그 페이지 beforePostId (1페이지는 null)
     private CommunityDAO communityDAO = new CommunityDAO();
+    private String keyword = "";
+    private boolean ranked;              // 검색어 + 검색 색인 준비됨 → 점수 순 (PostSearchIndex), 페이지는 순위 offset
     private int currentPage = 1;
+    private boolean hasNextPage;
+    private int totalEstimate;           // 글 수 추정 (CommunityDAO.countPosts)
+    private boolean totalExact = true;   // false 면 totalEstimate 개 "이상"
+    private int generation;              // 검색어가 바뀌면 증가 → 이전 조건으로 늦게 도착한 결과는 버림
     private final int itemsPerPage = 8; 
+    private static final int PAGE_BUTTONS = 10;   // 한 번에 보여줄 페이지 번호 수
 
     public CommunityFrame() {
         setTitle("서울여대 꿀단지 - 커뮤니티");
@@ -82,40 +91,81 @@ public class CommunityFrame extends JFrame {
         }
         
         loadImages(); 
-        loadPostsFromDB();
         initHeader();
         initNav();
         initContent();
+        searchPosts();       // 1페이지 + 글 수 비동기 조회 → 도착하면 테이블 갱신
 
         setVisible(true);    
     }
-    
-    private void loadPostsFromDB() {
-        allPosts.clear();
 
-        java.util.List<CommunityDAO.PostDTO> list = communityDAO.getAllPostsOrderByNewest();
-        for (CommunityDAO.PostDTO dto : list) {
+    // DB 조회는 가상 스레드에서, 결과 반영은 EDT 에서 (AsyncDAO)
+    private void loadPage(int page) {
+        CompletableFuture<CommunityDAO.PostPage> future;
+        if (ranked) {
+            future = AsyncDAO.searchPostsPage(keyword, (page - 1) * itemsPerPage, itemsPerPage);
+        } else {
+            // 가장 가까운 앞쪽 페이지 커서에서 출발 → 모자란 만큼만 OFFSET (페이지 번호 한 묶음 안이라 작음)
+            int from = page;
+            while (from > 1 && !pageCursors.containsKey(from)) from--;
+            Integer before = pageCursors.get(from);
+            int skip = (page - from) * itemsPerPage;
+            future = AsyncDAO.getPostsPage(keyword, before, skip, itemsPerPage);
+        }
+
+        int gen = generation;
+        AsyncDAO.scope(this).run(future, result -> {
+            if (gen != generation) return;   // 그 사이 검색어가 바뀜
+            if (result.rows.isEmpty() && page > 1) {
+                // 추정 글 수보다 실제가 적음 (다른 PC 에서 삭제 등) → 한 페이지 앞으로
+                totalEstimate = Math.min(totalEstimate, (page - 1) * itemsPerPage);
+                loadPage(page - 1);
+                return;
+            }
+            applyPage(page, result);
+        });
+    }
+
+    private void applyPage(int page, CommunityDAO.PostPage result) {
+        pagePosts.clear();
+        for (CommunityDAO.PostDTO dto : result.rows) {
             // Post(int no, String title, String writer, String date, int likes, int comments, String content)
-            Post p = new Post(
+            // 본문은 목록에서 안 읽음 → 상세를 열 때 getPostById
+            pagePosts.add(new Post(
                 dto.postId,
                 dto.title,
                 dto.writerNickname,   // 작성자 닉네임
                 dto.createdDate,
                 dto.likeCount,
                 dto.commentCount,
-                dto.content
-            );
-            allPosts.add(p);
+                null
+            ));
         }
-        // 필터/테이블 갱신
-        searchPosts();
+
+        currentPage = page;
+        hasNextPage = result.nextCursor != null;
+        if (!ranked && !pagePosts.isEmpty()) {
+            // 이 페이지 첫 글 번호 + 1 = 이 페이지 커서 (OFFSET 으로 건너뛰어 온 경우에도 다음부턴 바로)
+            if (page > 1) pageCursors.put(page, pagePosts.get(0).no + 1);
+            if (hasNextPage) pageCursors.put(page + 1, result.nextCursor);
+        }
+        renderTable();
+    }
+
+    private void loadCount() {
+        int gen = generation;
+        AsyncDAO.scope(this).run(AsyncDAO.countPosts(keyword), count -> {
+            if (gen != generation) return;
+            totalEstimate = count.count;
+            totalExact = count.exact;
+            updatePaginationPanel();
+        });
     }
 
     
     public void addPost(Post newPost) {
-        // DB에서 받아온 post_id가 이미 newPost.no 에 들어있다고 가정
-        allPosts.add(0, newPost);   // 맨 위에 추가
-        searchPosts();              // 목록 새로고침
+        // 새 글은 맨 앞 → 1페이지부터 다시
+        searchPosts();
     }
 
     
@@ -124,9 +174,16 @@ public class CommunityFrame extends JFrame {
         if (postToDelete != null) {
             communityDAO.deletePost(postToDelete.no);   // no = post_id
         }
-        // 2. 메모리 목록에서도 제거
-        allPosts.remove(postToDelete);
-        searchPosts();
+        // 2. 목록 다시 조회
+        reloadCurrentPage();
+    }
+
+    // 이 페이지부터 뒤 페이지 경계가 한 칸씩 당겨짐 → 뒤쪽 커서 버리고 글 수 + 현재 페이지 다시 조회
+    private void reloadCurrentPage() {
+        generation++;
+        pageCursors.keySet().removeIf(p -> p > currentPage);
+        loadCount();
+        loadPage(currentPage);
     }
 
 
@@ -286,28 +343,34 @@ public class CommunityFrame extends JFrame {
             public void mouseClicked(MouseEvent e) {
                 if (e.getClickCount() == 2) {
                     int row = postTable.getSelectedRow();
-                    if (row != -1) {
-
-                        // ✅ 현재 페이지 기준으로 실제 인덱스 계산
-                        int index = (currentPage - 1) * itemsPerPage + row;
-                        if (index < 0 || index >= filteredPosts.size()) {
-                            return;
-                        }
-
-                        Post selectedPost = filteredPosts.get(index);
+                    if (row < 0 || row >= pagePosts.size()) {
+                        return;
+                    }
 
-                        if (selectedPost != null) {
-                            CommunityDetailFrame detailFrame =
-                                new CommunityDetailFrame(selectedPost, heartIcon, userName, CommunityFrame.this);
+                    Post selectedPost = pagePosts.get(row);
 
-                            detailFrame.addWindowListener(new WindowAdapter() {
-                                @Override
-                                public void windowClosed(WindowEvent e2) {
-                                    searchPosts();
-                                }
-                            });
+                    // 목록에는 본문이 없으므로 상세를 열기 전에 글 하나만 조회
+                    AsyncDAO.scope(CommunityFrame.this).run(AsyncDAO.getPostById(selectedPost.no), dto -> {
+                        if (dto == null) {
+                            JOptionPane.showMessageDialog(CommunityFrame.this, "삭제된 게시글입니다.");
+                            reloadCurrentPage();
+                            return;
                         }
-                    }
+                        selectedPost.content = dto.content;
+                        selectedPost.likes = dto.likeCount;
+                        selectedPost.comments = dto.commentCount;
+
+                        CommunityDetailFrame detailFrame =
+                            new CommunityDetailFrame(selectedPost, heartIcon, userName, CommunityFrame.this);
+
+                        detailFrame.addWindowListener(new WindowAdapter() {
+                            @Override
+                            public void windowClosed(WindowEvent e2) {
+                                // 좋아요/댓글 수 반영 (같은 페이지 다시 조회)
+                                loadPage(currentPage);
+                            }
+                        });
+                    });
                 }
             }
         });
@@ -329,44 +392,28 @@ public class CommunityFrame extends JFrame {
         pagePanel.setBounds(25, 410, 750, 40);
         pagePanel.setBackground(BG_MAIN);
         contentPanel.add(pagePanel);
-
-        searchPosts();
     }
     
     // --- 기능 로직 ---
 
+    // 검색어(빈칸이면 전체 최신순) 기준으로 1페이지부터 다시 조회
     public void searchPosts() {
-        if (searchField == null) {
-            filteredPosts.clear();
-            filteredPosts.addAll(allPosts);
-            return;
-        }
-        
-        String keyword = searchField.getText().trim();
-        filteredPosts.clear();
-
-        if (keyword.isEmpty()) {
-            filteredPosts.addAll(allPosts);
-        } else {
-            filteredPosts = allPosts.stream()
-                .filter(p -> p.title.contains(keyword) || p.writer.contains(keyword))
-                .collect(Collectors.toList());
-        }
-        
-        filteredPosts.sort((p1, p2) -> Integer.compare(p2.no, p1.no));
+        keyword = (searchField == null) ? "" : searchField.getText().trim();
+        // 검색어가 있으면 제목/본문/작성자 색인 검색, 색인이 아직 준비 중이면 제목/작성자 LIKE
+        ranked = !keyword.isEmpty() && PostSearchIndex.getInstance().isReady();
 
+        generation++;
+        pageCursors.clear();
         currentPage = 1;
-        renderTable();
+        hasNextPage = false;
+        loadCount();
+        loadPage(1);
     }
 
     private void renderTable() {
         tableModel.setRowCount(0);
 
-        int start = (currentPage - 1) * itemsPerPage;
-        int end = Math.min(start + itemsPerPage, filteredPosts.size());
-
-        for (int i = start; i < end; i++) {
-            Post post = filteredPosts.get(i);
+        for (Post post : pagePosts) {
             tableModel.addRow(new Object[]{
                 new TitleWithCommentCount(post.title, post.comments), 
                 post.writer, 
@@ -381,35 +428,39 @@ public class CommunityFrame extends JFrame {
     private void updatePaginationPanel() {
         pagePanel.removeAll();
         
-        int calcPages = (int) Math.ceil((double) filteredPosts.size() / itemsPerPage);
-        if (calcPages == 0) calcPages = 1;
+        // 글 수는 추정치 → 지금 페이지 뒤에 글이 더 있으면 최소 그 다음 페이지까지는 보여줌
+        int calcPages = (int) Math.ceil((double) totalEstimate / itemsPerPage);
+        if (hasNextPage) calcPages = Math.max(calcPages, currentPage + 1);
+        calcPages = Math.max(calcPages, currentPage);
         final int totalPages = calcPages; 
 
+        // 현재 페이지가 속한 묶음(1~10, 11~20 ...)의 번호만
+        int blockStart = ((currentPage - 1) / PAGE_BUTTONS) * PAGE_BUTTONS + 1;
+        int blockEnd = Math.min(blockStart + PAGE_BUTTONS - 1, totalPages);
+
         JButton prevBtn = createPageButton("<", false);
         prevBtn.addActionListener(e -> {
-            if (currentPage > 1) {
-                currentPage--;
-                renderTable();
-            }
+            if (currentPage > 1) loadPage(currentPage - 1);
         });
         pagePanel.add(prevBtn);
 
-        for (int i = 1; i <= totalPages; i++) {
+        for (int i = blockStart; i <= blockEnd; i++) {
             JButton numBtn = createPageButton(String.valueOf(i), i == currentPage);
             final int pageNum = i;
-            numBtn.addActionListener(e -> {
-                currentPage = pageNum;
-                renderTable();
-            });
+            numBtn.addActionListener(e -> loadPage(pageNum));
             pagePanel.add(numBtn);
         }
 
+        if (blockEnd < totalPages || !totalExact) {
+            JLabel more = new JLabel("…");
+            more.setFont(uiFont.deriveFont(14f));
+            more.setForeground(BROWN);
+            pagePanel.add(more);
+        }
+
         JButton nextBtn = createPageButton(">", false);
         nextBtn.addActionListener(e -> {
-            if (currentPage < totalPages) {
-                currentPage++;
-                renderTable();
-            }
+            if (hasNextPage) loadPage(currentPage + 1);
         });
         pagePanel.add(nextBtn);
 
@@ -429,13 +480,6 @@ public class CommunityFrame extends JFrame {
         else return postDate.getYear() + "." + postDate.getMonthValue() + "." + postDate.getDayOfMonth();
     }
 
-    private Post findPostByTitle(String title) {
-        for (Post p : allPosts) {
-            if (p.title.equals(title)) return p;
-        }
-        return null;
-    }
-    
     private void showLogoutPopup() {
         JDialog dialog = new JDialog(this, "로그아웃", true);
         dialog.setUndecorated(true);
@@ -0,0 +1,389 @@
+package beehub;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DBUtil 내부에서 사용하는 JDBC 커넥션 풀
+ * - 최소/최대 크기, 대기 시간 제한
+ * - 빌려줄 때 유효성 검사, 오래 놀고 있는 커넥션 정리
+ * - close() 하지 않은 커넥션(누수) 감지
+ * - 커넥션마다 PreparedStatement LRU 캐시 (PreparedStatementCache)
+ *
+ * DAO 쪽에서는 지금처럼 conn.close() 만 호출하면 실제로 끊지 않고 풀에 반납된다.
+ */
+public class ConnectionPool {
+
+    // ================================
+    // ⚙️ 풀 설정 (-Dbeehub.pool.xxx 로 변경 가능)
+    // ================================
+    static class Config {
+        int minSize          = Integer.getInteger("beehub.pool.minSize", 2);
+        int maxSize          = Integer.getInteger("beehub.pool.maxSize", 10);
+        long acquireTimeoutMs = Long.getLong("beehub.pool.acquireTimeoutMs", 5_000L);
+        long idleTimeoutMs    = Long.getLong("beehub.pool.idleTimeoutMs", 600_000L);
+        long leakThresholdMs  = Long.getLong("beehub.pool.leakThresholdMs", 60_000L);
+        long validateAfterIdleMs = Long.getLong("beehub.pool.validateAfterIdleMs", 5_000L);
+        int validationTimeoutSec = Integer.getInteger("beehub.pool.validationTimeoutSec", 2);
+        long housekeepingMs   = Long.getLong("beehub.pool.housekeepingMs", 30_000L);
+        int statementCacheSize = Integer.getInteger("beehub.pool.statementCacheSize", 64);   // 0 이면 캐시 끔
+    }
+
+    // ================================
+    // 📊 풀 통계 (스냅샷)
+    // ================================
+    public static class Stats {
+        public int total;            // 현재 열린 물리 커넥션 수
+        public int active;           // 빌려간 커넥션 수
+        public int idle;             // 대기 중인 커넥션 수
+        public int waiting;          // 커넥션을 기다리는 스레드 수
+        public long created;         // 누적 생성 수
+        public long destroyed;       // 누적 폐기 수 (검증 실패, 유휴 정리 등)
+        public long acquired;        // 누적 대여 수
+        public long timeouts;        // 대기 시간 초과 횟수
+        public long leaks;           // 누수 감지 횟수
+        public double avgWaitMs;     // 평균 대기 시간
+        public long stmtCacheHits;   // PreparedStatement 캐시 적중
+        public long stmtCacheMisses; // PreparedStatement 새로 prepare
+        public long stmtCacheEvictions;
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "total=%d, active=%d, idle=%d, waiting=%d, created=%d, destroyed=%d, "
+                    + "acquired=%d, timeouts=%d, leaks=%d, avgWait=%.2fms, "
+                    + "stmtCache(hit=%d, miss=%d, evict=%d)",
+                    total, active, idle, waiting, created, destroyed,
+                    acquired, timeouts, leaks, avgWaitMs,
+                    stmtCacheHits, stmtCacheMisses, stmtCacheEvictions);
+        }
+    }
+
+    // 물리 커넥션 1개 + 관리 정보
+    private static class Entry {
+        final Connection physical;
+        final PreparedStatementCache statements;
+        volatile long lastUsedAt = System.currentTimeMillis();
+        volatile long borrowedAt;
+        volatile Throwable borrowSite;   // 누수 추적용 호출 위치
+        volatile boolean leakReported;
+
+        Entry(Connection physical, int statementCacheSize, PreparedStatementCache.Counters counters) {
+            this.physical = physical;
+            this.statements = new PreparedStatementCache(physical, statementCacheSize, counters);
+        }
+    }
+
+    private final String url;
+    private final String user;
+    private final String pass;
+    private final Config config;
+
+    private final LinkedBlockingDeque<Entry> idle = new LinkedBlockingDeque<>();
+    private final Set<Entry> borrowed = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeper;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong leaks = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final PreparedStatementCache.Counters stmtCounters = new PreparedStatementCache.Counters();
+
+    private volatile boolean closed;
+
+    ConnectionPool(String url, String user, String pass, Config config) {
+        this.url = url;
+        this.user = user;
+        this.pass = pass;
+        this.config = config;
+        this.permits = new Semaphore(Math.max(1, config.maxSize), true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "beehub-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep,
+                config.housekeepingMs, config.housekeepingMs, TimeUnit.MILLISECONDS);
+
+        fillToMinimum();
+    }
+
+    // ================================
+    // 1. 커넥션 빌리기
+    // ================================
+    Connection borrow() throws SQLException {
+        if (closed) throw new SQLException("커넥션 풀이 이미 종료되었습니다.");
+
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            if (!permits.tryAcquire(config.acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timeouts.incrementAndGet();
+                throw new SQLException("커넥션 풀 대기 시간 초과 (" + config.acquireTimeoutMs + "ms) - " + stats());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션 대기 중 인터럽트 발생", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        try {
+            Entry entry = takeValidIdle();
+            if (entry == null) {
+                entry = newEntry();
+            }
+
+            entry.borrowedAt = System.currentTimeMillis();
+            entry.borrowSite = config.leakThresholdMs > 0 ? new Throwable("커넥션 대여 위치") : null;
+            entry.leakReported = false;
+            borrowed.add(entry);
+
+            acquired.incrementAndGet();
+            totalWaitNanos.addAndGet(System.nanoTime() - start);
+            return wrap(entry);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 유휴 커넥션 중 살아 있는 것 하나 꺼내기 (LIFO: 최근에 쓴 따뜻한 커넥션 우선)
+    private Entry takeValidIdle() {
+        Entry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            long idleFor = System.currentTimeMillis() - entry.lastUsedAt;
+            if (idleFor < config.validateAfterIdleMs || isAlive(entry)) {
+                return entry;
+            }
+            destroy(entry);
+        }
+        return null;
+    }
+
+    private boolean isAlive(Entry entry) {
+        try {
+            return !entry.physical.isClosed() && entry.physical.isValid(config.validationTimeoutSec);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Entry newEntry() throws SQLException {
+        Connection conn = DriverManager.getConnection(url, user, pass);
+        total.incrementAndGet();
+        created.incrementAndGet();
+        return new Entry(conn, config.statementCacheSize, stmtCounters);
+    }
+
+    // ================================
+    // 2. 커넥션 반납 (프록시의 close() 에서 호출)
+    // ================================
+    private void release(Entry entry) {
+        if (!borrowed.remove(entry)) return;   // 이미 반납됨
+        entry.borrowSite = null;
+
+        try {
+            if (closed || entry.physical.isClosed()) {
+                destroy(entry);
+                return;
+            }
+
+            // close() 하지 않은 PreparedStatement 는 폐기 (계속 사용 중으로 남으면 캐시를 못 씀)
+            int unclosed = entry.statements.reclaim();
+            if (unclosed > 0) {
+                System.err.println("⚠️ close() 되지 않은 PreparedStatement " + unclosed + "개 폐기 (커넥션 반납 시)");
+            }
+
+            // 트랜잭션을 열어둔 채 반납한 경우 정리 (commit 안 된 변경은 버림)
+            if (!entry.physical.getAutoCommit()) {
+                entry.physical.rollback();
+                entry.physical.setAutoCommit(true);
+            }
+            if (entry.physical.isReadOnly()) {
+                entry.physical.setReadOnly(false);
+            }
+
+            entry.lastUsedAt = System.currentTimeMillis();
+            idle.offerFirst(entry);
+        } catch (SQLException e) {
+            System.err.println("커넥션 반납 중 오류 → 폐기: " + e.getMessage());
+            destroy(entry);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void destroy(Entry entry) {
+        entry.statements.closeAll();
+        try {
+            entry.physical.close();
+        } catch (SQLException ignore) {
+        }
+        total.decrementAndGet();
+        destroyed.incrementAndGet();
+    }
+
+    // ================================
+    // 3. 주기 작업: 유휴 정리 / 최소 개수 유지 / 누수 감지
+    // ================================
+    private void housekeep() {
+        try {
+            evictIdle();
+            fillToMinimum();
+            detectLeaks();
+        } catch (RuntimeException e) {
+            System.err.println("커넥션 풀 정리 작업 오류: " + e.getMessage());
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> it = idle.descendingIterator();   // 가장 오래 쉰 것부터
+        while (it.hasNext() && total.get() > config.minSize) {
+            Entry entry = it.next();
+            if (now - entry.lastUsedAt > config.idleTimeoutMs && idle.remove(entry)) {
+                destroy(entry);
+            }
+        }
+    }
+
+    private void fillToMinimum() {
+        while (!closed && total.get() < config.minSize) {
+            if (!permits.tryAcquire()) return;   // 전부 사용 중이면 굳이 늘리지 않음
+            try {
+                Entry entry = newEntry();
+                idle.offerLast(entry);
+            } catch (SQLException e) {
+                System.err.println("커넥션 풀 최소 개수 확보 실패: " + e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private void detectLeaks() {
+        if (config.leakThresholdMs <= 0) return;
+
+        long now = System.currentTimeMillis();
+        for (Entry entry : borrowed) {
+            if (!entry.leakReported && now - entry.borrowedAt > config.leakThresholdMs) {
+                entry.leakReported = true;
+                leaks.incrementAndGet();
+                System.err.println("⚠️ 커넥션 누수 의심: " + (now - entry.borrowedAt)
+                        + "ms 동안 반납되지 않음 (close() 누락 확인 필요)");
+                Throwable site = entry.borrowSite;
+                if (site != null) site.printStackTrace();
+            }
+        }
+    }
+
+    // ================================
+    // 4. 통계 / 종료
+    // ================================
+    Stats stats() {
+        Stats s = new Stats();
+        s.total     = total.get();
+        s.active    = borrowed.size();
+        s.idle      = idle.size();
+        s.waiting   = waiting.get();
+        s.created   = created.get();
+        s.destroyed = destroyed.get();
+        s.acquired  = acquired.get();
+        s.timeouts  = timeouts.get();
+        s.leaks     = leaks.get();
+        s.avgWaitMs = s.acquired == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / s.acquired;
+        s.stmtCacheHits      = stmtCounters.hits.get();
+        s.stmtCacheMisses    = stmtCounters.misses.get();
+        s.stmtCacheEvictions = stmtCounters.evictions.get();
+        return s;
+    }
+
+    void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+
+        Entry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            destroy(entry);
+        }
+        // 빌려간 커넥션은 반납되는 시점에 release() 에서 폐기된다
+    }
+
+    // ================================
+    // 🔁 close() 를 "반납"으로 바꿔주는 프록시
+    // ================================
+    private Connection wrap(Entry entry) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean logicallyClosed;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!logicallyClosed) {
+                            logicallyClosed = true;
+                            release(entry);
+                        }
+                        return null;
+                    case "isClosed":
+                        return logicallyClosed || entry.physical.isClosed();
+                    case "prepareStatement":
+                        if (logicallyClosed) break;
+                        // prepareStatement(sql) / prepareStatement(sql, autoGeneratedKeys) 만 캐시
+                        if (args.length == 1) {
+                            return entry.statements.prepare((String) args[0], -1);
+                        }
+                        if (args.length == 2 && method.getParameterTypes()[1] == int.class) {
+                            return entry.statements.prepare((String) args[0], (Integer) args[1]);
+                        }
+                        break;
+                    case "toString":
+                        return "PooledConnection[" + entry.physical + "]";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        break;
+                }
+
+                if (logicallyClosed) {
+                    throw new SQLException("이미 풀에 반납된 커넥션입니다.");
+                }
+                try {
+                    return method.invoke(entry.physical, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+
+        Connection proxy = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+        entry.statements.setOwner(proxy);
+        return proxy;
+    }
+}
@@ -1,24 +1,84 @@
 package beehub;
 
+import java.io.IOException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class DBUtil {
-    private static final String DRIVER = "com.mysql.cj.jdbc.Driver";
-    private static final String URL = "jdbc:mysql://localhost:3306/beehub?useUnicode=true&characterEncoding=utf8&serverTimezone=Asia/Seoul";
+    // 접속 정보는 외부 설정에서 읽음 (DataSourceConfig: -Dbeehub.db.*, 환경 변수, beehub.properties)
+    private static final DataSourceConfig CONFIG = DataSourceConfig.load();
 
-    private static final String USER = "root";     // 실제 DB 사용자 ID로 변경하세요!
-    private static final String PASS = "1234"; // 실제 DB 비밀번호로 변경하세요!
+    // 커넥션 풀 (최초 getConnection() 시점에 생성)
+    private static volatile ConnectionPool pool;
+
+    // 읽기 전용 복제 DB (beehub.db.replicas 가 비어 있으면 null → 모든 조회가 주 DB 로)
+    private static volatile ReplicaRouter replicas;
+
+    private static ConnectionPool pool() throws ClassNotFoundException {
+        ConnectionPool p = pool;
+        if (p == null) {
+            synchronized (DBUtil.class) {
+                p = pool;
+                if (p == null) {
+                    Class.forName(CONFIG.driver); // 드라이버 로드 (최초 1회)
+                    p = new ConnectionPool(CONFIG.url, CONFIG.user, CONFIG.password, new ConnectionPool.Config());
+                    initSchema(p, CONFIG.initSchema);   // 운영 DB(initSchema=false)는 DDL 없이 빠진 것만 경고
+                    if (!CONFIG.replicaUrls.isEmpty()) {
+                        ReplicaRouter r = new ReplicaRouter(CONFIG, new ConnectionPool.Config());
+                        if (CONFIG.initSchema) {
+                            for (ConnectionPool rp : r.pools()) initSchema(rp, true);
+                        }
+                        replicas = r;
+                    }
+                    pool = p;
+                    Runtime.getRuntime().addShutdownHook(new Thread(DBUtil::shutdown, "beehub-pool-shutdown"));
+                }
+            }
+        }
+        return p;
+    }
+
+    // ================================
+    // 백그라운드 작업 시작 (프로그램 진입점 LoginFrame.main 에서 1번)
+    //  - 풀을 만드는 것만으로는 시작하지 않음 → 데이터 생성기 같은 도구가 DB 를 쓰기만 해도 연체 정지가 기록되지 않게
+    // ================================
+    public static void startBackgroundServices() {
+        OverdueScanner.startIfEnabled();   // 시작 시 + 매일 연체 정지 일괄 적용
+        ItemUsageAnalytics.start();        // 물품 이용 통계 write-behind 반영 (+ 처음 한 번 이전 기록 채우기)
+        PostSearchIndex.start();           // 게시글 검색 색인 (파일 읽기 / 다른 PC 변경 따라잡기)
+    }
+
+    // create: 테이블이 없으면 db/schema.sql 로 생성, 있으면 빠진 키/인덱스/테이블 추가
+    //         아니면 메타데이터만 읽어서 db/migrate.sql 에서 빠진 것을 경고
+    private static void initSchema(ConnectionPool p, boolean create) {
+        try (Connection conn = p.borrow()) {
+            if (create) {
+                SchemaBootstrap.initialize(conn);
+            } else {
+                SchemaBootstrap.check(conn);
+            }
+        } catch (SQLException | IOException e) {
+            System.err.println("스키마 생성 실패 (" + CONFIG + "): " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    // 현재 접속 설정 (비밀번호 제외하고 화면/로그에 표시 가능)
+    public static DataSourceConfig getConfig() {
+        return CONFIG;
+    }
 
     // 1. Connection 객체 가져오기
+    //    - 풀에서 빌려온 커넥션이므로 사용 후 close() 하면 풀에 반납된다.
+    //    - SQL 실행 통계는 QueryStats 에 쌓인다.
     public static Connection getConnection() {
         Connection conn = null;
         try {
-            Class.forName(DRIVER); // 드라이버 로드
-            conn = DriverManager.getConnection(URL, USER, PASS); // 연결
+            conn = JdbcInstrumentation.wrap(pool().borrow(), true);   // 실행 시간/행 수 계측 (QueryStats)
         } catch (ClassNotFoundException e) {
             System.err.println("JDBC 드라이버를 찾을 수 없습니다. (jar 파일 확인 필요): " + e.getMessage());
         } catch (SQLException e) {
@@ -28,6 +88,39 @@ public class DBUtil {
         return conn;
     }
 
+    // 1-1. 읽기 전용 조회용 Connection (목록 화면 등)
+    //    - 복제 DB 가 설정되어 있으면 복제 DB 에서, 아니면 getConnection() 과 같음
+    //    - 로그인한 사용자가 방금 INSERT/UPDATE/DELETE 를 했으면 잠시 동안 주 DB 에서 읽음
+    //    - 이 커넥션으로는 쓰기를 하지 말 것 (복제 DB 는 read-only 로 열림)
+    public static Connection getReadConnection() {
+        try {
+            pool();
+        } catch (ClassNotFoundException e) {
+            System.err.println("JDBC 드라이버를 찾을 수 없습니다. (jar 파일 확인 필요): " + e.getMessage());
+            return null;
+        }
+
+        ReplicaRouter r = replicas;
+        if (r != null) {
+            Connection conn = r.borrow(LoginSession.getHakbun());
+            if (conn != null) return JdbcInstrumentation.wrap(conn, false);
+        }
+        return getConnection();
+    }
+
+    // 주 DB 에 쓰기가 실행됐음을 기록 (JdbcInstrumentation 에서 호출)
+    static void markWrite() {
+        ReplicaRouter r = replicas;
+        if (r != null) {
+            r.markWrite(LoginSession.getHakbun());
+        }
+    }
+
+    // 복제 DB 를 쓰는지 (쓰기 감지용 프록시가 필요한지)
+    static boolean hasReplicas() {
+        return !CONFIG.replicaUrls.isEmpty();
+    }
+
     // 2. 자원 해제 (Connection, Statement, ResultSet)
     public static void close(Connection conn, PreparedStatement pstmt, ResultSet rs) {
         try {
@@ -43,4 +136,198 @@ public class DBUtil {
     public static void close(Connection conn, PreparedStatement pstmt) {
         close(conn, pstmt, null);
     }
-}
\ No newline at end of file
+
+    // ================================
+    // 🔒 트랜잭션 템플릿
+    // ================================
+
+    // 트랜잭션 안에서 실행할 작업 (같은 커넥션을 받아서 사용)
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    // 현재 스레드에서 진행 중인 트랜잭션 커넥션 (중첩 호출 시 재사용)
+    private static final ThreadLocal<Connection> currentTx = new ThreadLocal<>();
+
+    // 현재 트랜잭션이 commit 된 뒤 실행할 작업 (캐시 갱신 등)
+    private static final ThreadLocal<List<Runnable>> afterCommit = new ThreadLocal<>();
+
+    // 현재 트랜잭션이 예외로 rollback 된 뒤 실행할 작업 (메모리에서 미리 잡아둔 재고 되돌리기 등)
+    private static final ThreadLocal<List<Runnable>> afterRollback = new ThreadLocal<>();
+
+    /**
+     * 커넥션 1개 + commit 1번으로 작업 실행
+     * - 작업이 정상 종료되면 commit, 예외가 나면 rollback 후 예외를 그대로 던짐
+     * - 이미 트랜잭션 안에서 호출되면 바깥 트랜잭션의 커넥션을 그대로 사용 (commit 은 바깥에서)
+     * - 작업 안에서는 conn 을 close() 하지 말 것
+     *
+     * 예) boolean ok = DBUtil.inTransaction(conn -> {
+     *         if (!ItemDAO.getInstance().decreaseAvailableStock(conn, itemId)) return false;
+     *         ...
+     *         return true;
+     *     });
+     *
+     * ※ 실패를 false 로 알리고 싶으면 DB 를 바꾸기 전에 검사해서 return 하거나,
+     *   이미 변경한 뒤라면 conn.rollback() 을 호출한 다음 return 한다.
+     */
+    public static <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        Connection outer = currentTx.get();
+        if (outer != null) {
+            return work.run(outer);
+        }
+
+        Connection conn = getConnection();
+        if (conn == null) {
+            throw new SQLException("DB 연결을 가져오지 못했습니다.");
+        }
+
+        T result;
+        List<Runnable> callbacks;
+        try {
+            conn.setAutoCommit(false);
+            currentTx.set(conn);
+            afterCommit.set(new ArrayList<>());
+            afterRollback.set(new ArrayList<>());
+
+            result = work.run(conn);
+            conn.commit();
+            callbacks = afterCommit.get();
+        } catch (SQLException | RuntimeException | Error e) {
+            try {
+                conn.rollback();
+            } catch (SQLException re) {
+                e.addSuppressed(re);
+            }
+            List<Runnable> undo = afterRollback.get();
+            if (undo != null) {
+                for (Runnable r : undo) {
+                    try {
+                        r.run();
+                    } catch (RuntimeException re) {
+                        e.addSuppressed(re);
+                    }
+                }
+            }
+            throw e;
+        } finally {
+            currentTx.remove();
+            afterCommit.remove();   // rollback 된 경우 등록된 작업은 버림
+            afterRollback.remove();
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException ignore) {
+            }
+            close(conn, null);
+        }
+
+        // 커넥션을 풀에 돌려준 뒤 실행 (등록된 작업이 DB 를 다시 읽어도 커넥션을 2개 잡지 않게)
+        for (Runnable r : callbacks) {
+            try {
+                r.run();
+            } catch (RuntimeException re) {
+                re.printStackTrace();   // commit 은 이미 끝났으므로 결과에는 영향 없음
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 트랜잭션이 commit 된 뒤에 실행 (예외로 rollback 되면 실행하지 않음)
+     * - 트랜잭션 밖에서 호출하면 바로 실행
+     * - 메모리 캐시를 DB 에서 다시 읽어오는 용도
+     *   (작업 안에서 conn.rollback() 후 return 한 경우에도 실행되므로, 값을 직접 계산해서 넣지 말 것)
+     */
+    public static void afterCommit(Runnable action) {
+        List<Runnable> callbacks = afterCommit.get();
+        if (callbacks != null) {
+            callbacks.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 트랜잭션이 예외로 rollback 된 뒤에 실행 (commit 되면 실행하지 않음)
+     * - 트랜잭션 밖에서 호출하면 실행하지 않음 (되돌릴 일이 없으므로)
+     * - 작업 안에서 conn.rollback() 후 return 한 경우에는 실행되지 않으므로, 실패는 예외로 알릴 것
+     */
+    public static void afterRollback(Runnable action) {
+        List<Runnable> callbacks = afterRollback.get();
+        if (callbacks != null) {
+            callbacks.add(action);
+        }
+    }
+
+    /**
+     * inTransaction + 충돌 시 자동 재시도 (TxRetry)
+     * - 데드락 / 락 대기 시간 초과로 실패하면 rollback 후 잠시 기다렸다가 작업 전체를 다시 실행
+     * - 최대 횟수를 넘기거나 다른 오류면 그대로 던짐
+     * - operation 은 통계용 이름 (예: "event.insertApply")
+     * - 바깥 트랜잭션 안에서 호출되면 재시도하지 않음 (바깥 트랜잭션이 통째로 다시 실행되어야 하므로)
+     *
+     * ※ 작업은 여러 번 실행될 수 있으므로, 작업 밖의 상태는 마지막 실행 결과로 덮어쓰는 식으로만 바꿀 것
+     */
+    public static <T> T inTransaction(String operation, SqlWork<T> work) throws SQLException {
+        if (currentTx.get() != null) {
+            return inTransaction(work);
+        }
+
+        TxRetry.OpStat stat = TxRetry.statFor(operation);
+        stat.calls.incrementAndGet();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = inTransaction(work);
+                if (attempt > 1) stat.recovered.incrementAndGet();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                if (!TxRetry.isRetryable(e)) {
+                    stat.failures.incrementAndGet();
+                    throw e;
+                }
+                if (attempt >= TxRetry.MAX_ATTEMPTS) {
+                    stat.exhausted.incrementAndGet();
+                    System.err.println("[트랜잭션] " + operation + " 충돌로 " + attempt + "번 실패: " + e.getMessage());
+                    throw e;
+                }
+
+                stat.retries.incrementAndGet();
+                try {
+                    Thread.sleep(TxRetry.backoffMillis(attempt));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    stat.failures.incrementAndGet();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 4. 커넥션 풀 통계 (풀이 아직 만들어지지 않았으면 null)
+    public static ConnectionPool.Stats getPoolStats() {
+        ConnectionPool p = pool;
+        return (p != null) ? p.stats() : null;
+    }
+
+    // 4-1. 복제 DB 라우팅 통계 (복제 DB 를 쓰지 않으면 null)
+    public static ReplicaRouter.Stats getReplicaStats() {
+        ReplicaRouter r = replicas;
+        return (r != null) ? r.stats() : null;
+    }
+
+    // 5. 프로그램 종료 시 풀 정리
+    public static void shutdown() {
+        RushStock.flushOnShutdown();   // 러시 모드로 모아둔 재고 변경을 먼저 DB 에 반영
+        ItemUsageAnalytics.flushOnShutdown();
+        PostSearchIndex.saveOnShutdown();
+        ConnectionPool p = pool;
+        if (p != null) {
+            p.shutdown();
+        }
+        ReplicaRouter r = replicas;
+        if (r != null) {
+            r.shutdown();
+        }
+    }
+}
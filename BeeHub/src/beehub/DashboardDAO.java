@@ -0,0 +1,153 @@
+package beehub;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메인 화면(MainFrame) 일정용 조회 + 회원별 캐시
+ * - 내 미반납 대여 (renter_id 인덱스) + 오늘부터 eventDays 일 안의 행사 (event_date 인덱스) → 쿼리 2번
+ *   (전체 대여 기록 / 행사마다 참가자 COUNT 를 하던 getAllRentals + getAllEvents 대신)
+ * - 회원별로 캐시, 날짜가 바뀌거나 ttl 이 지나면 다시 읽음
+ * - 이 프로그램 안에서 그 회원의 대여/반납이 commit 되면 해당 회원 캐시만 버림,
+ *   행사 등록/수정/삭제면 전체 버림
+ *
+ * 설정
+ *  -Dbeehub.dashboard.eventDays=60   : 오늘부터 며칠 뒤 행사까지 보여줄지
+ *  -Dbeehub.dashboard.ttlSec=300     : 캐시 유효 시간 (다른 PC 에서 바뀐 행사 반영 주기)
+ */
+public class DashboardDAO {
+
+    private static final DashboardDAO instance = new DashboardDAO();
+    public static DashboardDAO getInstance() { return instance; }
+
+    private static final int EVENT_DAYS = Math.max(1, Integer.getInteger("beehub.dashboard.eventDays", 60));
+    private static final long TTL_NANOS =
+            TimeUnit.SECONDS.toNanos(Math.max(0, Long.getLong("beehub.dashboard.ttlSec", 300L)));
+
+    private static final String OPEN_RENTALS_SQL =
+            "SELECT item_name, due_date FROM RENTAL " +
+            "WHERE renter_id = ? AND is_returned = 0 ORDER BY due_date";
+
+    private static final String UPCOMING_EVENTS_SQL =
+            "SELECT event_name, event_date FROM events " +
+            "WHERE event_date >= ? AND event_date < ? AND (status IS NULL OR status <> 'DELETED') " +
+            "ORDER BY event_date";
+
+    // ================================
+    // 📅 일정 한 줄 / 화면 한 번 분량
+    // ================================
+    public static class Entry {
+        public final LocalDate date;
+        public final String title;
+        public final String type;   // "RENTAL" / "EVENT"
+
+        Entry(LocalDate date, String title, String type) {
+            this.date = date;
+            this.title = title;
+            this.type = type;
+        }
+    }
+
+    public static class Dashboard {
+        public final LocalDate today;
+        public final List<Entry> rentals;   // 내 미반납 대여 (반납 예정일 순, 연체 포함)
+        public final List<Entry> events;    // 오늘 ~ today + eventDays 행사 (날짜 순)
+        final long loadedAtNanos;
+
+        Dashboard(LocalDate today, List<Entry> rentals, List<Entry> events, long loadedAtNanos) {
+            this.today = today;
+            this.rentals = Collections.unmodifiableList(rentals);
+            this.events = Collections.unmodifiableList(events);
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+
+    private final Map<String, Dashboard> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    private DashboardDAO() {}
+
+    // ================================
+    // 1. 조회
+    // ================================
+
+    /** 캐시에 있으면 바로 (없으면 null) → 화면을 열 때 기다리지 않고 그릴 수 있는지 확인용 */
+    public Dashboard peek(String userId, LocalDate today) {
+        Dashboard d = (userId == null) ? null : cache.get(userId);
+        if (d == null || !d.today.equals(today) || System.nanoTime() - d.loadedAtNanos >= TTL_NANOS) {
+            return null;
+        }
+        hits.increment();
+        return d;
+    }
+
+    /** 캐시 → 없으면 DB (쿼리 2번, 커넥션 1개) */
+    public Dashboard get(String userId, LocalDate today) throws SQLException {
+        Dashboard d = peek(userId, today);
+        return (d != null) ? d : load(userId, today);
+    }
+
+    private Dashboard load(String userId, LocalDate today) throws SQLException {
+        loads.increment();
+        List<Entry> rentals = new ArrayList<>();
+        List<Entry> events = new ArrayList<>();
+
+        try (Connection conn = DBUtil.getReadConnection()) {
+            try (PreparedStatement pstmt = conn.prepareStatement(OPEN_RENTALS_SQL)) {
+                pstmt.setString(1, userId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        rentals.add(new Entry(rs.getDate("due_date").toLocalDate(),
+                                rs.getString("item_name"), "RENTAL"));
+                    }
+                }
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(UPCOMING_EVENTS_SQL)) {
+                pstmt.setTimestamp(1, Timestamp.valueOf(today.atStartOfDay()));
+                pstmt.setTimestamp(2, Timestamp.valueOf(today.plusDays(EVENT_DAYS + 1L).atStartOfDay()));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        events.add(new Entry(rs.getTimestamp("event_date").toLocalDateTime().toLocalDate(),
+                                rs.getString("event_name"), "EVENT"));
+                    }
+                }
+            }
+        }
+
+        Dashboard d = new Dashboard(today, rentals, events, System.nanoTime());
+        if (userId != null) cache.put(userId, d);
+        return d;
+    }
+
+    // ================================
+    // 2. 캐시 버리기
+    // ================================
+
+    /** 이 회원의 대여/반납이 commit 된 뒤 */
+    public void invalidate(String userId) {
+        if (userId != null) cache.remove(userId);
+    }
+
+    /** 행사 등록/수정/삭제 뒤 (모든 회원 화면에 영향) */
+    public void invalidateEvents() {
+        cache.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("users=%d, hits=%d, loads=%d", cache.size(), hits.sum(), loads.sum());
+    }
+}
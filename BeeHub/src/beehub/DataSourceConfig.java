@@ -0,0 +1,185 @@
+package beehub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * DB 접속 설정
+ * - 코드 수정 없이 접속 대상을 바꿀 수 있도록 외부 설정에서 읽는다.
+ *
+ * 우선순위 (위가 이김)
+ *  1) -Dbeehub.db.url=... 같은 JVM 시스템 속성
+ *  2) 환경 변수 BEEHUB_DB_PROFILE / BEEHUB_DB_URL / BEEHUB_DB_USER / BEEHUB_DB_PASS / BEEHUB_DB_DRIVER
+ *  3) 설정 파일: -Dbeehub.config=경로 → ./beehub.properties → 클래스패스 /beehub.properties
+ *  4) 프로필 기본값
+ *
+ * 프로필 (beehub.db.profile)
+ *  - mysql    : localhost MySQL (기본값, 기존 설정과 같음)
+ *  - embedded : 내장 H2 (MySQL 호환 모드). 시작할 때 db/schema.sql 로 테이블 생성 → MySQL 없이 실행/테스트 가능
+ *
+ * 복제 DB (읽기 전용, 선택)
+ *  - beehub.db.replicas=URL1,URL2 (BEEHUB_DB_REPLICAS) : 목록 조회를 보낼 복제 DB. 비어 있으면 전부 주 DB 로
+ *  - beehub.db.replica.user / beehub.db.replica.pass   : 지정하지 않으면 주 DB 계정 사용
+ *  - beehub.db.replica.stickyMs (기본 3000)            : 본인이 쓴 직후 이 시간 동안은 주 DB 에서 읽음
+ *
+ * 설정 파일의 beehub.pool.* / beehub.sql.* 값도 시스템 속성으로 올려서 풀/SQL 통계 설정에 그대로 쓰인다.
+ */
+public class DataSourceConfig {
+
+    public enum Profile { MYSQL, EMBEDDED }
+
+    private static final String MYSQL_URL =
+            "jdbc:mysql://localhost:3306/beehub?useUnicode=true&characterEncoding=utf8&serverTimezone=Asia/Seoul"
+            + "&useServerPrepStmts=true";   // 서버 측 prepare (풀 커넥션별 Statement 캐시와 함께 사용)
+    private static final String EMBEDDED_URL =
+            "jdbc:h2:mem:beehub;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static volatile boolean externalLoaded;
+
+    public final Profile profile;
+    public final String driver;
+    public final String url;
+    public final String user;
+    final String password;
+    public final boolean initSchema;   // 시작할 때 db/schema.sql 생성 / 빠진 것 추가 (아니면 db/migrate.sql 을 직접 실행)
+
+    public final List<String> replicaUrls;   // 읽기 전용 복제 DB (없으면 빈 목록)
+    public final String replicaUser;
+    final String replicaPassword;
+    public final long replicaStickyMs;
+
+    private DataSourceConfig(Profile profile, String driver, String url, String user, String password,
+                             boolean initSchema, List<String> replicaUrls, String replicaUser,
+                             String replicaPassword, long replicaStickyMs) {
+        this.profile = profile;
+        this.driver = driver;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.initSchema = initSchema;
+        this.replicaUrls = replicaUrls;
+        this.replicaUser = replicaUser;
+        this.replicaPassword = replicaPassword;
+        this.replicaStickyMs = replicaStickyMs;
+    }
+
+    // ================================
+    // 1. 현재 설정 읽기
+    // ================================
+    public static DataSourceConfig load() {
+        loadExternalProperties();
+
+        String profileName = setting("beehub.db.profile", "BEEHUB_DB_PROFILE", "mysql");
+        Profile profile;
+        try {
+            profile = Profile.valueOf(profileName.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("알 수 없는 DB 프로필: " + profileName + " (mysql 로 실행)");
+            profile = Profile.MYSQL;
+        }
+
+        boolean embedded = (profile == Profile.EMBEDDED);
+        String user = setting("beehub.db.user", "BEEHUB_DB_USER", embedded ? "sa" : "root");
+        String pass = setting("beehub.db.pass", "BEEHUB_DB_PASS", embedded ? "" : "1234");
+
+        long stickyMs;
+        try {
+            stickyMs = Long.parseLong(setting("beehub.db.replica.stickyMs", "BEEHUB_DB_REPLICA_STICKY_MS", "3000").trim());
+        } catch (NumberFormatException e) {
+            System.err.println("beehub.db.replica.stickyMs 값이 숫자가 아닙니다 (3000 으로 실행)");
+            stickyMs = 3000;
+        }
+
+        return new DataSourceConfig(
+                profile,
+                setting("beehub.db.driver", "BEEHUB_DB_DRIVER", embedded ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver"),
+                setting("beehub.db.url", "BEEHUB_DB_URL", embedded ? EMBEDDED_URL : MYSQL_URL),
+                user,
+                pass,
+                Boolean.parseBoolean(setting("beehub.db.initSchema", "BEEHUB_DB_INIT_SCHEMA", String.valueOf(embedded))),
+                splitUrls(setting("beehub.db.replicas", "BEEHUB_DB_REPLICAS", "")),
+                setting("beehub.db.replica.user", "BEEHUB_DB_REPLICA_USER", user),
+                setting("beehub.db.replica.pass", "BEEHUB_DB_REPLICA_PASS", pass),
+                stickyMs);
+    }
+
+    // "URL1, URL2" → [URL1, URL2] (빈 항목 제외)
+    private static List<String> splitUrls(String value) {
+        List<String> urls = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.trim().isEmpty()) urls.add(part.trim());
+        }
+        return Collections.unmodifiableList(urls);
+    }
+
+    private static String setting(String key, String envName, String defaultValue) {
+        String v = System.getProperty(key);
+        if (v != null) return v;
+        v = System.getenv(envName);
+        if (v != null && !v.isEmpty()) return v;
+        return defaultValue;
+    }
+
+    // ================================
+    // 2. 설정 파일 → 시스템 속성 (이미 지정된 키는 그대로 둠)
+    // ================================
+    static synchronized void loadExternalProperties() {
+        if (externalLoaded) return;
+        externalLoaded = true;
+
+        Properties props = new Properties();
+        String source = null;
+        try {
+            String explicit = System.getProperty("beehub.config");
+            Path local = Paths.get("beehub.properties");
+
+            if (explicit != null) {
+                try (Reader r = Files.newBufferedReader(Paths.get(explicit), StandardCharsets.UTF_8)) {
+                    props.load(r);
+                }
+                source = explicit;
+            } else if (Files.isRegularFile(local)) {
+                try (Reader r = Files.newBufferedReader(local, StandardCharsets.UTF_8)) {
+                    props.load(r);
+                }
+                source = local.toAbsolutePath().toString();
+            } else {
+                try (InputStream in = DataSourceConfig.class.getResourceAsStream("/beehub.properties")) {
+                    if (in != null) {
+                        props.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+                        source = "classpath:/beehub.properties";
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("설정 파일 읽기 실패: " + e.getMessage());
+            return;
+        }
+
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith("beehub.") && System.getProperty(key) == null) {
+                System.setProperty(key, props.getProperty(key).trim());
+            }
+        }
+        if (source != null) {
+            System.out.println("[설정] " + source + " 에서 " + props.size() + "개 항목을 읽었습니다.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        // 비밀번호는 출력하지 않음
+        return "DataSourceConfig[profile=" + profile + ", url=" + url + ", user=" + user
+                + (replicaUrls.isEmpty() ? "" : ", replicas=" + replicaUrls) + "]";
+    }
+}
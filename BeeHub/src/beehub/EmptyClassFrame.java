@@ -107,15 +107,25 @@ public class EmptyClassFrame extends JFrame {
      * 각 ClassRoom 의 occupiedHours 리스트를 채우는 메서드
      */
     private void loadOccupiedHoursForDate(LocalDate date) {
-        // 기존 점유 시간 싹 비우기
-        for (ClassRoom room : allRooms) {
-            room.occupiedHours.clear();
-        }
-
         // DAO 를 이용해 해당 날짜(요일) 수업 목록 조회
         List<ClassTimetableDAO.ClassSchedule> schedules =
                 timetableDAO.getSchedulesByDate(date);
 
+        int count = applyOccupancy(allRooms, schedules);
+
+        System.out.println("[빈강의실] " + date + " 강의 일정 레코드: " + count + "건");
+    }
+
+    /**
+     * 수업 일정 목록으로 각 강의실의 occupiedHours 를 다시 채운다 (벤치마크에서도 사용)
+     * @return 처리한 일정 레코드 수
+     */
+    static int applyOccupancy(List<ClassRoom> rooms, List<ClassTimetableDAO.ClassSchedule> schedules) {
+        // 기존 점유 시간 싹 비우기
+        for (ClassRoom room : rooms) {
+            room.occupiedHours.clear();
+        }
+
         int count = 0;
 
         for (ClassTimetableDAO.ClassSchedule sc : schedules) {
@@ -125,7 +135,7 @@ public class EmptyClassFrame extends JFrame {
             int end   = sc.endHour;
 
             // 해당 강의실 찾아서 점유 시간 추가
-            for (ClassRoom room : allRooms) {
+            for (ClassRoom room : rooms) {
                 if (room.buildingName.equals(building)
                         && room.roomNo.equals(roomName)) {
 
@@ -139,8 +149,7 @@ public class EmptyClassFrame extends JFrame {
             }
             count++;
         }
-
-        System.out.println("[빈강의실] " + date + " 강의 일정 레코드: " + count + "건");
+        return count;
     }
 
     private void initHeader() {
@@ -565,7 +574,7 @@ public class EmptyClassFrame extends JFrame {
         }
     }
 
-    class ClassRoom {
+    static class ClassRoom {
         String buildingName;
         String roomNo;
         List<Integer> occupiedHours;
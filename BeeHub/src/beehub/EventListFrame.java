@@ -201,8 +201,13 @@ public class EventListFrame extends JFrame {
             }
         }
 
+        // 행사 조회는 AsyncDAO(가상 스레드)에서, 카드 그리기는 EDT 에서
+        final String target = filterTarget;
+        AsyncDAO.scope(this).run(AsyncDAO.getAllEvents(), events -> renderEvents(events, target));
+    }
+
+    private void renderEvents(List<EventData> events, String filterTarget) {
         eventListPanel.removeAll();
-        List<EventData> events = EventManager.getAllEvents();
 
         int yPos = 10;
         int count = 0;
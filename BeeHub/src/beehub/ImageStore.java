@@ -0,0 +1,251 @@
+package beehub;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 물품 사진 저장소 (내용 주소 방식)
+ * - 업로드한 사진을 정규화(긴 변 최대 maxDimension, 재압축)한 뒤
+ *   그 바이트의 SHA-256 을 파일 이름으로 저장: images/ab/abcdef...(64자).jpg
+ * - 같은 사진을 다시 올리면 같은 파일을 그대로 사용 (중복 저장 없음)
+ * - 임시 파일에 쓴 뒤 이동(atomic move)하므로 반쯤 쓰인 파일이 보이지 않음
+ * - ITEM.image_path 에서 참조하지 않는 파일은 백그라운드 정리 작업이 삭제
+ *   (방금 올렸지만 아직 저장 전인 사진을 지우지 않도록 orphanGraceMs 동안은 유지)
+ * - 예전 방식 파일(images/<timestamp>_<이름>)은 건드리지 않음
+ *
+ * 설정
+ *  -Dbeehub.image.dir=images              : 저장 폴더 (DB 에는 이 폴더 기준 상대 경로가 들어감)
+ *  -Dbeehub.image.maxDimension=1024       : 긴 변 최대 픽셀
+ *  -Dbeehub.image.jpegQuality=0.85        : 불투명 사진의 JPEG 품질 (투명 부분이 있으면 PNG)
+ *  -Dbeehub.image.orphanGraceMs=3600000   : 참조 없는 파일을 지우기 전 유예 시간
+ *  -Dbeehub.image.sweepIntervalMin=60     : 정기 정리 주기 (분)
+ */
+public class ImageStore {
+
+    private static final ImageStore instance = new ImageStore();
+    public static ImageStore getInstance() { return instance; }
+
+    private static final Pattern STORED_NAME = Pattern.compile("[0-9a-f]{64}\\.(jpg|png)");
+    private static final Pattern SHARD_NAME = Pattern.compile("[0-9a-f]{2}");
+
+    private final Path root;
+    private final String prefix;   // DB 에 넣을 경로 앞부분 (예: "images/")
+    private final int maxDimension = Integer.getInteger("beehub.image.maxDimension", 1024);
+    private final float jpegQuality = Float.parseFloat(System.getProperty("beehub.image.jpegQuality", "0.85"));
+    private final long orphanGraceMs = Long.getLong("beehub.image.orphanGraceMs", 3_600_000L);
+
+    private final ScheduledExecutorService sweeper;
+    private final AtomicBoolean sweepQueued = new AtomicBoolean();
+
+    private ImageStore() {
+        String dir = System.getProperty("beehub.image.dir", "images");
+        this.root = Paths.get(dir);
+        this.prefix = dir.replace('\\', '/').replaceAll("/+$", "") + "/";
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "beehub-image-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long interval = Math.max(1, Long.getLong("beehub.image.sweepIntervalMin", 60L));
+        sweeper.scheduleWithFixedDelay(this::sweepQuietly, interval, interval, TimeUnit.MINUTES);
+    }
+
+    // ================================
+    // 1. 저장 (정규화 → 해시 → 없을 때만 기록)
+    // ================================
+
+    /**
+     * 사진 파일을 저장소에 넣고 ITEM.image_path 에 넣을 상대 경로를 돌려줌
+     * @throws IOException 이미지로 읽을 수 없거나 저장 실패
+     */
+    public String store(Path source) throws IOException {
+        BufferedImage original = ImageIO.read(source.toFile());
+        if (original == null) throw new IOException("지원하지 않는 이미지 형식: " + source.getFileName());
+
+        BufferedImage scaled = limitSize(original);
+        boolean alpha = hasTransparency(scaled);
+        byte[] bytes = encode(alpha ? scaled : toRgb(scaled), alpha);
+        String hash = ThumbnailService.sha256(bytes);
+        String fileName = hash + (alpha ? ".png" : ".jpg");
+
+        Path dir = root.resolve(hash.substring(0, 2));
+        Path target = dir.resolve(fileName);
+
+        if (Files.isRegularFile(target)) {
+            // 이미 있는 사진 → 쓰지 않고 시각만 갱신 (정리 유예 시간 다시 시작)
+            Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+        } else {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "upload", ".tmp");
+            try {
+                Files.write(tmp, bytes);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+        return prefix + hash.substring(0, 2) + "/" + fileName;
+    }
+
+    // 긴 변이 maxDimension 을 넘으면 비율 유지하며 축소
+    private BufferedImage limitSize(BufferedImage src) {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        if (Math.max(w, h) <= maxDimension) return src;
+
+        double ratio = (double) maxDimension / Math.max(w, h);
+        return ThumbnailService.scaleDown(src,
+                Math.max(1, (int) Math.round(w * ratio)), Math.max(1, (int) Math.round(h * ratio)));
+    }
+
+    // JPEG 로 저장할 사진은 흰 배경 RGB 로
+    private static BufferedImage toRgb(BufferedImage src) {
+        if (src.getType() == BufferedImage.TYPE_INT_RGB) return src;
+        BufferedImage rgb = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+        g.drawImage(src, 0, 0, null);
+        g.dispose();
+        return rgb;
+    }
+
+    private byte[] encode(BufferedImage img, boolean alpha) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(img, "png", out);
+            return out.toByteArray();
+        }
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) throw new IOException("JPEG 인코더 없음");
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(img, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // 알파 채널이 있어도 실제로 투명한 픽셀이 없으면 불투명으로 취급
+    private static boolean hasTransparency(BufferedImage img) {
+        if (!img.getColorModel().hasAlpha()) return false;
+        for (int y = 0; y < img.getHeight(); y++) {
+            for (int x = 0; x < img.getWidth(); x++) {
+                if ((img.getRGB(x, y) >>> 24) != 0xFF) return true;
+            }
+        }
+        return false;
+    }
+
+    // ================================
+    // 2. 참조 수 (ITEM.image_path 기준)
+    // ================================
+
+    /** image_path → 그 사진을 쓰는 물품 수 (비활성 물품 포함) */
+    public Map<String, Integer> referenceCounts() throws SQLException {
+        String sql = "SELECT image_path, COUNT(*) AS cnt FROM ITEM "
+                   + "WHERE image_path IS NOT NULL GROUP BY image_path";
+        Map<String, Integer> counts = new HashMap<>();
+
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                counts.put(rs.getString("image_path").replace('\\', '/'), rs.getInt("cnt"));
+            }
+        }
+        return counts;
+    }
+
+    // ================================
+    // 3. 참조 없는 파일 정리
+    // ================================
+
+    /** 물품 삭제/사진 변경 뒤 호출 → 곧 백그라운드에서 한 번 정리 (여러 번 불러도 1회) */
+    public void requestSweep() {
+        if (sweepQueued.compareAndSet(false, true)) {
+            sweeper.schedule(() -> {
+                sweepQueued.set(false);
+                sweepQuietly();
+            }, 5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 저장소에서 참조 없는 파일을 삭제하고 삭제한 개수를 돌려줌
+     * - 유예 시간 안에 만들어졌거나 다시 업로드된 파일은 남김
+     */
+    public synchronized int sweepOrphans() throws SQLException, IOException {
+        if (!Files.isDirectory(root)) return 0;
+
+        Map<String, Integer> refs = referenceCounts();
+        long cutoff = System.currentTimeMillis() - orphanGraceMs;
+        int removed = 0;
+
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(root, p ->
+                Files.isDirectory(p) && SHARD_NAME.matcher(p.getFileName().toString()).matches())) {
+            for (Path shard : shards) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(shard)) {
+                    for (Path file : files) {
+                        String name = file.getFileName().toString();
+                        if (!STORED_NAME.matcher(name).matches()) continue;
+
+                        String relative = prefix + shard.getFileName() + "/" + name;
+                        if (refs.containsKey(relative)) continue;
+                        if (Files.getLastModifiedTime(file).toMillis() > cutoff) continue;
+
+                        if (Files.deleteIfExists(file)) removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    private void sweepQuietly() {
+        try {
+            int removed = sweepOrphans();
+            if (removed > 0) {
+                System.out.println("[ImageStore] 참조 없는 사진 " + removed + "개 삭제");
+            }
+        } catch (Exception e) {
+            // 정리는 다음 주기에 다시 시도
+            e.printStackTrace();
+        }
+    }
+}
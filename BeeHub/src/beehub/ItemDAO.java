@@ -6,7 +6,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.sql.Statement;
 
 public class ItemDAO {
@@ -16,7 +18,7 @@ public class ItemDAO {
     private ItemDAO() {}
     public static ItemDAO getInstance() { return instance; }
 
-    private Item getItemFromResultSet(ResultSet rs) throws SQLException {
+    Item getItemFromResultSet(ResultSet rs) throws SQLException {
         Item item = new Item();
         item.setItemId(rs.getInt("item_id"));
         item.setName(rs.getString("name"));
@@ -29,42 +31,251 @@ public class ItemDAO {
         return item;
     }
 
-    // ✅ 활성화된 물품만 (사용자용)
-    public List<Item> getAllItems() {
+    // ================================
+    // 📦 물품 목록 캐시 (활성 물품, 사용자 화면용)
+    //  - 목록/검색은 메모리에서 응답하고, DB 전체 조회는 TTL 이 지났을 때만
+    //  - 이 DAO 로 추가/수정/삭제/재고 변경을 하면 그 물품 1개만 DB 에서 다시 읽어 교체
+    //  - 다른 PC 에서 바꾼 내용은 TTL(-Dbeehub.item.cacheTtlMs, 기본 30초) 안에 반영
+    // ================================
+    private static final long CATALOG_TTL_MS = Long.getLong("beehub.item.cacheTtlMs", 30_000L);
+
+    // 한 시점의 목록 + 색인 (만든 뒤에는 바꾸지 않음 → 읽을 때 잠금 불필요)
+    private static final class Catalog {
+        final List<Item> items;                   // 이름순
+        final Map<Integer, Item> byId;
+        final Map<String, List<Item>> byMajor;    // target_major → 물품 (전체 대상은 "")
+        final long loadedAt;
+
+        Catalog(List<Item> items, long loadedAt) {
+            this.items = items;
+            this.loadedAt = loadedAt;
+            this.byId = new HashMap<>();
+            this.byMajor = new HashMap<>();
+            for (Item item : items) {
+                byId.put(item.getItemId(), item);
+                byMajor.computeIfAbsent(majorKey(item.getTargetMajor()), k -> new ArrayList<>()).add(item);
+            }
+        }
+    }
+
+    private volatile Catalog catalog;
+    private final Object catalogLock = new Object();   // 전체 조회 / 부분 교체 순서 보장
+
+    // 이름 검색 색인 (초성/n-gram, 캐시와 같은 시점에 갱신)
+    private final ItemSearchIndex searchIndex = new ItemSearchIndex();
+
+    private static String majorKey(String major) {
+        return (major == null) ? "" : major.trim();
+    }
+
+    // 화면 쪽에서 값을 바꿔도 캐시가 오염되지 않도록 복사해서 내보냄
+    private static Item copyOf(Item src) {
+        Item item = new Item();
+        item.setItemId(src.getItemId());
+        item.setName(src.getName());
+        item.setTotalStock(src.getTotalStock());
+        item.setAvailableStock(src.getAvailableStock());
+        item.setMaxRentDays(src.getMaxRentDays());
+        item.setTargetMajor(src.getTargetMajor());
+        item.setImagePath(src.getImagePath());
+        item.setActive(src.isActive());
+        return item;
+    }
+
+    private static List<Item> copyOf(List<Item> src) {
+        List<Item> list = new ArrayList<>(src.size());
+        for (Item item : src) list.add(copyOf(item));
+        return list;
+    }
+
+    private Catalog currentCatalog() {
+        Catalog c = catalog;
+        if (c != null && System.currentTimeMillis() - c.loadedAt < CATALOG_TTL_MS) {
+            return c;
+        }
+
+        synchronized (catalogLock) {
+            c = catalog;
+            if (c != null && System.currentTimeMillis() - c.loadedAt < CATALOG_TTL_MS) {
+                return c;   // 기다리는 동안 다른 스레드가 읽어옴
+            }
+            try {
+                c = new Catalog(selectActiveItems(), System.currentTimeMillis());
+                searchIndex.rebuild(c.items);
+                catalog = c;
+            } catch (SQLException e) {
+                e.printStackTrace();
+                // DB 오류 시 이전 목록이 있으면 그대로 보여줌
+                if (c == null) c = new Catalog(new ArrayList<>(), 0);
+            }
+            return c;
+        }
+    }
+
+    private List<Item> selectActiveItems() throws SQLException {
         List<Item> items = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
         String sql = "SELECT * FROM ITEM WHERE is_active = TRUE ORDER BY name";
 
-        try {
-            conn = DBUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
+        try (Connection conn = DBUtil.getReadConnection();   // 목록 조회 → 복제 DB 가능
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
 
             while (rs.next()) {
                 items.add(getItemFromResultSet(rs));
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        } finally {
-            DBUtil.close(conn, pstmt, rs);
         }
         return items;
     }
 
+    // 물품 1개를 DB 에서 다시 읽어 캐시에 반영 (삭제/비활성이면 캐시에서 빠짐)
+    private void refreshCachedItem(int itemId) {
+        if (catalog == null) return;   // 아직 캐시를 안 쓰는 중
+
+        applyFreshItem(itemId, getItemById(itemId));
+    }
+
+    private void applyFreshItem(int itemId, Item fresh) {
+        if (catalog == null) return;
+        if (fresh == null) {
+            // 삭제됐거나 조회 오류 → 다음 조회 때 전체를 다시 읽음
+            catalog = null;
+            return;
+        }
+        replaceCachedItem(itemId, fresh.isActive() ? fresh : null);
+    }
+
+    private void replaceCachedItem(int itemId, Item fresh) {
+        synchronized (catalogLock) {
+            Catalog c = catalog;
+            if (c == null) return;
+
+            List<Item> items = new ArrayList<>(c.items);
+            items.removeIf(i -> i.getItemId() == itemId);
+            if (fresh != null) {
+                // 이름순 위치에 끼워넣기
+                int pos = 0;
+                while (pos < items.size() && items.get(pos).getName().compareTo(fresh.getName()) <= 0) pos++;
+                items.add(pos, fresh);
+                searchIndex.put(fresh);
+            } else {
+                searchIndex.remove(itemId);
+            }
+            catalog = new Catalog(items, c.loadedAt);
+        }
+    }
+
+    // ✅ 활성화된 물품만 (사용자용, 캐시에서 복사본 반환)
+    public List<Item> getAllItems() {
+        return copyOf(currentCatalog().items);
+    }
+
+    // ✅ 물품 이름 검색 (캐시 색인: 초성/여러 단어/오타 허용, 점수 높은 순 최대 limit 개)
+    public List<Item> searchItems(String keyword, int limit) {
+        currentCatalog();   // TTL 이 지났으면 캐시와 색인을 다시 만듦
+        return copyOf(searchIndex.search(keyword, limit));
+    }
+
+    // ✅ 활성 물품 1개 (캐시, 없으면 null)
+    public Item getCachedItem(int itemId) {
+        Item item = currentCatalog().byId.get(itemId);
+        return (item != null) ? copyOf(item) : null;
+    }
+
+    // ✅ 특정 학과 대상 물품 (캐시, null/"" 이면 전체 대상 물품)
+    public List<Item> getItemsByTargetMajor(String major) {
+        List<Item> items = currentCatalog().byMajor.get(majorKey(major));
+        return (items != null) ? copyOf(items) : new ArrayList<>();
+    }
+
+    // ✅ 캐시 비우기 (다음 조회 때 DB 에서 다시 읽음)
+    public void invalidateCatalog() {
+        catalog = null;
+    }
+
+    // ================================
+    // 🚀 러시 모드 (대여 폭주 시 재고를 메모리 카운터로 관리, DB 는 모아서 반영)
+    //  - 켜져 있으면 대여/반납의 재고 변경이 ITEM 행 잠금 없이 처리됨 (RushStock 참고)
+    // ================================
+    private volatile RushStock rush = RushStock.ENABLED_AT_START ? newRushStock() : null;
+
+    // 다른 PC 가 러시 모드 중이면 null (RushStock.start)
+    private RushStock newRushStock() {
+        return RushStock.start(ids -> ids.forEach(this::refreshCachedItem), this::dropRushStock);
+    }
+
+    // 잠금을 다른 PC 에 뺏김 → 일반 경로로 (반영 스레드에서 호출)
+    private synchronized void dropRushStock(RushStock lost) {
+        if (rush != lost) return;
+        rush = null;
+        lost.close();
+    }
+
+    public boolean isRushMode() {
+        return rush != null;
+    }
+
+    // 끄면 모아둔 변경을 바로 DB 에 반영. 켜지 못하면 false (다른 PC 가 러시 모드 중)
+    public synchronized boolean setRushMode(boolean on) {
+        if (on && rush == null) {
+            rush = newRushStock();
+        } else if (!on && rush != null) {
+            RushStock r = rush;
+            rush = null;
+            r.close();
+        }
+        return (rush != null) == on;
+    }
+
+    // 모아둔 재고 변경을 지금 DB 에 반영 (꺼져 있으면 아무것도 안 함)
+    public void flushRushStock() throws SQLException {
+        RushStock r = rush;
+        if (r != null) r.flush();
+    }
+
+    // 러시 모드 통계 (꺼져 있으면 null)
+    public RushStock.Stats getRushStats() {
+        RushStock r = rush;
+        return (r != null) ? r.stats() : null;
+    }
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE ITEM " +
+            "SET available_stock = available_stock - 1 " +
+            "WHERE item_id = ? AND available_stock > 0";
+
+    // 다른 PC 가 러시 모드 중이면(잠금이 살아 있으면) 줄이지 않음 → 그 PC 의 메모리 카운터와 같은 재고를 내주지 않게
+    private static final String DECREASE_STOCK_UNLESS_RUSH_SQL = DECREASE_STOCK_SQL +
+            " AND NOT EXISTS (SELECT 1 FROM stock_rush_lease l " +
+            "WHERE l.lease_name = '" + RushStock.LEASE_NAME + "' AND l.expires_at > CURRENT_TIMESTAMP)";
+
+    // stock_rush_lease 가 있는지 (없으면 어느 PC 도 러시 모드를 켤 수 없으므로 검사 생략, 없을 때는 1분마다 다시 확인)
+    private volatile boolean leaseTable;
+    private volatile long leaseTableCheckedAt;
+
+    private String decreaseStockSql(Connection conn) throws SQLException {
+        if (!leaseTable && System.currentTimeMillis() - leaseTableCheckedAt > 60_000) {
+            leaseTable = SchemaBootstrap.tableExists(conn, "stock_rush_lease");
+            leaseTableCheckedAt = System.currentTimeMillis();
+        }
+        return leaseTable ? DECREASE_STOCK_UNLESS_RUSH_SQL : DECREASE_STOCK_SQL;
+    }
+
     // ✅ 대여 시 재고 -1
     public boolean decreaseAvailableStock(int itemId) {
+        RushStock r = rush;
+        if (r != null) {
+            if (!r.tryAcquire(null, itemId)) return false;
+            r.commitDecrement(itemId);
+            return true;
+        }
+
         Connection conn = null;
         PreparedStatement pstmt = null;
-        String sql = "UPDATE ITEM " +
-                "SET available_stock = available_stock - 1 " +
-                "WHERE item_id = ? AND available_stock > 0";
         int rowsAffected = 0;
 
         try {
             conn = DBUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            pstmt = conn.prepareStatement(decreaseStockSql(conn));
             pstmt.setInt(1, itemId);
             rowsAffected = pstmt.executeUpdate();
 
@@ -73,28 +284,71 @@ public class ItemDAO {
         } finally {
             DBUtil.close(conn, pstmt);
         }
+        if (rowsAffected > 0) refreshCachedItem(itemId);
         return rowsAffected > 0;
     }
 
-    // ✅ 물품 반납 시 재고 +1
-    public boolean increaseAvailableStock(int itemId) {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        String sql = "UPDATE ITEM " +
-                "SET available_stock = available_stock + 1 " +
-                "WHERE item_id = ? AND available_stock < total_stock";
-        try {
-            conn = DBUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
+    // ✅ 대여 시 재고 -1 (DBUtil.inTransaction 안에서 같은 커넥션으로 실행)
+    public boolean decreaseAvailableStock(Connection conn, int itemId) throws SQLException {
+        RushStock r = rush;
+        if (r != null) {
+            // 러시 모드: 메모리에서 확보 → commit 되면 DB 반영 대기열에, 예외로 rollback 되면 되돌림
+            if (!r.tryAcquire(conn, itemId)) return false;
+            DBUtil.afterRollback(() -> r.release(itemId));
+            DBUtil.afterCommit(() -> r.commitDecrement(itemId));
+            if (r.available(itemId) == 0) DBUtil.afterCommit(() -> ItemUsageAnalytics.getInstance().stockedOut(itemId));
+            return true;
+        }
+
+        // 재고가 없거나, 다른 PC 가 러시 모드 중이면 false (러시 중에는 대여를 그 PC 로 모음)
+        try (PreparedStatement pstmt = conn.prepareStatement(decreaseStockSql(conn))) {
             pstmt.setInt(1, itemId);
+            if (pstmt.executeUpdate() == 0) return false;
+        }
+        // commit 후 캐시 갱신용으로 다시 읽은 행으로 품절 여부도 판단 (잠긴 트랜잭션 안에서는 더 읽지 않음)
+        //  - 그 사이 다른 대여/반납이 끼어들어 어긋나도, 품절 기록은 이미 품절 중이면 무시하므로 통계만 약간 차이
+        DBUtil.afterCommit(() -> {   // rollback 되면 캐시는 그대로
+            Item fresh = getItemById(itemId);
+            applyFreshItem(itemId, fresh);
+            if (fresh != null && fresh.getAvailableStock() == 0) {
+                ItemUsageAnalytics.getInstance().stockedOut(itemId);
+            }
+        });
+        return true;
+    }
 
-            return pstmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            e.printStackTrace();
-            return false;
-        } finally {
-            DBUtil.close(conn, pstmt);
+    // ✅ 여러 물품 반납 시 재고 +n (DBUtil.inTransaction 안에서, 물품별 UPDATE 1번씩 batch)
+    //    countsByItem: item_id → 반납 수량, 총 재고를 넘지 않게 맞춤
+    //    RENTAL 반납 표시 전에 호출 (러시 모드 카운터는 미반납 건수로 계산하므로)
+    public void restock(Connection conn, Map<Integer, Integer> countsByItem) throws SQLException {
+        if (countsByItem.isEmpty()) return;
+
+        RushStock r = rush;
+        if (r != null) {
+            // 러시 모드: 메모리 카운터가 기준 → 지금 카운터를 준비하고 commit 된 뒤 +n (DB 는 모아서 반영)
+            for (int itemId : countsByItem.keySet()) {
+                r.prepare(conn, itemId);
+                DBUtil.afterRollback(() -> r.abandon(itemId));
+            }
+            DBUtil.afterCommit(() -> countsByItem.forEach(r::returnUnits));
+            DBUtil.afterCommit(() -> countsByItem.keySet().forEach(ItemUsageAnalytics.getInstance()::restocked));
+            return;
+        }
+
+        String sql = "UPDATE ITEM " +
+                "SET available_stock = LEAST(total_stock, available_stock + ?) " +
+                "WHERE item_id = ?";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (Map.Entry<Integer, Integer> e : countsByItem.entrySet()) {
+                pstmt.setInt(1, e.getValue());
+                pstmt.setInt(2, e.getKey());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
         }
+        DBUtil.afterCommit(() -> countsByItem.keySet().forEach(this::refreshCachedItem));
+        // 반납으로 재고가 1개 이상 생김 → 품절이었으면 끝 (이용 통계)
+        DBUtil.afterCommit(() -> countsByItem.keySet().forEach(ItemUsageAnalytics.getInstance()::restocked));
     }
 
     // ✅ 단일 물품 조회 (관리 화면에서 수정할 때 필요)
@@ -159,6 +413,9 @@ public class ItemDAO {
                 try (ResultSet rs = pstmt.getGeneratedKeys()) {
                     if (rs.next()) {
                         item.setItemId(rs.getInt(1));
+                        refreshCachedItem(item.getItemId());
+                    } else {
+                        invalidateCatalog();
                     }
                 }
                 return true;
@@ -191,11 +448,16 @@ public class ItemDAO {
             pstmt.setBoolean(6, item.isActive());
             pstmt.setInt(7, item.getItemId());
 
-            return pstmt.executeUpdate() > 0;
+            if (pstmt.executeUpdate() == 0) return false;
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
+        refreshCachedItem(item.getItemId());
+        RushStock r = rush;
+        if (r != null) r.invalidate(item.getItemId());   // 총 재고가 바뀌었을 수 있음
+        ImageStore.getInstance().requestSweep();   // 사진을 바꿨으면 이전 사진이 참조 없음이 될 수 있음
+        return true;
     }
 
     // ✅ 물품 비활성화 (이전 방식 - 지금은 안 써도 됨)
@@ -206,11 +468,13 @@ public class ItemDAO {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, itemId);
-            return pstmt.executeUpdate() > 0;
+            if (pstmt.executeUpdate() == 0) return false;
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
+        refreshCachedItem(itemId);
+        return true;
     }
 
     // ✅ 다시 활성화 (이전 방식 - 지금은 안 써도 됨)
@@ -221,11 +485,13 @@ public class ItemDAO {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, itemId);
-            return pstmt.executeUpdate() > 0;
+            if (pstmt.executeUpdate() == 0) return false;
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
+        refreshCachedItem(itemId);
+        return true;
     }
 
     // ✅ [추가] 현재 누가 빌리고 있는지 체크
@@ -260,11 +526,16 @@ public class ItemDAO {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setInt(1, itemId);
-            return pstmt.executeUpdate() > 0;
+            if (pstmt.executeUpdate() == 0) return false;
 
         } catch (SQLException e) {
             e.printStackTrace();
             return false;
         }
+        replaceCachedItem(itemId, null);
+        RushStock r = rush;
+        if (r != null) r.invalidate(itemId);
+        ImageStore.getInstance().requestSweep();   // 이 물품만 쓰던 사진 정리
+        return true;
     }
 }
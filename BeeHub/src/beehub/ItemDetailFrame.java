@@ -7,7 +7,6 @@ import java.awt.event.*;
 import java.io.InputStream;
 
 // [중요] 매니저 클래스 임포트
-import admin.PenaltyManager;
 
 // 로그인 정보 사용
 import beehub.LoginSession;
@@ -211,21 +210,11 @@ public class ItemDetailFrame extends JFrame {
         iconLabel.setHorizontalAlignment(SwingConstants.CENTER);
         iconLabel.setVerticalAlignment(SwingConstants.CENTER);
 
-        if (imagePath != null && !imagePath.isEmpty()) {
-            try {
-                ImageIcon icon = new ImageIcon(imagePath);
-                Image img = icon.getImage().getScaledInstance(220, 240, Image.SCALE_SMOOTH);
-                iconLabel.setIcon(new ImageIcon(img));
-                iconLabel.setText("");
-            } catch (Exception e) {
-                iconLabel.setIcon(null);
-                iconLabel.setText(getEmojiForItem(itemName));
-                iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 120));
-            }
-        } else {
+        // 썸네일은 작업 스레드에서 만들고, 준비될 때까지 자리표시 (없으면 이모지)
+        ThumbnailService.getInstance().loadInto(iconLabel, imagePath, 220, 240, () -> {
             iconLabel.setText(getEmojiForItem(itemName));
             iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 120));
-        }
+        });
         contentPanel.add(iconLabel);
 
         // 상태 라벨
@@ -293,9 +282,18 @@ public class ItemDetailFrame extends JFrame {
                     String currentUserId = currentUser.getHakbun();    // 학번
                     String currentUserMajor = currentUser.getMajor();  // 전공
 
-                    // 2. 연체 패널티 체크
-                    long banDays = PenaltyManager.getRentalBanDaysRemaining(currentUserId);
-                    if (banDays > 0) {
+                    if (item == null) {
+                        showSimplePopup("오류", "물품 정보가 올바르지 않습니다.");
+                        return;
+                    }
+
+                    // 2. 연체 패널티 / 중복 / 최대 개수 체크
+                    //    회원 스냅샷(RentalEligibility)으로 확인 → 가능하면 DB 왕복 없음, 불가일 때만 새로 읽어 재확인
+                    java.time.LocalDate today = java.time.LocalDate.now();
+                    RentalEligibility eligibility = RentalEligibility.getInstance();
+                    RentalDAO.RentResult precheck = eligibility.check(currentUserId, item.getItemId(), today);
+                    if (precheck == RentalDAO.RentResult.BANNED) {
+                        long banDays = eligibility.get(currentUserId).banDaysRemaining(today);
                         showSimplePopup("대여 불가",
                                 "연체 패널티로 인해\n" + banDays + "일 동안 대여할 수 없습니다.");
                         return;
@@ -329,22 +327,14 @@ public class ItemDetailFrame extends JFrame {
                         return;
                     }
 
-                    // 4. 현재 대여 개수 (최대 2개까지)
-                    int currentCount = PenaltyManager.getCurrentRentalCount(currentUserId);
-                    if (currentCount >= 2) {
-                        showSimplePopup("대여 불가",
-                                "물품은 최대 2개까지만\n동시 대여 가능합니다.");
+                    // 4. 같은 물품 대여 중 / 최대 개수 (2에서 확인한 결과)
+                    if (precheck != RentalDAO.RentResult.SUCCESS) {
+                        showSimplePopup("대여 불가", precheck.message);
                         return;
                     }
 
                     // 5. 실제 DB 대여 처리 (RentalDAO)
-                    if (item == null) {
-                        showSimplePopup("오류", "물품 정보가 올바르지 않습니다.");
-                        return;
-                    }
-
                     RentalDAO rentalDAO = new RentalDAO();
-                    java.time.LocalDate today = java.time.LocalDate.now();
 
                     int rentDaysInt;
                     try {
@@ -355,13 +345,18 @@ public class ItemDetailFrame extends JFrame {
 
                     java.time.LocalDate dueDate = today.plusDays(rentDaysInt);
 
-                    boolean success = rentalDAO.createRental(item, currentUserId, today, dueDate);
-                    if (!success) {
-                        // createRental 안에서
-                        // ① 같은 물품 이미 대여 중이거나
-                        // ② 재고 부족인 경우 false 리턴
-                        showSimplePopup("대여 불가",
-                                "이미 이 물품을 대여 중이거나\n재고가 부족합니다.");
+                    // 중복 대여 / 최대 개수 / 재고를 한 트랜잭션 안에서 다시 확인 (동시에 눌러도 정확)
+                    RentalDAO.RentResult result = rentalDAO.rentItem(item, currentUserId,
+                            LoginSession.getUser().getName(), today, dueDate);
+                    if (result != RentalDAO.RentResult.SUCCESS) {
+                        if (result == RentalDAO.RentResult.OUT_OF_STOCK) {
+                            stock = 0;
+                            stockLabel.setText("남은 재고 : 0개");
+                            rentButton.setVisible(false);
+                            statusLabel.setText("대여 불가");
+                            statusLabel.setBackground(RED_UNAVAILABLE);
+                        }
+                        showSimplePopup("대여 불가", result.message);
                         return;
                     }
 
@@ -371,7 +366,8 @@ public class ItemDetailFrame extends JFrame {
                     isRented = true;
 
                     showSimplePopup("성공",
-                            "대여가 완료되었습니다.\n(현재 대여 중: " + (currentCount + 1) + "개)");
+                            "대여가 완료되었습니다.\n(현재 대여 중: "
+                                    + eligibility.get(currentUserId).activeCount() + "개)");
 
                     if (stock == 0) {
                         rentButton.setVisible(false);
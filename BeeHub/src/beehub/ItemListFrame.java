@@ -5,8 +5,9 @@ import javax.swing.border.Border;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.InputStream;
-import java.net.URL;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import beehub.Item;
 import beehub.ItemDAO;
@@ -161,38 +162,58 @@ public class ItemListFrame extends JFrame {
         contentPanel.add(scrollPane);
     }
 
+    // 🔹 물품 목록 조회는 AsyncDAO(가상 스레드)에서, 그리기는 EDT 에서
+    //    (ItemDAO 가 목록을 캐시하므로 검색할 때마다 ITEM 테이블을 다시 읽지 않음)
+    private CompletableFuture<List<Item>> pendingLoad;
+
     private void loadItems() {
-        itemListPanel.removeAll();
-        // ItemDAO 사용
-        List<Item> items = ItemDAO.getInstance().getAllItems();
-        int yPos = 10;
-        
-        for (Item item : items) {
-            addItemCard(item, yPos);
-            yPos += 130;
-        }
-        
-        itemListPanel.setPreferredSize(new Dimension(730, yPos));
-        itemListPanel.revalidate();
-        itemListPanel.repaint();
+        fetchItems(items -> {
+            itemListPanel.removeAll();
+            int yPos = 10;
+
+            for (Item item : items) {
+                addItemCard(item, yPos);
+                yPos += 130;
+            }
+
+            itemListPanel.setPreferredSize(new Dimension(730, yPos));
+            itemListPanel.revalidate();
+            itemListPanel.repaint();
+        });
     }
-    
-    
 
+    // 검색 결과 최대 개수 (점수 높은 순)
+    private static final int SEARCH_LIMIT = 100;
+
+    // 초성("ㄴㅌㅂ"), 여러 단어, 오타까지 ItemDAO 의 검색 색인에서 찾음
     private void searchItems() {
         String keyword = searchField.getText().trim();
-        List<Item> allItems = ItemDAO.getInstance().getAllItems();
-        
+        if (keyword.isEmpty()) {
+            loadItems();
+            return;
+        }
+        fetchItems(AsyncDAO.searchItems(keyword, SEARCH_LIMIT), this::showSearchResult);
+    }
+
+    private void fetchItems(Consumer<List<Item>> onLoaded) {
+        fetchItems(AsyncDAO.getAllItems(), onLoaded);
+    }
+
+    // 이전 조회가 아직 안 끝났으면 취소하고 새로 조회 (늦게 온 옛 결과가 덮어쓰지 않도록)
+    private void fetchItems(CompletableFuture<List<Item>> load, Consumer<List<Item>> onLoaded) {
+        if (pendingLoad != null) pendingLoad.cancel(true);
+        pendingLoad = AsyncDAO.scope(this).run(load, onLoaded);
+    }
+
+    private void showSearchResult(List<Item> results) {
         itemListPanel.removeAll();
         int yPos = 10;
         boolean found = false;
 
-        for (Item item : allItems) {
-            if (keyword.isEmpty() || item.getName().contains(keyword)) {
-                addItemCard(item, yPos);
-                yPos += 130;
-                found = true;
-            }
+        for (Item item : results) {
+            addItemCard(item, yPos);
+            yPos += 130;
+            found = true;
         }
 
         if (!found) {
@@ -221,30 +242,11 @@ public class ItemListFrame extends JFrame {
         iconLabel.setBorder(new RoundedBorder(10, new Color(220, 220, 220), 1));
         iconLabel.setHorizontalAlignment(SwingConstants.CENTER);
         
-        boolean imgLoaded = false;
-        if (item.getImagePath() != null && !item.getImagePath().isEmpty()) {
-            try {
-                URL url = getClass().getResource(item.getImagePath().startsWith("/") ? item.getImagePath() : "/" + item.getImagePath());
-                if (url == null) {
-                    ImageIcon icon = new ImageIcon(item.getImagePath());
-                    if (icon.getIconWidth() > 0) {
-                        Image img = icon.getImage().getScaledInstance(65, 65, Image.SCALE_SMOOTH);
-                        iconLabel.setIcon(new ImageIcon(img));
-                        imgLoaded = true;
-                    }
-                } else {
-                    ImageIcon icon = new ImageIcon(url);
-                    Image img = icon.getImage().getScaledInstance(65, 65, Image.SCALE_SMOOTH);
-                    iconLabel.setIcon(new ImageIcon(img));
-                    imgLoaded = true;
-                }
-            } catch (Exception e) {}
-        }
-        
-        if (!imgLoaded) {
+        // 썸네일은 작업 스레드에서 만들고, 준비될 때까지 자리표시
+        ThumbnailService.getInstance().loadInto(iconLabel, item.getImagePath(), 65, 65, () -> {
             iconLabel.setText("📦");
             iconLabel.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 40));
-        }
+        });
         card.add(iconLabel);
 
         int stock = item.getAvailableStock();
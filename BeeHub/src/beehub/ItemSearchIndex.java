@@ -0,0 +1,432 @@
+package beehub;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 물품 이름 검색 색인 (ItemDAO 의 물품 캐시와 같이 갱신)
+ * - 초성 검색: "ㄴㅌㅂ" → 노트북 충전기, "노ㅌ북" 처럼 글자와 초성을 섞어도 됨
+ * - 여러 단어: "공학 계산기" → 모든 단어가 들어간 물품만 (단어별 점수 합)
+ * - 오타 허용: 맞는 물품이 하나도 없는 단어는 두 글자 묶음(bigram)이 절반 이상 겹치는 물품으로 대신 찾음
+ *   ("키보두" → 블루투스 키보드)
+ * - 순위: 정확히 일치 > 앞부분 일치 > 포함 > 초성 일치 > 비슷함, 같은 점수면 짧은 이름 → 가나다순
+ *
+ * 물품마다 번호(doc)를 붙이고, 초성 문자열의 bigram → 정렬된 doc 배열 색인으로 후보를 좁힌 뒤 점수를 매긴다.
+ */
+public class ItemSearchIndex {
+
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JUNG_JONG = 21 * 28;   // 초성 1개당 음절 수
+
+    // 오타 허용: 검색어 bigram 중 이만큼 이상이 이름에 있어야 함
+    private static final double MIN_OVERLAP = 0.5;
+
+    // 색인 키 앞글자 (한 Map 에 같이 보관)
+    private static final char KEY_CHO_UNIGRAM = 'U';
+    private static final char KEY_CHO_BIGRAM = 'C';
+    private static final char KEY_NAME_BIGRAM = 'N';
+
+    private static final int[] NONE = new int[0];
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 물품 1개의 색인 정보
+    private static final class Entry {
+        final Item item;
+        final String norm;          // 소문자, 공백 제거
+        final String cho;           // 음절 → 초성 (나머지 글자는 그대로)
+
+        Entry(Item item) {
+            this.item = item;
+            this.norm = normalize(item.getName());
+            this.cho = choseong(norm);
+        }
+    }
+
+    // 정렬된 doc 번호 목록 (doc 은 늘어나는 순서로만 붙으므로 add 는 뒤에 붙이기)
+    private static final class Postings {
+        int[] docs = new int[4];
+        int size;
+
+        void add(int doc) {
+            if (size == docs.length) docs = Arrays.copyOf(docs, size * 2);
+            docs[size++] = doc;
+        }
+
+        void remove(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            if (i < 0) return;
+            System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+            size--;
+        }
+    }
+
+    private Entry[] docs = new Entry[16];             // doc → 물품 (삭제된 자리는 null)
+    private int nextDoc;
+    private final Map<Integer, Integer> docByItemId = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 같은 점수일 때의 순서 (짧은 이름 → 가나다순). 바뀐 뒤 첫 검색에서 다시 계산
+    private int[] rankOfDoc = NONE;
+    private int[] docOfRank = NONE;
+    private volatile boolean rankDirty = true;
+    private final Object rankLock = new Object();
+
+    // ================================
+    // 1. 색인 갱신
+    // ================================
+
+    /** 전체 다시 만들기 (캐시를 DB 에서 새로 읽었을 때) */
+    public void rebuild(Collection<Item> items) {
+        lock.writeLock().lock();
+        try {
+            docs = new Entry[Math.max(16, items.size())];
+            nextDoc = 0;
+            docByItemId.clear();
+            postings.clear();
+            for (Item item : items) {
+                addLocked(item);
+            }
+            rankDirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 물품 1개 추가 (같은 item_id 가 있으면 교체) */
+    public void put(Item item) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(item.getItemId());
+            addLocked(item);
+            rankDirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 물품 1개 제거 */
+    public void remove(int itemId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(itemId);
+            rankDirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByItemId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(Item item) {
+        if (item.getName() == null) return;
+        Entry e = new Entry(item);
+        int doc = nextDoc++;
+        if (doc == docs.length) docs = Arrays.copyOf(docs, doc * 2);
+        docs[doc] = e;
+        docByItemId.put(item.getItemId(), doc);
+        for (String key : keysOf(e)) {
+            postings.computeIfAbsent(key, k -> new Postings()).add(doc);
+        }
+    }
+
+    private void removeLocked(int itemId) {
+        Integer doc = docByItemId.remove(itemId);
+        if (doc == null) return;
+        Entry e = docs[doc];
+        docs[doc] = null;
+        for (String key : keysOf(e)) {
+            Postings p = postings.get(key);
+            if (p != null) {
+                p.remove(doc);
+                if (p.size == 0) postings.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> keysOf(Entry e) {
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < e.cho.length(); i++) {
+            keys.add(KEY_CHO_UNIGRAM + e.cho.substring(i, i + 1));
+        }
+        for (String g : bigrams(e.cho)) keys.add(KEY_CHO_BIGRAM + g);
+        for (String g : bigrams(e.norm)) keys.add(KEY_NAME_BIGRAM + g);
+        return keys;
+    }
+
+    // ================================
+    // 2. 검색 (점수 높은 순 최대 limit 개, 빈 검색어면 짧은 이름 → 가나다순)
+    // ================================
+    public List<Item> search(String query, int limit) {
+        String q = (query == null) ? "" : query.trim();
+
+        lock.readLock().lock();
+        try {
+            if (q.isEmpty()) {
+                return topN(NONE, NONE, limit, true);
+            }
+
+            int[] scores = new int[nextDoc];
+            int[] matched = null;
+            for (String token : WHITESPACE.split(q)) {
+                matched = matchToken(token, matched, scores);   // 모든 단어가 맞아야 함
+                if (matched.length == 0) break;
+            }
+            return topN(matched, scores, limit, false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 단어 1개: within(이전 단어까지 맞은 doc, null 이면 전체) 중 맞는 doc 만 남기고 점수 누적
+    private int[] matchToken(String token, int[] within, int[] scores) {
+        String t = normalize(token);
+        String ct = choseong(t);
+        boolean jamo = hasJamo(t);
+
+        // 1) 초성 문자열 색인으로 후보 (글자/초성 일치는 모두 여기 포함) → 점수 확인
+        int[] candidates = choCandidates(ct);
+        if (within != null) candidates = intersect(candidates, within);
+
+        int[] hits = new int[candidates.length];
+        int n = 0;
+        for (int doc : candidates) {
+            int s = directScore(docs[doc], t, jamo);
+            if (s > 0) {
+                scores[doc] += s;
+                hits[n++] = doc;
+            }
+        }
+        if (n > 0 || jamo || t.length() < 3) {
+            return Arrays.copyOf(hits, n);
+        }
+
+        // 2) 맞는 물품이 없으면 오타 허용: 이름 bigram 이 절반 이상 겹치는 물품
+        Set<String> tGrams = bigrams(t);
+        int[] overlap = new int[nextDoc];
+        for (String g : tGrams) {
+            Postings p = postings.get(KEY_NAME_BIGRAM + g);
+            if (p == null) continue;
+            for (int i = 0; i < p.size; i++) overlap[p.docs[i]]++;
+        }
+
+        int need = (int) Math.ceil(MIN_OVERLAP * tGrams.size());
+        int[] fuzzy = new int[nextDoc];
+        n = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (overlap[doc] >= need && docs[doc] != null
+                    && (within == null || Arrays.binarySearch(within, doc) >= 0)) {
+                scores[doc] += Math.max(1, (int) Math.round(30.0 * overlap[doc] / tGrams.size()));
+                fuzzy[n++] = doc;
+            }
+        }
+        return Arrays.copyOf(fuzzy, n);
+    }
+
+    private int[] choCandidates(String ct) {
+        if (ct.length() == 1) {
+            return toArray(postings.get(KEY_CHO_UNIGRAM + ct));
+        }
+
+        // 가장 짧은 목록부터 교집합
+        List<Postings> lists = new ArrayList<>();
+        for (String g : bigrams(ct)) {
+            Postings p = postings.get(KEY_CHO_BIGRAM + g);
+            if (p == null) return NONE;
+            lists.add(p);
+        }
+        lists.sort(Comparator.comparingInt(p -> p.size));
+
+        int[] result = toArray(lists.get(0));
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            Postings p = lists.get(i);
+            result = intersect(result, Arrays.copyOf(p.docs, p.size));
+        }
+        return result;
+    }
+
+    private static int directScore(Entry e, String t, boolean jamo) {
+        if (e.norm.equals(t)) return 100;
+
+        int idx = e.norm.indexOf(t);
+        if (idx == 0) return 80;
+        if (idx > 0) return 60;
+
+        if (jamo) {
+            idx = jamoIndexOf(e.norm, t);
+            if (idx == 0) return 50;
+            if (idx > 0) return 40;
+        }
+        return 0;
+    }
+
+    // 점수 높은 순 → 짧은 이름 → 가나다순으로 limit 개
+    //  - (점수, 이름 순위) 를 long 하나로 묶어 정렬 → 비교할 때 문자열을 보지 않음
+    private List<Item> topN(int[] matched, int[] scores, int limit, boolean allDocs) {
+        ensureRank();
+        List<Item> result = new ArrayList<>(Math.max(0, Math.min(limit, matched.length)));
+        if (limit <= 0) return result;
+
+        if (allDocs) {
+            // 빈 검색어: 이름 순위 그대로
+            for (int r = 0; r < docOfRank.length && result.size() < limit; r++) {
+                result.add(docs[docOfRank[r]].item);
+            }
+            return result;
+        }
+
+        long[] keys = new long[matched.length];
+        for (int i = 0; i < matched.length; i++) {
+            int doc = matched[i];
+            keys[i] = ((long) (Integer.MAX_VALUE - scores[doc]) << 32) | rankOfDoc[doc];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length && result.size() < limit; i++) {
+            result.add(docs[docOfRank[(int) keys[i]]].item);
+        }
+        return result;
+    }
+
+    // 읽기 잠금 안에서 호출 (쓰기가 없으므로 docs 는 그대로), 동시에 여러 검색이 와도 한 번만 계산
+    private void ensureRank() {
+        if (!rankDirty) return;
+        synchronized (rankLock) {
+            if (!rankDirty) return;
+
+            int[] live = allDocs();
+            Integer[] order = new Integer[live.length];
+            for (int i = 0; i < live.length; i++) order[i] = live[i];
+            Arrays.sort(order, Comparator
+                    .comparingInt((Integer doc) -> docs[doc].norm.length())
+                    .thenComparing(doc -> docs[doc].item.getName()));
+
+            int[] rank = new int[nextDoc];
+            int[] byRank = new int[order.length];
+            for (int r = 0; r < order.length; r++) {
+                rank[order[r]] = r;
+                byRank[r] = order[r];
+            }
+            rankOfDoc = rank;
+            docOfRank = byRank;
+            rankDirty = false;
+        }
+    }
+
+    private int[] allDocs() {
+        int[] all = new int[docByItemId.size()];
+        int n = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (docs[doc] != null) all[n++] = doc;
+        }
+        return Arrays.copyOf(all, n);
+    }
+
+    private static int[] toArray(Postings p) {
+        return (p == null) ? NONE : Arrays.copyOf(p.docs, p.size);
+    }
+
+    // 정렬된 두 배열의 교집합
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // ================================
+    // 3. 한글 처리
+    // ================================
+    static String normalize(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        String lower = s.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // 완성형 음절 → 초성, 그 밖의 글자는 그대로 ("노트북2" → "ㄴㅌㅂ2")
+    static String choseong(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            sb.append(choseongOf(s.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    static char choseongOf(char c) {
+        if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+            return CHOSEONG[(c - HANGUL_FIRST) / JUNG_JONG];
+        }
+        return c;
+    }
+
+    private static boolean isChoseong(char c) {
+        for (char cho : CHOSEONG) {
+            if (cho == c) return true;
+        }
+        return false;
+    }
+
+    private static boolean hasJamo(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isChoseong(s.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    // 검색어의 초성 글자는 그 초성으로 시작하는 음절과 일치
+    private static int jamoIndexOf(String name, String q) {
+        outer:
+        for (int i = 0; i + q.length() <= name.length(); i++) {
+            for (int j = 0; j < q.length(); j++) {
+                char qc = q.charAt(j);
+                char nc = name.charAt(i + j);
+                if (qc != nc && !(isChoseong(qc) && choseongOf(nc) == qc)) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static Set<String> bigrams(String s) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= s.length(); i++) {
+            grams.add(s.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,602 @@
+package beehub;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 물품별 이용 통계 (이용률 / 평균 대여 기간 / 연체율 / 품절 시간)
+ * - RENTAL 을 다시 훑지 않음: 대여·반납이 commit 될 때마다 (물품, 날짜) 칸에 더해 두었다가
+ *   flushSec 마다 item_usage_daily 에 batch 로 더함 (write-behind, 여러 PC 가 더해도 합이 맞음)
+ * - 품절: 마지막 재고가 나간 시각을 item_usage_state 에 기록 → 다음 반납 때 날짜별로 나눠 분 단위로 더함
+ *   (다른 PC 의 기록이 늦게 반영돼 순서가 뒤바뀌어도, 마지막 반납 시각보다 이른 품절 시작은 무시)
+ * - 이용률: 기간 안의 일별 대여/반납 수 + 지금 미반납 수로 날마다 나가 있던 수량을 거꾸로 계산
+ *   → 조회 비용은 (물품 수 × 기간 일수) + 미반납 건수, RENTAL 크기와 무관
+ * - item_usage_daily 가 비어 있으면 시작할 때 최근 backfillDays 일(어제까지)을 RENTAL 에서 한 번만 채움
+ *   (품절 시간은 시각 기록이 없어 채우지 않음)
+ *
+ * 설정
+ *  -Dbeehub.usage.flushSec=5         : 모아둔 통계를 DB 에 반영하는 주기 (초)
+ *  -Dbeehub.usage.windowDays=30      : 관리자 화면 통계 기간 (오늘 포함, 일)
+ *  -Dbeehub.usage.backfillDays=365   : 처음 시작 시 RENTAL 에서 채울 기간 (0 이면 채우지 않음)
+ *  -Dbeehub.usage.maxPending=10000   : 반영 못 한 (물품, 날짜) 칸 / 품절 기록 상한 (넘으면 새 기록은 버림)
+ *  -Dbeehub.usage.maxFailures=12     : 이만큼 연속으로 반영에 실패하면 (DB 장애, 테이블 없음 등) 모아둔 기록을 버림
+ */
+public class ItemUsageAnalytics {
+
+    private static final ItemUsageAnalytics instance = new ItemUsageAnalytics();
+    public static ItemUsageAnalytics getInstance() { return instance; }
+
+    private static final long FLUSH_SEC = Math.max(1, Long.getLong("beehub.usage.flushSec", 5L));
+    public static final int WINDOW_DAYS = Math.max(1, Integer.getInteger("beehub.usage.windowDays", 30));
+    private static final int BACKFILL_DAYS = Math.max(0, Integer.getInteger("beehub.usage.backfillDays", 365));
+    private static final int MAX_PENDING = Math.max(1, Integer.getInteger("beehub.usage.maxPending", 10_000));
+    private static final int MAX_FAILURES = Math.max(1, Integer.getInteger("beehub.usage.maxFailures", 12));
+
+    // ================================
+    // 📊 물품 1개 통계 / 화면 1번 분량
+    // ================================
+    public static class ItemUsage {
+        public int itemId;
+        public String name;
+        public int totalStock;
+        public int rentals;             // 기간 안에 시작한 대여
+        public int returns;             // 기간 안에 끝난 반납
+        public int openRentals;         // 지금 미반납
+        public double avgRentalDays;    // 반납된 대여의 평균 기간 (반납 없으면 0)
+        public double overdueRate;      // 반납 중 연체 비율 (0~1)
+        public double utilization;      // 나가 있던 수량·일 / (총 재고 × 기간 일수) (0~1)
+        public double stockoutHours;    // 재고 0 이었던 시간 (지금 품절 중이면 현재까지)
+
+        @Override
+        public String toString() {
+            return String.format("이용률 %d%% | 평균 %.1f일 | 연체 %d%% | 품절 %.0f시간",
+                    Math.round(utilization * 100), avgRentalDays, Math.round(overdueRate * 100), stockoutHours);
+        }
+    }
+
+    public static class Report {
+        public LocalDate from;
+        public LocalDate to;
+        public final Map<Integer, ItemUsage> byItem = new LinkedHashMap<>();
+        public long elapsedMs;
+
+        /** 이용률 높은 순 */
+        public List<ItemUsage> byUtilization() {
+            List<ItemUsage> list = new ArrayList<>(byItem.values());
+            list.sort(Comparator.comparingDouble((ItemUsage u) -> u.utilization).reversed());
+            return list;
+        }
+    }
+
+    public static class Stats {
+        public long events;          // 받은 대여/반납/품절 기록
+        public long flushes;         // DB 반영 횟수
+        public long flushedRows;     // DB 에 반영한 (물품, 날짜) 행 수 (누적)
+        public int pendingRows;      // 아직 반영 안 한 (물품, 날짜) 칸
+        public int pendingStock;     // 아직 반영 안 한 품절 시작/끝 기록
+        public long dropped;         // 상한 초과 / 연속 반영 실패로 버린 기록
+
+        @Override
+        public String toString() {
+            return String.format("events=%d, flushes=%d, flushedRows=%d, pendingRows=%d, pendingStock=%d, dropped=%d",
+                    events, flushes, flushedRows, pendingRows, pendingStock, dropped);
+        }
+    }
+
+    // (물품, 날짜) 칸에 더할 값 — 고칠 때는 항상 ConcurrentHashMap.compute 안에서 (칸 단위로 순서가 보장됨)
+    private record Key(int itemId, LocalDate date) {}
+
+    private static final class Delta {
+        int rentCount, returnCount, rentDays, overdueCount, stockoutMinutes;
+
+        void add(Delta d) {
+            rentCount += d.rentCount;
+            returnCount += d.returnCount;
+            rentDays += d.rentDays;
+            overdueCount += d.overdueCount;
+            stockoutMinutes += d.stockoutMinutes;
+        }
+
+        void subtract(Delta d) {
+            rentCount -= d.rentCount;
+            returnCount -= d.returnCount;
+            rentDays -= d.rentDays;
+            overdueCount -= d.overdueCount;
+            stockoutMinutes -= d.stockoutMinutes;
+        }
+
+        Delta copy() {
+            Delta d = new Delta();
+            d.add(this);
+            return d;
+        }
+
+        boolean isZero() {
+            return rentCount == 0 && returnCount == 0 && rentDays == 0 && overdueCount == 0 && stockoutMinutes == 0;
+        }
+    }
+
+    // 품절 시작(open) / 끝(재고가 다시 생김)
+    private record StockEvent(int itemId, boolean open, LocalDateTime at) {}
+
+    private final Map<Key, Delta> pending = new ConcurrentHashMap<>();
+    private final Queue<StockEvent> stockEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger stockQueued = new AtomicInteger();   // stockEvents 크기 (큐의 size() 는 전체를 셈)
+    private final AtomicInteger failures = new AtomicInteger();      // 연속 반영 실패 횟수
+    private final LongAdder events = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private ScheduledExecutorService flusher;
+
+    private ItemUsageAnalytics() {}
+
+    // ================================
+    // 1. 시작 (DBUtil.startBackgroundServices 에서 호출) / 종료
+    //    - 시작 전에도 기록은 쌓이고 report() / 종료 때 반영됨 (주기 반영과 이전 기록 채우기만 안 함)
+    // ================================
+    static synchronized void start() {
+        if (instance.flusher != null) return;
+        instance.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "beehub-usage-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        if (BACKFILL_DAYS > 0) instance.flusher.execute(instance::backfillIfEmpty);
+        instance.flusher.scheduleWithFixedDelay(instance::flushQuietly, FLUSH_SEC, FLUSH_SEC, TimeUnit.SECONDS);
+    }
+
+    static void flushOnShutdown() {
+        instance.flushQuietly();
+    }
+
+    // ================================
+    // 2. commit 후 기록 (메모리에 더하기만, DB 는 flush 때)
+    // ================================
+
+    /** 대여 commit 후 */
+    void rented(int itemId, LocalDate rentDate) {
+        add(itemId, rentDate, d -> d.rentCount++);
+    }
+
+    /** 반납 commit 후 (returnDate 날짜 칸에 기록) */
+    void returned(int itemId, LocalDate rentDate, LocalDate dueDate, LocalDate returnDate) {
+        int days = (int) Math.max(0, ChronoUnit.DAYS.between(rentDate, returnDate));
+        boolean overdue = returnDate.isAfter(dueDate);
+        add(itemId, returnDate, d -> {
+            d.returnCount++;
+            d.rentDays += days;
+            if (overdue) d.overdueCount++;
+        });
+    }
+
+    /** 대여로 마지막 재고가 나감 (ItemDAO, commit 후) */
+    void stockedOut(int itemId) {
+        addStockEvent(new StockEvent(itemId, true, LocalDateTime.now()));
+    }
+
+    /** 반납으로 재고가 다시 생김 (ItemDAO, commit 후) */
+    void restocked(int itemId) {
+        addStockEvent(new StockEvent(itemId, false, LocalDateTime.now()));
+    }
+
+    // DB 가 오래 죽어 있어도 메모리가 끝없이 늘지 않게 상한을 넘으면 버림
+    private void addStockEvent(StockEvent e) {
+        events.increment();
+        if (stockQueued.get() >= MAX_PENDING) {
+            dropped.increment();
+            return;
+        }
+        stockEvents.add(e);
+        stockQueued.incrementAndGet();
+    }
+
+    private void add(int itemId, LocalDate date, Consumer<Delta> change) {
+        Key key = new Key(itemId, date);
+        if (pending.size() >= MAX_PENDING && !pending.containsKey(key)) {
+            events.increment();
+            dropped.increment();
+            return;
+        }
+        pending.compute(key, (k, d) -> {
+            if (d == null) d = new Delta();
+            change.accept(d);
+            return d;
+        });
+        events.increment();
+    }
+
+    // ================================
+    // 3. DB 반영 (트랜잭션 1개: 품절 상태 → 일별 칸 UPDATE batch, 없는 칸은 INSERT batch)
+    // ================================
+    public synchronized void flush() throws SQLException {
+        List<StockEvent> stock = new ArrayList<>();
+        for (StockEvent e; (e = stockEvents.poll()) != null; ) stock.add(e);
+        stockQueued.addAndGet(-stock.size());
+
+        // 지금까지 쌓인 값 복사 (반영하는 동안 새로 더해지는 값은 그대로 남음)
+        Map<Key, Delta> taken = new HashMap<>();
+        for (Key k : pending.keySet()) {
+            pending.computeIfPresent(k, (key, d) -> {
+                taken.put(key, d.copy());
+                return d;
+            });
+        }
+        if (stock.isEmpty() && taken.isEmpty()) return;
+
+        try {
+            int rows = DBUtil.inTransaction("usage.flush", (Connection conn) -> {
+                Map<Key, Delta> toWrite = new HashMap<>();
+                taken.forEach((k, d) -> toWrite.put(k, d.copy()));
+                applyStockEvents(conn, stock, toWrite);
+                writeDaily(conn, toWrite);
+                return toWrite.size();
+            });
+            flushes.increment();
+            flushedRows.add(rows);
+        } catch (SQLException | RuntimeException e) {
+            stockEvents.addAll(stock);   // 다음 주기에 다시 (시각 순으로 정렬해서 처리하므로 순서는 상관없음)
+            stockQueued.addAndGet(stock.size());
+            throw e;
+        }
+
+        for (Map.Entry<Key, Delta> e : taken.entrySet()) {
+            pending.computeIfPresent(e.getKey(), (k, d) -> {
+                d.subtract(e.getValue());
+                return d.isZero() ? null : d;
+            });
+        }
+        failures.set(0);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 값은 메모리에 그대로 남아 있으므로 다음 주기에 다시 시도
+            System.err.println("[이용 통계] DB 반영 실패: " + e.getMessage());
+            if (failures.incrementAndGet() >= MAX_FAILURES) discardPending();
+        }
+    }
+
+    // 계속 실패하면 (테이블이 없거나 DB 장애가 길어짐) 모아둔 기록을 버리고 새로 쌓기 시작
+    private synchronized void discardPending() {
+        int rows = pending.size();
+        int stock = 0;
+        for (StockEvent e; (e = stockEvents.poll()) != null; ) stock++;
+        stockQueued.addAndGet(-stock);
+        pending.clear();
+        dropped.add(rows + stock);
+        failures.set(0);
+        System.err.printf("[이용 통계] %d회 연속 반영 실패 → 모아둔 기록을 버렸습니다. (칸 %d개, 품절 기록 %d개)%n",
+                MAX_FAILURES, rows, stock);
+    }
+
+    // 품절 시작/끝을 시각 순으로 적용, 끝난 품절은 날짜별 분으로 toWrite 에 더함
+    private static void applyStockEvents(Connection conn, List<StockEvent> stock, Map<Key, Delta> toWrite)
+            throws SQLException {
+        if (stock.isEmpty()) return;
+        stock.sort(Comparator.comparing(StockEvent::at));
+
+        List<Integer> ids = new ArrayList<>();
+        for (StockEvent e : stock) if (!ids.contains(e.itemId())) ids.add(e.itemId());
+
+        // 물품별 현재 상태 (행 잠금 → 다른 PC 의 반영과 겹치지 않음)
+        Map<Integer, LocalDateTime[]> state = new HashMap<>();   // item_id → [품절 시작, 마지막 재입고]
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT item_id, stockout_since, last_restock_at FROM item_usage_state "
+              + "WHERE item_id IN (" + in + ") FOR UPDATE")) {
+            for (int i = 0; i < ids.size(); i++) pstmt.setInt(i + 1, ids.get(i));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    state.put(rs.getInt("item_id"), new LocalDateTime[]{
+                            toLocal(rs.getTimestamp("stockout_since")), toLocal(rs.getTimestamp("last_restock_at"))});
+                }
+            }
+        }
+        List<Integer> newIds = new ArrayList<>();
+        for (int id : ids) {
+            if (!state.containsKey(id)) {
+                state.put(id, new LocalDateTime[2]);
+                newIds.add(id);
+            }
+        }
+
+        for (StockEvent e : stock) {
+            LocalDateTime[] s = state.get(e.itemId());
+            if (e.open()) {
+                // 이미 품절 중이거나, 더 늦은 재입고가 먼저 반영됐으면 무시
+                if (s[0] == null && (s[1] == null || e.at().isAfter(s[1]))) s[0] = e.at();
+            } else {
+                if (s[0] != null && e.at().isAfter(s[0])) {
+                    addStockoutMinutes(toWrite, e.itemId(), s[0], e.at());
+                    s[0] = null;
+                }
+                if (s[1] == null || e.at().isAfter(s[1])) s[1] = e.at();
+            }
+        }
+
+        try (PreparedStatement update = conn.prepareStatement(
+                     "UPDATE item_usage_state SET stockout_since = ?, last_restock_at = ? WHERE item_id = ?");
+             PreparedStatement insert = conn.prepareStatement(
+                     "INSERT INTO item_usage_state (stockout_since, last_restock_at, item_id) VALUES (?, ?, ?)")) {
+            for (int id : ids) {
+                PreparedStatement pstmt = newIds.contains(id) ? insert : update;
+                LocalDateTime[] s = state.get(id);
+                pstmt.setTimestamp(1, s[0] != null ? Timestamp.valueOf(s[0]) : null);
+                pstmt.setTimestamp(2, s[1] != null ? Timestamp.valueOf(s[1]) : null);
+                pstmt.setInt(3, id);
+                pstmt.addBatch();
+            }
+            update.executeBatch();
+            if (!newIds.isEmpty()) insert.executeBatch();
+        }
+    }
+
+    // [from, to) 품절 구간을 날짜별로 나눠 분 단위로 더함
+    private static void addStockoutMinutes(Map<Key, Delta> toWrite, int itemId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime cur = from;
+        while (cur.isBefore(to)) {
+            LocalDateTime dayEnd = cur.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime end = dayEnd.isBefore(to) ? dayEnd : to;
+            int minutes = (int) Duration.between(cur, end).toMinutes();
+            if (minutes > 0) {
+                toWrite.computeIfAbsent(new Key(itemId, cur.toLocalDate()), k -> new Delta()).stockoutMinutes += minutes;
+            }
+            cur = end;
+        }
+    }
+
+    private static void writeDaily(Connection conn, Map<Key, Delta> toWrite) throws SQLException {
+        if (toWrite.isEmpty()) return;
+        List<Key> keys = new ArrayList<>(toWrite.keySet());
+
+        List<Key> missing = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "UPDATE item_usage_daily SET rent_count = rent_count + ?, return_count = return_count + ?, "
+              + "rent_days = rent_days + ?, overdue_count = overdue_count + ?, "
+              + "stockout_minutes = stockout_minutes + ? WHERE item_id = ? AND stat_date = ?")) {
+            for (Key k : keys) {
+                bindDelta(pstmt, toWrite.get(k), k);
+                pstmt.addBatch();
+            }
+            int[] counts = pstmt.executeBatch();
+            for (int i = 0; i < keys.size(); i++) {
+                if (counts[i] == 0) missing.add(keys.get(i));
+            }
+        }
+        if (missing.isEmpty()) return;
+
+        // 처음 쓰는 칸 (다른 PC 가 같은 칸을 먼저 넣었으면 키 충돌 → rollback 후 다음 주기에 UPDATE 로)
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO item_usage_daily "
+              + "(rent_count, return_count, rent_days, overdue_count, stockout_minutes, item_id, stat_date) "
+              + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (Key k : missing) {
+                bindDelta(pstmt, toWrite.get(k), k);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    private static void bindDelta(PreparedStatement pstmt, Delta d, Key k) throws SQLException {
+        pstmt.setInt(1, d.rentCount);
+        pstmt.setInt(2, d.returnCount);
+        pstmt.setInt(3, d.rentDays);
+        pstmt.setInt(4, d.overdueCount);
+        pstmt.setInt(5, d.stockoutMinutes);
+        pstmt.setInt(6, k.itemId());
+        pstmt.setDate(7, java.sql.Date.valueOf(k.date()));
+    }
+
+    private static LocalDateTime toLocal(Timestamp ts) {
+        return (ts != null) ? ts.toLocalDateTime() : null;
+    }
+
+    // ================================
+    // 4. 처음 한 번: 최근 기록 채우기 (어제까지, 오늘 것은 시작 후 기록으로)
+    // ================================
+    private void backfillIfEmpty() {
+        try {
+            backfill(LocalDate.now());
+        } catch (Exception e) {
+            System.err.println("[이용 통계] 이전 기록 채우기 실패: " + e.getMessage());
+        }
+    }
+
+    synchronized void backfill(LocalDate today) throws SQLException {
+        java.sql.Date from = java.sql.Date.valueOf(today.minusDays(BACKFILL_DAYS));
+        java.sql.Date until = java.sql.Date.valueOf(today);
+
+        DBUtil.inTransaction("usage.backfill", (Connection conn) -> {
+            try (PreparedStatement pstmt = conn.prepareStatement("SELECT 1 FROM item_usage_daily LIMIT 1");
+                 ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) return null;   // 이미 기록이 있음
+            }
+
+            long start = System.nanoTime();
+            Map<Key, Delta> rows = new HashMap<>();
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT item_id, rent_date, COUNT(*) AS cnt FROM RENTAL "
+                  + "WHERE rent_date >= ? AND rent_date < ? GROUP BY item_id, rent_date")) {
+                pstmt.setDate(1, from);
+                pstmt.setDate(2, until);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        Key k = new Key(rs.getInt("item_id"), rs.getDate("rent_date").toLocalDate());
+                        rows.computeIfAbsent(k, x -> new Delta()).rentCount += rs.getInt("cnt");
+                    }
+                }
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT item_id, rent_date, due_date, return_date, COUNT(*) AS cnt FROM RENTAL "
+                  + "WHERE is_returned = 1 AND return_date >= ? AND return_date < ? "
+                  + "GROUP BY item_id, rent_date, due_date, return_date")) {
+                pstmt.setDate(1, from);
+                pstmt.setDate(2, until);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        LocalDate rentDate = rs.getDate("rent_date").toLocalDate();
+                        LocalDate returnDate = rs.getDate("return_date").toLocalDate();
+                        int cnt = rs.getInt("cnt");
+                        Delta d = rows.computeIfAbsent(new Key(rs.getInt("item_id"), returnDate), x -> new Delta());
+                        d.returnCount += cnt;
+                        d.rentDays += cnt * (int) Math.max(0, ChronoUnit.DAYS.between(rentDate, returnDate));
+                        if (returnDate.isAfter(rs.getDate("due_date").toLocalDate())) d.overdueCount += cnt;
+                    }
+                }
+            }
+            writeDaily(conn, rows);
+            System.out.printf("[이용 통계] 최근 %d일 기록 %d행을 채웠습니다. (%dms)%n",
+                    BACKFILL_DAYS, rows.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return null;
+        });
+    }
+
+    // ================================
+    // 5. 조회 (관리자 화면)
+    // ================================
+    public Report report(LocalDate today) throws SQLException {
+        return report(today, WINDOW_DAYS);
+    }
+
+    /** today 포함 최근 windowDays 일 통계 (이 PC 에 쌓인 값은 먼저 반영) */
+    public Report report(LocalDate today, int windowDays) throws SQLException {
+        long start = System.nanoTime();
+        flushQuietly();
+
+        Report report = new Report();
+        report.to = today;
+        report.from = today.minusDays(windowDays - 1L);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = report.from.atStartOfDay();
+
+        Map<Integer, int[]> rentByDay = new HashMap<>();     // item_id → 날짜별 대여 수
+        Map<Integer, int[]> returnByDay = new HashMap<>();   // item_id → 날짜별 반납 수
+
+        try (Connection conn = DBUtil.getReadConnection()) {
+            // 1️⃣ 물품 (비활성 포함)
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT item_id, name, total_stock FROM ITEM ORDER BY name");
+                 ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ItemUsage u = new ItemUsage();
+                    u.itemId = rs.getInt("item_id");
+                    u.name = rs.getString("name");
+                    u.totalStock = rs.getInt("total_stock");
+                    report.byItem.put(u.itemId, u);
+                }
+            }
+
+            // 2️⃣ 기간 안의 일별 칸 (idx_usage_date 범위)
+            Map<Integer, Integer> stockoutMinutes = new HashMap<>();
+            Map<Integer, int[]> sums = new HashMap<>();   // item_id → [반납 기간 합, 연체 반납 수]
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT item_id, stat_date, rent_count, return_count, rent_days, overdue_count, stockout_minutes "
+                  + "FROM item_usage_daily WHERE stat_date >= ? AND stat_date <= ?")) {
+                pstmt.setDate(1, java.sql.Date.valueOf(report.from));
+                pstmt.setDate(2, java.sql.Date.valueOf(today));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        ItemUsage u = report.byItem.get(rs.getInt("item_id"));
+                        if (u == null) continue;   // 삭제된 물품
+                        int day = (int) ChronoUnit.DAYS.between(report.from, rs.getDate("stat_date").toLocalDate());
+                        rentByDay.computeIfAbsent(u.itemId, k -> new int[windowDays])[day] += rs.getInt("rent_count");
+                        returnByDay.computeIfAbsent(u.itemId, k -> new int[windowDays])[day] += rs.getInt("return_count");
+                        u.rentals += rs.getInt("rent_count");
+                        u.returns += rs.getInt("return_count");
+                        int[] s = sums.computeIfAbsent(u.itemId, k -> new int[2]);
+                        s[0] += rs.getInt("rent_days");
+                        s[1] += rs.getInt("overdue_count");
+                        stockoutMinutes.merge(u.itemId, rs.getInt("stockout_minutes"), Integer::sum);
+                    }
+                }
+            }
+            sums.forEach((id, s) -> {
+                ItemUsage u = report.byItem.get(id);
+                if (u.returns > 0) {
+                    u.avgRentalDays = (double) s[0] / u.returns;
+                    u.overdueRate = (double) s[1] / u.returns;
+                }
+            });
+            stockoutMinutes.forEach((id, m) -> report.byItem.get(id).stockoutHours = m / 60.0);
+
+            // 3️⃣ 지금 미반납 수 (idx_rental_overdue 의 is_returned = 0 범위 → 미반납 건만 읽음)
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT item_id, COUNT(*) AS cnt FROM RENTAL WHERE is_returned = 0 GROUP BY item_id");
+                 ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ItemUsage u = report.byItem.get(rs.getInt("item_id"));
+                    if (u != null) u.openRentals = rs.getInt("cnt");
+                }
+            }
+
+            // 4️⃣ 지금 품절 중인 물품은 현재까지 시간을 더함
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT item_id, stockout_since FROM item_usage_state WHERE stockout_since IS NOT NULL");
+                 ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ItemUsage u = report.byItem.get(rs.getInt("item_id"));
+                    if (u == null) continue;
+                    LocalDateTime since = rs.getTimestamp("stockout_since").toLocalDateTime();
+                    if (since.isBefore(windowStart)) since = windowStart;
+                    if (since.isBefore(now)) u.stockoutHours += Duration.between(since, now).toMinutes() / 60.0;
+                }
+            }
+        }
+
+        // 5️⃣ 이용률: 오늘 끝의 미반납 수에서 거꾸로 → 날마다 나가 있던 수량의 합
+        for (ItemUsage u : report.byItem.values()) {
+            if (u.totalStock <= 0) continue;
+            int[] rents = rentByDay.get(u.itemId);
+            int[] rets = returnByDay.get(u.itemId);
+            long unitDays = 0;
+            int out = u.openRentals;
+            for (int day = windowDays - 1; day >= 0; day--) {
+                unitDays += Math.min(out, u.totalStock);
+                out += (rets != null ? rets[day] : 0) - (rents != null ? rents[day] : 0);
+                if (out < 0) out = 0;
+            }
+            u.utilization = Math.min(1.0, (double) unitDays / ((long) u.totalStock * windowDays));
+        }
+
+        report.elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return report;
+    }
+
+    public Stats getStats() {
+        Stats s = new Stats();
+        s.events = events.sum();
+        s.flushes = flushes.sum();
+        s.flushedRows = flushedRows.sum();
+        s.pendingRows = pending.size();
+        s.pendingStock = stockQueued.get();
+        s.dropped = dropped.sum();
+        return s;
+    }
+}
@@ -0,0 +1,152 @@
+package beehub;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * DBUtil 이 내주는 Connection / PreparedStatement / ResultSet 을 감싸는 계측 프록시
+ * - execute* 호출 시간, 반환 행 수를 QueryStats 에 기록
+ * - setXxx(index, value) 로 넣은 바인드 값을 기억했다가 느린 쿼리 로그에 같이 남김
+ * - 주 DB 커넥션에서 SELECT 가 아닌 SQL 을 실행하면 DBUtil.markWrite() (복제 DB 사용 시 쓰기 직후 조회를 주 DB 로)
+ */
+class JdbcInstrumentation {
+
+    // 비밀번호 컬럼이 들어간 SQL 은 바인드 값을 로그에 남기지 않음
+    private static final Pattern SENSITIVE = Pattern.compile("(?i)\\bpw\\b");
+    private static final int MAX_BIND_LENGTH = 100;
+
+    // 데이터를 바꾸지 않는 SQL (그 외는 쓰기로 봄)
+    private static final Pattern READ_ONLY_SQL = Pattern.compile("(?is)^\\s*(SELECT|SHOW|WITH|EXPLAIN)\\b.*");
+
+    private JdbcInstrumentation() {}
+
+    /**
+     * @param primary 주 DB 커넥션이면 true (쓰기 감지), 복제 DB 조회용이면 false
+     */
+    static Connection wrap(Connection conn, boolean primary) {
+        boolean trackWrites = primary && DBUtil.hasReplicas();
+        if (conn == null || (!QueryStats.ENABLED && !trackWrites)) return conn;
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invokeTarget(conn, method, args);
+            if (result instanceof PreparedStatement && args != null && args[0] instanceof String) {
+                String sql = (String) args[0];
+                boolean write = trackWrites && !READ_ONLY_SQL.matcher(sql).matches();
+                if (!QueryStats.ENABLED) {
+                    return write ? wrapWriteTracker((PreparedStatement) result, (Connection) proxy) : result;
+                }
+                return wrapStatement((PreparedStatement) result, sql, (Connection) proxy, write);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private static PreparedStatement wrapStatement(PreparedStatement stmt, String sql, Connection owner,
+                                                   boolean write) {
+        QueryStats.SqlStat stat = QueryStats.statFor(sql);
+        boolean sensitive = SENSITIVE.matcher(sql).find();
+        Map<Integer, Object> binds = new TreeMap<>();
+
+        InvocationHandler handler = new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+
+                // 바인드 값 기억
+                if (name.startsWith("set") && args != null && args.length >= 2
+                        && args[0] instanceof Integer) {
+                    binds.put((Integer) args[0], "setNull".equals(name) ? null : describe(args[1], sensitive));
+                } else if ("clearParameters".equals(name)) {
+                    binds.clear();
+                } else if ("getConnection".equals(name)) {
+                    return owner;
+                }
+
+                if (!name.startsWith("execute")) {
+                    return invokeTarget(stmt, method, args);
+                }
+
+                long start = System.nanoTime();
+                boolean error = true;
+                long rows = 0;
+                try {
+                    Object result = invokeTarget(stmt, method, args);
+                    error = false;
+                    if (write) DBUtil.markWrite();
+
+                    if (result instanceof ResultSet) {
+                        return wrapResultSet((ResultSet) result, stat);
+                    } else if (result instanceof Integer) {
+                        rows = (Integer) result;
+                    } else if (result instanceof Long) {
+                        rows = (Long) result;
+                    } else if (result instanceof int[]) {
+                        for (int n : (int[]) result) if (n > 0) rows += n;
+                    }
+                    return result;
+                } finally {
+                    long micros = (System.nanoTime() - start) / 1_000;
+                    QueryStats.record(stat, micros, rows, error);
+                    if (micros >= QueryStats.SLOW_THRESHOLD_MS * 1_000) {
+                        QueryStats.logSlow(stat, micros, binds);
+                    }
+                }
+            }
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    // 통계를 끈 상태에서 쓰기 SQL 만 감지
+    private static PreparedStatement wrapWriteTracker(PreparedStatement stmt, Connection owner) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if ("getConnection".equals(name)) return owner;
+
+            Object result = invokeTarget(stmt, method, args);
+            if (name.startsWith("execute")) DBUtil.markWrite();
+            return result;
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    // next() 가 true 를 돌려줄 때마다 반환 행 수 증가
+    private static ResultSet wrapResultSet(ResultSet rs, QueryStats.SqlStat stat) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invokeTarget(rs, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                stat.rows.incrementAndGet();
+            }
+            return result;
+        };
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, handler);
+    }
+
+    private static Object describe(Object value, boolean sensitive) {
+        if (sensitive) return "***";
+        if (value instanceof String && ((String) value).length() > MAX_BIND_LENGTH) {
+            return ((String) value).substring(0, MAX_BIND_LENGTH) + "…";
+        }
+        return value;
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -557,6 +557,7 @@ public class LoginFrame extends JFrame {
     }
 
     public static void main(String[] args) {
+        DBUtil.startBackgroundServices();   // 연체 검사 등 (프로그램 실행 시 1번)
         SwingUtilities.invokeLater(LoginFrame::new);
     }
     
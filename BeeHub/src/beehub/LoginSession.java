@@ -8,6 +8,10 @@ public class LoginSession {
     private static Member user;
 
     public static void setUser(Member m) {
+        // 로그아웃 / 다른 사람으로 로그인 → 이전 사용자의 대여 가능 스냅샷 버림
+        if (user != null && (m == null || !user.getHakbun().equals(m.getHakbun()))) {
+            RentalEligibility.getInstance().invalidate(user.getHakbun());
+        }
         user = m;
     }
 
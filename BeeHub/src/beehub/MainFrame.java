@@ -13,10 +13,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-// 매니저 및 DAO 임포트
-import council.EventManager;
-import council.EventManager.EventData;
-
 public class MainFrame extends JFrame {
 
     // ===============================
@@ -231,22 +227,26 @@ public class MainFrame extends JFrame {
         DateTimeFormatter todayFmt = DateTimeFormatter.ofPattern("M월 d일");
         todayHeaderLabel.setText("(TODAY) " + today.format(todayFmt));
 
+        // 내 미반납 대여 + 다가오는 행사 (DashboardDAO: 회원별 캐시, 없으면 쿼리 2번)
+        DashboardDAO.Dashboard cached = DashboardDAO.getInstance().peek(currentUserId, today);
+        if (cached != null) {
+            renderSchedule(cached, today);
+            return;
+        }
+        AsyncDAO.scope(this).run(AsyncDAO.getDashboard(currentUserId, today), d -> renderSchedule(d, today));
+    }
+
+    private void renderSchedule(DashboardDAO.Dashboard dashboard, LocalDate today) {
         List<ScheduleItem> allItems = new ArrayList<>();
 
         // 1. [물품 반납]
-        List<Rent> allRents = RentDAO.getInstance().getAllRentals();
-        for (Rent r : allRents) {
-            if (r.getRenterId().equals(currentUserId) && !r.isReturned()) {
-                allItems.add(new ScheduleItem(r.getDueDate(), r.getItemName(), "RENTAL"));
-            }
+        for (DashboardDAO.Entry r : dashboard.rentals) {
+            allItems.add(new ScheduleItem(r.date, r.title, r.type));
         }
 
         // 2. [과 행사]
-        List<EventData> events = EventManager.getAllEvents();
-        for (EventData e : events) {
-            if (e.date != null) {
-                allItems.add(new ScheduleItem(e.date.toLocalDate(), e.title, "EVENT"));
-            }
+        for (DashboardDAO.Entry e : dashboard.events) {
+            allItems.add(new ScheduleItem(e.date, e.title, e.type));
         }
 
         // 3. 정렬
@@ -1282,51 +1282,95 @@ public class MyPageFrame extends JFrame {
             return panel;
         }
 
-        String userHakbun = current.getHakbun();
+        // 최근 기록부터 한 페이지씩 (스크롤이 끝에 가까워지면 다음 페이지)
+        RentalHistoryPager pager = new RentalHistoryPager(current.getHakbun(), tableModel, scrollPane);
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            JScrollBar bar = scrollPane.getVerticalScrollBar();
+            if (bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - 80) {
+                pager.loadNextPage();
+            }
+        });
+        // 탭이 처음 보일 때(크기가 정해질 때) 표가 덜 찼으면 이어서
+        scrollPane.getViewport().addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                pager.fillViewport();
+            }
+        });
+        pager.loadNextPage();
 
-        try {
-            RentalDAO rentalDAO = new RentalDAO();
-            java.util.List<Rental> rentals = rentalDAO.getRentalsByUser(userHakbun);
-
-            for (Rental r : rentals) {
-                String status;
-
-                if (r.isReturned()) {
-                    status = "반납 완료";
-                } else if (r.getDueDate() != null) {
-                    LocalDate due = r.getDueDate();
-                    LocalDate today = LocalDate.now();
-
-                    long daysDiff = ChronoUnit.DAYS.between(today, due);
-                    DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-                    String dateStr = due.format(fmt);
-
-                    if (daysDiff < 0) {
-                        status = dateStr + " (D+" + Math.abs(daysDiff) + ")";
-                    } else if (daysDiff == 0) {
-                        status = dateStr + " (D-Day)";
-                    } else {
-                        status = dateStr + " (D-" + daysDiff + ")";
-                    }
+        return panel;
+    }
 
-                } else {
-                    status = "날짜 없음";
+    // 물품 대여 기록 페이지 로더 (RentalDAO.getRentalHistoryPage, (대여일, rental_id) 커서)
+    private class RentalHistoryPager {
+        private static final int PAGE_SIZE = 30;
+
+        private final String userHakbun;
+        private final DefaultTableModel tableModel;
+        private final JScrollPane scrollPane;
+        private RentalDAO.HistoryCursor nextCursor;
+        private boolean hasMore = true;
+        private boolean loading;
+
+        RentalHistoryPager(String userHakbun, DefaultTableModel tableModel, JScrollPane scrollPane) {
+            this.userHakbun = userHakbun;
+            this.tableModel = tableModel;
+            this.scrollPane = scrollPane;
+        }
+
+        void loadNextPage() {
+            if (loading || !hasMore) return;
+            loading = true;
+
+            AsyncDAO.scope(MyPageFrame.this).run(
+                    AsyncDAO.getRentalHistoryPage(userHakbun, nextCursor, PAGE_SIZE), page -> {
+                loading = false;
+                nextCursor = page.nextCursor;
+                hasMore = page.nextCursor != null;
+
+                LocalDate today = LocalDate.now();
+                for (Rental r : page.rows) {
+                    tableModel.addRow(new Object[]{
+                            r.getItemName(),
+                            rentalStatusText(r, today)
+                    });
                 }
 
-                tableModel.addRow(new Object[]{
-                        r.getItemName(),
-                        status
-                });
+                fillViewport();
+            }, ex -> {
+                loading = false;
+                hasMore = false;
+                ex.printStackTrace();
+                showCustomAlertPopup("오류", "대여 기록을 불러오는 중 오류가 발생했습니다.\n" + ex.getMessage());
+            });
+        }
+
+        // 불러온 행이 표를 다 채우지 못하면 스크롤이 생기지 않으므로 바로 다음 페이지
+        void fillViewport() {
+            JViewport viewport = scrollPane.getViewport();
+            if (hasMore && viewport.getHeight() > 0
+                    && viewport.getView().getPreferredSize().height <= viewport.getHeight()) {
+                loadNextPage();
             }
+        }
+    }
 
+    private static String rentalStatusText(Rental r, LocalDate today) {
+        if (r.isReturned()) return "반납 완료";
+        if (r.getDueDate() == null) return "날짜 없음";
 
+        LocalDate due = r.getDueDate();
+        long daysDiff = ChronoUnit.DAYS.between(today, due);
+        String dateStr = due.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            showCustomAlertPopup("오류", "대여 기록을 불러오는 중 오류가 발생했습니다.\n" + e.getMessage());
+        if (daysDiff < 0) {
+            return dateStr + " (D+" + Math.abs(daysDiff) + ")";
+        } else if (daysDiff == 0) {
+            return dateStr + " (D-Day)";
+        } else {
+            return dateStr + " (D-" + daysDiff + ")";
         }
-
-        return panel;
     }
 
     // ===================== 공간 대여 기록 (DB 연동 + 필터) =====================
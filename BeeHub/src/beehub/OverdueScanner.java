@@ -0,0 +1,223 @@
+package beehub;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연체 검사 스케줄러 (대여 정지 일괄 적용)
+ * - 프로그램 시작 직후 1번 + 매일 scanAt 시각에 1번 RENTAL 을 검사
+ * - 미반납 + 반납 예정일이 지난 기록을 인덱스(idx_rental_overdue) 범위 검색 1번으로 회원별로 모아서
+ *   "오늘 반납하면 받을 정지"(오늘 + 가장 오래된 연체 일수, RentDAO.returnRentals 와 같은 규칙)까지 정지 연장
+ *   → 이미 더 긴 정지가 걸려 있으면 유지
+ * - 정지 기간이 끝난 회원은 UPDATE 1번으로 일괄 해제
+ * - 화면(ItemDetailFrame 등)은 rental_ban_end_date 를 읽기만 함 (조회할 때마다 DB 에 쓰지 않음)
+ * - 마지막 검사 결과는 AdminMainFrame 에서 확인
+ * - 자동 검사는 기본으로 꺼져 있음 → 관리자 PC 등 한두 대에서만 켬.
+ *   여러 PC 에서 켜도 stock_rush_lease 의 'overdue.scan' 행을 먼저 잡은 PC 만 검사하고,
+ *   leaseMin 동안은 다른 PC(자기 자신 포함)의 자동 검사를 건너뜀 (관리자 화면의 "지금 검사" 는 항상 실행)
+ *
+ * 설정
+ *  -Dbeehub.overdue.scan=false          : 시작 시 + 매일 검사 켜기 (끄면 관리자 화면에서 직접 실행만)
+ *  -Dbeehub.overdue.scanAt=00:05        : 매일 검사 시각 (HH:mm)
+ *  -Dbeehub.overdue.startupDelaySec=5   : 시작 후 첫 검사까지 대기 (초)
+ *  -Dbeehub.overdue.leaseMin=60         : 자동 검사 1번 뒤 다른 PC 의 자동 검사를 건너뛰는 시간 (분)
+ */
+public class OverdueScanner {
+
+    private static final OverdueScanner instance = new OverdueScanner();
+    public static OverdueScanner getInstance() { return instance; }
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("beehub.overdue.scan", "false"));
+    private static final LocalTime SCAN_AT = LocalTime.parse(System.getProperty("beehub.overdue.scanAt", "00:05"));
+    private static final long STARTUP_DELAY_SEC = Math.max(0, Long.getLong("beehub.overdue.startupDelaySec", 5L));
+    private static final int LEASE_MIN = Math.max(1, Integer.getInteger("beehub.overdue.leaseMin", 60));
+    private static final String LEASE_NAME = "overdue.scan";
+    private static final String HOLDER = ManagementFactory.getRuntimeMXBean().getName();   // pid@호스트
+
+    // ================================
+    // 📊 검사 결과
+    // ================================
+    public static class Summary {
+        public LocalDate scanDate;          // 기준 날짜 (이 날짜보다 반납 예정일이 이르면 연체)
+        public LocalDateTime finishedAt;    // 검사 끝난 시각
+        public int overdueRentals;          // 연체 중인 미반납 대여 수
+        public int overdueMembers;          // 연체 중인 회원 수
+        public int bansExtended;            // 이번 검사로 정지가 새로 걸리거나 늘어난 회원 수
+        public int bansCleared;             // 기간이 끝나 해제한 회원 수
+        public int activeBans;              // 검사 후 대여 정지 중인 회원 수
+        public long elapsedMs;
+
+        @Override
+        public String toString() {
+            return String.format("scanDate=%s, overdueRentals=%d, overdueMembers=%d, bansExtended=%d, "
+                               + "bansCleared=%d, activeBans=%d, elapsed=%dms",
+                    scanDate, overdueRentals, overdueMembers, bansExtended, bansCleared, activeBans, elapsedMs);
+        }
+    }
+
+    private volatile Summary last;
+    private ScheduledExecutorService scheduler;
+
+    private OverdueScanner() {}
+
+    // ================================
+    // 1. 스케줄 (DBUtil.startBackgroundServices 에서 호출)
+    // ================================
+    static void startIfEnabled() {
+        if (ENABLED) instance.start();
+    }
+
+    private synchronized void start() {
+        if (scheduler != null) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "beehub-overdue-scan");
+            t.setDaemon(true);
+            return t;
+        });
+
+        scheduler.schedule(this::scanQuietly, STARTUP_DELAY_SEC, TimeUnit.SECONDS);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = now.toLocalDate().atTime(SCAN_AT);
+        if (!next.isAfter(now)) next = next.plusDays(1);
+        scheduler.scheduleAtFixedRate(this::scanQuietly,
+                Duration.between(now, next).toMillis(), TimeUnit.DAYS.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+
+    private void scanQuietly() {
+        try {
+            if (!claimScan()) {
+                System.out.println("[OverdueScanner] 다른 PC 가 최근에 검사함 → 이번 자동 검사는 건너뜀");
+                return;
+            }
+            Summary s = scan(LocalDate.now());
+            System.out.println("[OverdueScanner] " + s);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            e.printStackTrace();
+        }
+    }
+
+    // 자동 검사 차례 잡기: 'overdue.scan' 행이 만료됐으면 leaseMin 뒤로 미루고 true (DB 시각 기준, RushStock 잠금과 같은 방식)
+    // stock_rush_lease 가 없는 DB(db/migrate.sql 미적용)면 예외 → 이번 검사는 건너뜀
+    private static boolean claimScan() throws SQLException {
+        return DBUtil.inTransaction("overdue.lease", (Connection conn) -> {
+            boolean exists = false;
+            boolean live = false;
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT CASE WHEN expires_at > CURRENT_TIMESTAMP THEN 1 ELSE 0 END AS live "
+                  + "FROM stock_rush_lease WHERE lease_name = ? FOR UPDATE")) {
+                pstmt.setString(1, LEASE_NAME);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        exists = true;
+                        live = rs.getInt("live") == 1;
+                    }
+                }
+            }
+            if (live) return false;
+
+            // 처음이면 INSERT (두 PC 가 동시에 넣으면 늦은 쪽은 키 충돌 → 예외로 이번 검사 건너뜀)
+            String sql = exists
+                    ? "UPDATE stock_rush_lease SET holder = ?, expires_at = TIMESTAMPADD(MINUTE, ?, CURRENT_TIMESTAMP) "
+                    + "WHERE lease_name = ?"
+                    : "INSERT INTO stock_rush_lease (holder, expires_at, lease_name) "
+                    + "VALUES (?, TIMESTAMPADD(MINUTE, ?, CURRENT_TIMESTAMP), ?)";
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, HOLDER);
+                pstmt.setInt(2, LEASE_MIN);
+                pstmt.setString(3, LEASE_NAME);
+                pstmt.executeUpdate();
+            }
+            return true;
+        });
+    }
+
+    /** 마지막 검사 결과 (아직 검사 전이면 null) */
+    public Summary getLastSummary() {
+        return last;
+    }
+
+    // ================================
+    // 2. 검사 (트랜잭션 1개)
+    // ================================
+
+    /** today 기준으로 연체 정지 적용 + 만료 정지 해제. 관리자 화면의 "지금 검사" 도 이 메서드 */
+    public synchronized Summary scan(LocalDate today) throws SQLException {
+        long start = System.nanoTime();
+        java.sql.Date todayDate = java.sql.Date.valueOf(today);
+
+        Summary summary = DBUtil.inTransaction("overdue.scan", (Connection conn) -> {
+            Summary s = new Summary();
+            s.scanDate = today;
+
+            // 1️⃣ 연체 중인 회원별 가장 오래된 반납 예정일 (미반납 + due_date < 오늘, 인덱스 범위 검색)
+            String overdueSql = "SELECT renter_id, MIN(due_date) AS oldest_due, COUNT(*) AS cnt FROM RENTAL "
+                              + "WHERE is_returned = 0 AND due_date < ? GROUP BY renter_id";
+
+            // 2️⃣ 오늘 반납해도 받을 정지까지 연장 (이미 더 길면 그대로)
+            String banSql = "UPDATE members SET rental_ban_end_date = ? "
+                          + "WHERE hakbun = ? AND (rental_ban_end_date IS NULL OR rental_ban_end_date < ?)";
+
+            try (PreparedStatement select = conn.prepareStatement(overdueSql);
+                 PreparedStatement ban = conn.prepareStatement(banSql)) {
+                select.setDate(1, todayDate);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        long overdueDays = ChronoUnit.DAYS.between(rs.getDate("oldest_due").toLocalDate(), today);
+                        java.sql.Date until = java.sql.Date.valueOf(today.plusDays(overdueDays));
+
+                        ban.setDate(1, until);
+                        ban.setString(2, rs.getString("renter_id"));
+                        ban.setDate(3, until);
+                        ban.addBatch();
+
+                        s.overdueMembers++;
+                        s.overdueRentals += rs.getInt("cnt");
+                    }
+                }
+                if (s.overdueMembers > 0) {
+                    for (int n : ban.executeBatch()) {
+                        if (n > 0) s.bansExtended++;
+                    }
+                }
+            }
+
+            // 3️⃣ 기간 끝난 정지 일괄 해제 (PenaltyManager 규칙: 종료일 다음 날부터 대여 가능)
+            try (PreparedStatement clear = conn.prepareStatement(
+                    "UPDATE members SET rental_ban_end_date = NULL WHERE rental_ban_end_date < ?")) {
+                clear.setDate(1, todayDate);
+                s.bansCleared = clear.executeUpdate();
+            }
+
+            // 정지가 여러 회원에게 바뀌었으므로 대여 가능 캐시는 commit 후 전부 버림
+            DBUtil.afterCommit(RentalEligibility.getInstance()::clear);
+
+            // 4️⃣ 남은 정지 수 (종료일이 오늘이면 이미 대여 가능 → 제외)
+            try (PreparedStatement count = conn.prepareStatement(
+                    "SELECT COUNT(*) FROM members WHERE rental_ban_end_date > ?")) {
+                count.setDate(1, todayDate);
+                try (ResultSet rs = count.executeQuery()) {
+                    if (rs.next()) s.activeBans = rs.getInt(1);
+                }
+            }
+            return s;
+        });
+
+        summary.elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        summary.finishedAt = LocalDateTime.now();
+        last = summary;
+        return summary;
+    }
+}
@@ -0,0 +1,934 @@
+package beehub;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 커뮤니티 게시글 검색 색인 (제목 + 본문 + 작성자, 프로그램 안에 보관)
+ * - 글자/숫자가 이어진 부분을 두 글자씩 잘라(bigram) 색인 → 띄어쓰기/조사와 상관없이 한글 부분 일치
+ *   ("과제제출" 안의 "과제" 도 찾음), 한 글자 단어는 그 글자로 시작하거나 끝나는 bigram 중 하나면 일치
+ * - 검색어의 bigram 이 모두 들어 있는 글만, BM25 점수 순 (같으면 최신 글 먼저)
+ *   제목 3배 / 작성자 2배 / 본문 1배로 세어 tf 와 글 길이에 반영
+ * - CommunityDAO 의 insertPost / updatePost / deletePost 가 바로 반영
+ * - 파일에 저장해 두고 다음 시작 때 읽음 → 전체를 다시 자르지 않고,
+ *   지워진 글 정리 + 저장 뒤 새 글/수정된 글(post_id, updated_at 기준)만 DB 에서 다시 읽음
+ * - 저장은 바뀐 글만 변경 기록(<file>.log)에 덧붙이고, 기록이 커지면 가끔 전체 파일을 다시 씀 (compact)
+ *   잠금 안에서는 저장할 내용만 복사하고 파일 쓰기는 잠금 밖 → 저장 중에도 글 등록/수정이 기다리지 않음
+ * - 다른 PC 에서 쓴 글/수정한 글은 syncSec 마다 같은 방식으로 따라잡음
+ *   (다른 PC 에서 지운 글은 목록을 읽을 때 DB 에서 걸러지고, 다음 시작 때 색인에서도 빠짐)
+ *
+ * 설정
+ *  -Dbeehub.postIndex.file=~/.beehub/post-search.idx : 색인 파일 (사용자 폴더 아래, 빈 값이면 저장 안 함 → 시작할 때마다 새로 만듦)
+ *  -Dbeehub.postIndex.syncSec=30                      : 다른 PC 변경 반영 + 파일 저장 주기 (초)
+ *  -Dbeehub.postIndex.compactRatio=0.25                : 변경 기록의 글 수가 전체 글의 이 비율을 넘으면 전체 다시 쓰기
+ */
+public class PostSearchIndex {
+
+    private static final PostSearchIndex instance = new PostSearchIndex();
+    public static PostSearchIndex getInstance() { return instance; }
+
+    // 기본은 사용자 폴더 아래 (실행 위치마다 파일이 생기거나 저장소 안에 남지 않게)
+    private static final String FILE = System.getProperty("beehub.postIndex.file",
+            Paths.get(System.getProperty("user.home"), ".beehub", "post-search.idx").toString());
+    private static final long SYNC_SEC = Math.max(1, Long.getLong("beehub.postIndex.syncSec", 30L));
+    private static final double COMPACT_RATIO =
+            Double.parseDouble(System.getProperty("beehub.postIndex.compactRatio", "0.25"));
+
+    // 필드 가중치 (tf / 글 길이에 곱함)
+    private static final int W_TITLE = 3;
+    private static final int W_WRITER = 2;
+    private static final int W_CONTENT = 1;
+
+    // BM25
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int FILE_MAGIC = 0x42485049;   // "BHPI"
+    private static final int FILE_VERSION = 2;          // 자르는 방식/가중치를 바꾸면 올림 → 예전 파일은 버리고 새로 만듦
+    private static final int BATCH = 2000;              // DB 에서 한 번에 읽는 글 수
+    private static final long SYNC_SLACK_MS = 60_000;   // 수정 시각 비교 여유 (commit 이 늦게 보이는 경우)
+    private static final int MIN_COMPACT_DOCS = 1_000;  // 변경 기록이 이보다 작으면 전체 다시 쓰지 않음
+
+    private static final int[] NONE = new int[0];
+
+    // ================================
+    // 📊 색인 상태
+    // ================================
+    public static class Stats {
+        public boolean ready;
+        public String source;        // "file" / "rebuild" / null(준비 전)
+        public int docs;
+        public int terms;
+        public long searches;
+        public long syncs;
+        public long saves;
+        public long lastLoadMs;      // 시작 때 읽기/만들기에 걸린 시간
+
+        @Override
+        public String toString() {
+            return String.format("ready=%b, source=%s, docs=%d, terms=%d, searches=%d, syncs=%d, saves=%d, loadMs=%d",
+                    ready, source, docs, terms, searches, syncs, saves, lastLoadMs);
+        }
+    }
+
+    // 글 1개 (원문은 두지 않음, 작성자만 updatePost 때 다시 쓰려고 보관)
+    private static final class Doc {
+        final int[] terms;   // term id (정렬)
+        final int[] tfs;     // 가중 tf
+        final int length;    // 가중 길이
+        final String writer;
+
+        Doc(int[] terms, int[] tfs, int length, String writer) {
+            this.terms = terms;
+            this.tfs = tfs;
+            this.length = length;
+            this.writer = writer;
+        }
+    }
+
+    // post_id 오름차순 목록 + tf (새 글은 번호가 크므로 대부분 뒤에 붙이기)
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] tfs = new int[4];
+        int size;
+
+        void put(int doc, int tf) {
+            int i = (size == 0 || docs[size - 1] < doc) ? -(size + 1) : Arrays.binarySearch(docs, 0, size, doc);
+            if (i >= 0) {
+                tfs[i] = tf;
+                return;
+            }
+            i = -(i + 1);
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            System.arraycopy(docs, i, docs, i + 1, size - i);
+            System.arraycopy(tfs, i, tfs, i + 1, size - i);
+            docs[i] = doc;
+            tfs[i] = tf;
+            size++;
+        }
+
+        void remove(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            if (i < 0) return;
+            System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+            System.arraycopy(tfs, i + 1, tfs, i, size - i - 1);
+            size--;
+        }
+
+        int tf(int doc) {
+            int i = Arrays.binarySearch(docs, 0, size, doc);
+            return (i < 0) ? 0 : tfs[i];
+        }
+    }
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<Postings> postings = new ArrayList<>();   // term id → 목록
+    private final Map<Integer, Doc> docs = new HashMap<>();
+    private long totalLength;
+    private int maxPostId;
+    private long syncedAtMs;        // 마지막으로 DB 와 맞춘 시각 (DB 시계)
+    private long version;           // 바뀔 때마다 증가
+    private long savedVersion;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 파일 저장 상태 (saveLock 안에서만 읽고 씀, dirty 는 쓰기 잠금 안에서 채움)
+    private final Set<Integer> dirty = new HashSet<>();   // 마지막 저장 뒤 추가/수정/삭제된 post_id
+    private final Object saveLock = new Object();
+    private int savedTerms;          // 파일(+기록)에 들어간 term 수 → 그 뒤의 term 만 기록에 추가
+    private int loggedDocs;          // 변경 기록에 쌓인 글 수
+    private long baseId;             // 전체 파일 ↔ 변경 기록 짝 맞추기 (전체를 다시 쓰면 바뀜)
+    private boolean needCompact = true;   // 처음 / 기록 쓰기 실패 시 → 다음 저장은 전체 다시 쓰기
+
+    // 같은 검색어로 페이지만 넘길 때 다시 계산하지 않도록 마지막 결과 1개
+    private volatile Object[] lastResult;   // { query, version, int[] }
+
+    private final CountDownLatch readyLatch = new CountDownLatch(1);
+    private volatile boolean ready;
+    private volatile String source;
+    private volatile long lastLoadMs;
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+    private final LongAdder saves = new LongAdder();
+
+    private ScheduledExecutorService syncer;
+
+    private PostSearchIndex() {}
+
+    // ================================
+    // 1. 시작 (DBUtil.startBackgroundServices 에서 호출) / 종료
+    //    - 시작하지 않으면 준비 전 상태 그대로 → 게시판은 LIKE 검색 (벤치마크처럼 syncNow 를 직접 부르면 준비됨)
+    // ================================
+    static synchronized void start() {
+        if (instance.syncer != null) return;
+        instance.syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "beehub-post-index");
+            t.setDaemon(true);
+            return t;
+        });
+        instance.syncer.execute(instance::syncQuietly);   // 처음 1번은 파일 읽기 또는 새로 만들기
+        instance.syncer.scheduleWithFixedDelay(instance::syncQuietly, SYNC_SEC, SYNC_SEC, TimeUnit.SECONDS);
+    }
+
+    static void saveOnShutdown() {
+        if (!instance.ready) return;
+        try {
+            instance.save();
+        } catch (IOException e) {
+            System.err.println("[PostSearchIndex] 색인 저장 실패: " + e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 준비될 때까지 기다림 (벤치마크 등), 시간 안에 준비되면 true */
+    public boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        return readyLatch.await(timeout, unit);
+    }
+
+    private void syncQuietly() {
+        try {
+            syncNow();
+        } catch (Exception e) {
+            System.err.println("[PostSearchIndex] DB 와 맞추기 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * DB 와 맞추기
+     * - 처음: 파일이 있으면 읽고 지워진 글/빠진 글/수정된 글만 반영, 없으면 전체 새로 만들기
+     * - 그 뒤: 마지막 post_id 뒤의 새 글 + 마지막 맞춘 시각 뒤에 수정된 글
+     * - 바뀐 것이 있으면 파일 저장
+     */
+    public synchronized void syncNow() throws SQLException, IOException {
+        try (Connection conn = DBUtil.getConnection()) {
+            if (conn == null) throw new SQLException("DB 연결 실패");
+            long dbNow = dbNow(conn);
+
+            if (!ready) {
+                long t0 = System.nanoTime();
+                boolean loaded = load();
+                if (loaded) {
+                    removeMissing(conn);
+                    indexChangedSince(conn, syncedAtMs - SYNC_SLACK_MS);
+                }
+                indexNewPosts(conn, loaded ? maxPostId() : 0);
+                setSyncedAt(dbNow);
+                source = loaded ? "file" : "rebuild";
+                lastLoadMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0);
+                ready = true;
+                readyLatch.countDown();
+                System.out.println("[PostSearchIndex] " + (loaded ? "파일에서 읽음" : "새로 만듦")
+                        + " (" + size() + "개, " + lastLoadMs + "ms)");
+            } else {
+                indexNewPosts(conn, maxPostId());
+                indexChangedSince(conn, syncedAtMs() - SYNC_SLACK_MS);
+                setSyncedAt(dbNow);
+            }
+            syncs.increment();
+        }
+        save();
+    }
+
+    private static long dbNow(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT CURRENT_TIMESTAMP");
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getTimestamp(1).getTime();
+        }
+    }
+
+    private static final String POST_SQL =
+            "SELECT p.post_id, p.title, p.content, " + CommunityDAO.NICKNAME_EXPR + " AS writer_nickname, p.is_deleted " +
+            "FROM community_post p LEFT JOIN members m ON p.writer_hakbun = m.hakbun ";
+
+    // afterPostId 뒤의 글 전부 (post_id 키셋으로 BATCH 개씩)
+    private void indexNewPosts(Connection conn, int afterPostId) throws SQLException {
+        int cursor = afterPostId;
+        while (true) {
+            int last = cursor;
+            int n = 0;
+            try (PreparedStatement ps = conn.prepareStatement(
+                    POST_SQL + "WHERE p.post_id > ? ORDER BY p.post_id LIMIT " + BATCH)) {
+                ps.setInt(1, cursor);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        last = rs.getInt("post_id");
+                        applyRow(rs);
+                        n++;
+                    }
+                }
+            }
+            if (n < BATCH) return;
+            cursor = last;
+        }
+    }
+
+    // 수정 시각이 sinceMs 이후인 글 (updatePost 가 updated_at 을 남김, idx_post_updated)
+    private void indexChangedSince(Connection conn, long sinceMs) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(POST_SQL + "WHERE p.updated_at >= ?")) {
+            ps.setTimestamp(1, new Timestamp(sinceMs));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) applyRow(rs);
+            }
+        }
+    }
+
+    // 파일에 있지만 DB 에는 없는 글(다른 PC 에서 삭제) 제거, 파일에 빠진 옛 번호 글은 다시 읽음
+    private void removeMissing(Connection conn) throws SQLException {
+        Set<Integer> alive = new HashSet<>();
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT post_id FROM community_post WHERE is_deleted = 0");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) alive.add(rs.getInt(1));
+        }
+
+        List<Integer> gone = new ArrayList<>();
+        List<Integer> missing = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Integer id : docs.keySet()) {
+                if (!alive.contains(id)) gone.add(id);
+            }
+            for (Integer id : alive) {
+                if (id <= maxPostId && !docs.containsKey(id)) missing.add(id);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int id : gone) remove(id);
+
+        // DB 를 새로 만든 경우 등: 남은 글 기준으로 마지막 번호를 다시 잡아야 새 글을 놓치지 않음
+        lock.writeLock().lock();
+        try {
+            int max = 0;
+            for (int id : docs.keySet()) max = Math.max(max, id);
+            maxPostId = max;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        for (int from = 0; from < missing.size(); from += BATCH) {
+            List<Integer> chunk = missing.subList(from, Math.min(from + BATCH, missing.size()));
+            StringBuilder in = new StringBuilder();
+            for (int i = 0; i < chunk.size(); i++) in.append(i == 0 ? "?" : ", ?");
+            try (PreparedStatement ps = conn.prepareStatement(POST_SQL + "WHERE p.post_id IN (" + in + ")")) {
+                for (int i = 0; i < chunk.size(); i++) ps.setInt(i + 1, chunk.get(i));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) applyRow(rs);
+                }
+            }
+        }
+    }
+
+    private void applyRow(ResultSet rs) throws SQLException {
+        int postId = rs.getInt("post_id");
+        if (rs.getInt("is_deleted") != 0) {
+            remove(postId);
+        } else {
+            put(postId, rs.getString("title"), rs.getString("content"), rs.getString("writer_nickname"));
+        }
+    }
+
+    // ================================
+    // 2. 색인 갱신 (CommunityDAO 에서 DB 반영 직후 호출)
+    // ================================
+
+    /** 글 1개 추가 (같은 post_id 가 있으면 교체) */
+    public void put(int postId, String title, String content, String writer) {
+        Map<String, Integer> counts = new HashMap<>();
+        int length = count(counts, title, W_TITLE) + count(counts, writer, W_WRITER) + count(counts, content, W_CONTENT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            int[] ids = new int[counts.size()];
+            int[] tfs = new int[counts.size()];
+            int n = 0;
+            for (Map.Entry<String, Integer> e : counts.entrySet()) {
+                ids[n] = termId(e.getKey());
+                tfs[n] = e.getValue();
+                n++;
+            }
+            sortByTerm(ids, tfs);
+            addLocked(postId, new Doc(ids, tfs, length, writer));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 제목/본문 수정 (작성자는 그대로), 색인에 없는 글이면 다음 맞추기에서 반영 */
+    public void update(int postId, String title, String content) {
+        Doc d;
+        lock.readLock().lock();
+        try {
+            d = docs.get(postId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (d != null) put(postId, title, content, d.writer);
+    }
+
+    /** 글 1개 제거 */
+    public void remove(int postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int maxPostId() {
+        lock.readLock().lock();
+        try {
+            return maxPostId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long syncedAtMs() {
+        lock.readLock().lock();
+        try {
+            return syncedAtMs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void setSyncedAt(long ms) {
+        lock.writeLock().lock();
+        try {
+            syncedAtMs = ms;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(int postId, Doc d) {
+        docs.put(postId, d);
+        dirty.add(postId);
+        totalLength += d.length;
+        maxPostId = Math.max(maxPostId, postId);
+        for (int i = 0; i < d.terms.length; i++) {
+            postings.get(d.terms[i]).put(postId, d.tfs[i]);
+        }
+        version++;
+    }
+
+    private void removeLocked(int postId) {
+        Doc d = docs.remove(postId);
+        if (d == null) return;
+        dirty.add(postId);
+        totalLength -= d.length;
+        for (int term : d.terms) {
+            postings.get(term).remove(postId);
+        }
+        version++;
+    }
+
+    private int termId(String term) {
+        Integer id = termIds.get(term);
+        if (id != null) return id;
+        int newId = terms.size();
+        termIds.put(term, newId);
+        terms.add(term);
+        postings.add(new Postings());
+        return newId;
+    }
+
+    // 필드 1개의 bigram 을 weight 배로 더하고, 더한 길이를 돌려줌
+    private static int count(Map<String, Integer> counts, String text, int weight) {
+        int length = 0;
+        for (String t : tokenize(text)) {
+            counts.merge(t, weight, Integer::sum);
+            length += weight;
+        }
+        return length;
+    }
+
+    private static void sortByTerm(int[] ids, int[] tfs) {
+        long[] packed = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) packed[i] = ((long) ids[i] << 32) | tfs[i];
+        Arrays.sort(packed);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (int) (packed[i] >>> 32);
+            tfs[i] = (int) packed[i];
+        }
+    }
+
+    // ================================
+    // 3. 검색 (BM25 점수 높은 순 → 최신 글 순, post_id 전체)
+    // ================================
+    public int[] search(String query) {
+        String q = (query == null) ? "" : query.trim();
+        if (q.isEmpty()) return NONE;
+        searches.increment();
+
+        lock.readLock().lock();
+        try {
+            Object[] last = lastResult;
+            if (last != null && q.equals(last[0]) && (Long) last[1] == version) {
+                return (int[]) last[2];
+            }
+
+            int[] result = rank(q);
+            lastResult = new Object[]{ q, version, result };
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 마지막 결과 캐시 없이 매번 계산 (벤치마크용) */
+    int[] searchUncached(String query) {
+        String q = (query == null) ? "" : query.trim();
+        if (q.isEmpty()) return NONE;
+        lock.readLock().lock();
+        try {
+            return rank(q);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] rank(String q) {
+        // 검색어 bigram 마다 "이 중 하나는 있어야 하는" term 묶음 (한 글자 단어는 그 글자로 시작/끝나는 bigram 전부)
+        List<int[]> groups = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String t : tokenize(q)) {
+            if (!seen.add(t)) continue;
+            int[] group = (t.length() == 1) ? termsWithChar(t.charAt(0)) : single(termIds.get(t));
+            if (group.length == 0) return NONE;
+            groups.add(group);
+        }
+        if (groups.isEmpty()) return NONE;
+
+        // 1) 후보: 묶음별 글 목록의 교집합 (짧은 목록부터)
+        List<int[]> lists = new ArrayList<>();
+        for (int[] group : groups) lists.add(docsOf(group));
+        lists.sort(Comparator.comparingInt(a -> a.length));
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+        if (candidates.length == 0) return NONE;
+
+        // 2) BM25: Σ idf × tf(k1+1) / (tf + k1(1 - b + b·len/avgLen))
+        int n = docs.size();
+        double avgLength = Math.max(1.0, (double) totalLength / Math.max(1, n));
+        List<Integer> scoreTerms = new ArrayList<>();
+        for (int[] group : groups) for (int term : group) scoreTerms.add(term);
+        double[] idf = new double[scoreTerms.size()];
+        for (int i = 0; i < idf.length; i++) {
+            int df = postings.get(scoreTerms.get(i)).size;
+            idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        }
+
+        long[] keys = new long[candidates.length];
+        for (int c = 0; c < candidates.length; c++) {
+            int doc = candidates[c];
+            double norm = K1 * (1 - B + B * docs.get(doc).length / avgLength);
+            double score = 0;
+            for (int i = 0; i < idf.length; i++) {
+                int tf = postings.get(scoreTerms.get(i)).tf(doc);
+                if (tf > 0) score += idf[i] * tf * (K1 + 1) / (tf + norm);
+            }
+            // (점수 내림차순, post_id 내림차순) 을 long 하나로 묶어 정렬
+            int quantized = (int) Math.min(Integer.MAX_VALUE, Math.round(score * 10_000));
+            keys[c] = ((long) (Integer.MAX_VALUE - quantized) << 32) | (Integer.MAX_VALUE - doc);
+        }
+        Arrays.sort(keys);
+
+        int[] ranked = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            ranked[i] = Integer.MAX_VALUE - (int) keys[i];
+        }
+        return ranked;
+    }
+
+    private static int[] single(Integer term) {
+        return (term == null) ? NONE : new int[]{ term };
+    }
+
+    private int[] termsWithChar(char c) {
+        List<Integer> found = new ArrayList<>();
+        for (int id = 0; id < terms.size(); id++) {
+            String t = terms.get(id);
+            if ((t.charAt(0) == c || t.charAt(t.length() - 1) == c) && postings.get(id).size > 0) found.add(id);
+        }
+        int[] out = new int[found.size()];
+        for (int i = 0; i < out.length; i++) out[i] = found.get(i);
+        return out;
+    }
+
+    // 묶음 안 term 들의 글 목록 합집합 (정렬)
+    private int[] docsOf(int[] group) {
+        if (group.length == 1) {
+            Postings p = postings.get(group[0]);
+            return Arrays.copyOf(p.docs, p.size);
+        }
+        Set<Integer> union = new HashSet<>();
+        for (int term : group) {
+            Postings p = postings.get(term);
+            for (int i = 0; i < p.size; i++) union.add(p.docs[i]);
+        }
+        int[] out = new int[union.size()];
+        int n = 0;
+        for (int doc : union) out[n++] = doc;
+        Arrays.sort(out);
+        return out;
+    }
+
+    // 정렬된 두 배열의 교집합
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // ================================
+    // 4. 자르기 (소문자, 글자/숫자가 이어진 부분마다 bigram, 한 글자면 그 글자)
+    // ================================
+    static List<String> tokenize(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null) return out;
+        String s = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < s.length()) {
+            if (!Character.isLetterOrDigit(s.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < s.length() && Character.isLetterOrDigit(s.charAt(i))) i++;
+            if (i - start == 1) {
+                out.add(s.substring(start, i));
+            } else {
+                for (int k = start; k + 2 <= i; k++) out.add(s.substring(k, k + 2));
+            }
+        }
+        return out;
+    }
+
+    // ================================
+    // 5. 파일 저장 / 읽기 (글별 term/tf 표 → 읽을 때 글 목록을 다시 만듦)
+    //    - 전체 파일: 머리말(baseId) + term 전체 + 글 전체
+    //    - 변경 기록: baseId + 저장할 때마다 묶음 1개 (새 term + 바뀐 글, 지운 글은 term 수 -1)
+    //      마지막 묶음이 덜 써졌으면(저장 중 종료) 그 묶음만 버림
+    // ================================
+    private void save() throws IOException {
+        if (FILE.isEmpty()) return;
+        Path target = Paths.get(FILE);
+        Path log = logPath(target);
+
+        synchronized (saveLock) {
+            // 1) 잠금 안: 저장할 내용만 복사 (Doc 은 바뀌지 않으므로 참조만)
+            boolean full;
+            long syncedAt;
+            int maxId;
+            long savingVersion;
+            List<String> newTerms;
+            int[] ids;
+            Doc[] saved;
+            lock.readLock().lock();
+            try {
+                if (version == savedVersion) return;
+                full = needCompact || !Files.isRegularFile(target)
+                        || loggedDocs + dirty.size() > Math.max(MIN_COMPACT_DOCS, docs.size() * COMPACT_RATIO);
+                syncedAt = syncedAtMs;
+                maxId = maxPostId;
+                savingVersion = version;
+                newTerms = new ArrayList<>(terms.subList(full ? 0 : savedTerms, terms.size()));
+                ids = new int[full ? docs.size() : dirty.size()];
+                int n = 0;
+                for (int id : (full ? docs.keySet() : dirty)) ids[n++] = id;
+                Arrays.sort(ids);
+                saved = new Doc[ids.length];
+                for (int i = 0; i < ids.length; i++) saved[i] = docs.get(ids[i]);
+                // put/remove 는 쓰기 잠금을 잡으므로 지금 dirty 를 바꾸는 쪽은 없음
+                dirty.clear();
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            // 2) 잠금 밖: 파일 쓰기 (실패하면 다음에 전체 다시 쓰기)
+            try {
+                if (full) {
+                    long newBaseId = System.nanoTime() ^ Double.doubleToLongBits(Math.random());
+                    writeFull(target, newBaseId, syncedAt, maxId, newTerms, ids, saved);
+                    Files.deleteIfExists(log);
+                    baseId = newBaseId;
+                    loggedDocs = 0;
+                    needCompact = false;
+                } else {
+                    appendLog(log, syncedAt, maxId, newTerms, ids, saved);
+                    loggedDocs += ids.length;
+                }
+            } catch (IOException e) {
+                needCompact = true;
+                throw e;
+            }
+            savedTerms = full ? newTerms.size() : savedTerms + newTerms.size();
+            lock.writeLock().lock();
+            try {
+                savedVersion = Math.max(savedVersion, savingVersion);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            saves.increment();
+        }
+    }
+
+    private static Path logPath(Path target) {
+        return target.resolveSibling(target.getFileName() + ".log");
+    }
+
+    private static void writeFull(Path target, long id, long syncedAt, int maxId,
+                                  List<String> allTerms, int[] ids, Doc[] saved) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, "post-search", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeLong(id);
+                out.writeLong(syncedAt);
+                out.writeInt(maxId);
+                out.writeInt(allTerms.size());
+                for (String t : allTerms) out.writeUTF(t);
+                out.writeInt(ids.length);
+                for (int i = 0; i < ids.length; i++) writeDoc(out, ids[i], saved[i]);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void appendLog(Path log, long syncedAt, int maxId,
+                           List<String> newTerms, int[] ids, Doc[] saved) throws IOException {
+        boolean fresh = !Files.isRegularFile(log);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(log,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+            if (fresh) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeLong(baseId);
+            }
+            out.writeLong(syncedAt);
+            out.writeInt(maxId);
+            out.writeInt(newTerms.size());
+            for (String t : newTerms) out.writeUTF(t);
+            out.writeInt(ids.length);
+            for (int i = 0; i < ids.length; i++) writeDoc(out, ids[i], saved[i]);
+        }
+    }
+
+    // 지운 글(d == null)은 term 수 -1
+    private static void writeDoc(DataOutputStream out, int id, Doc d) throws IOException {
+        out.writeInt(id);
+        if (d == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(d.terms.length);
+        out.writeInt(d.length);
+        out.writeUTF(d.writer == null ? "" : d.writer);
+        for (int i = 0; i < d.terms.length; i++) {
+            out.writeInt(d.terms[i]);
+            out.writeInt(d.tfs[i]);
+        }
+    }
+
+    // 글 수만큼 읽어서 out 에 담음 (지운 글은 null), term 번호가 범위를 벗어나면 false
+    private static boolean readDocs(DataInputStream in, int count, int termCount,
+                                    Map<Integer, Doc> out) throws IOException {
+        for (int i = 0; i < count; i++) {
+            int id = in.readInt();
+            int n = in.readInt();
+            if (n < 0) {
+                out.put(id, null);
+                continue;
+            }
+            int length = in.readInt();
+            String writer = in.readUTF();
+            int[] ids = new int[n];
+            int[] tfs = new int[n];
+            for (int k = 0; k < n; k++) {
+                ids[k] = in.readInt();
+                tfs[k] = in.readInt();
+                if (ids[k] < 0 || ids[k] >= termCount) return false;
+            }
+            out.put(id, new Doc(ids, tfs, length, writer));
+        }
+        return true;
+    }
+
+    // 파일이 없거나 형식이 다르면 false (→ 새로 만들기)
+    private boolean load() {
+        if (FILE.isEmpty()) return false;
+        Path file = Paths.get(FILE);
+        if (!Files.isRegularFile(file)) return false;
+
+        long id;
+        long syncedAt;
+        int maxId;
+        List<String> loadedTerms;
+        Map<Integer, Doc> loadedDocs;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) return false;
+            id = in.readLong();
+            syncedAt = in.readLong();
+            maxId = in.readInt();
+            int termCount = in.readInt();
+            loadedTerms = new ArrayList<>(termCount);
+            for (int i = 0; i < termCount; i++) loadedTerms.add(in.readUTF());
+
+            int docCount = in.readInt();
+            loadedDocs = new HashMap<>(docCount * 2);
+            if (!readDocs(in, docCount, termCount, loadedDocs)) return false;
+        } catch (IOException e) {
+            System.err.println("[PostSearchIndex] 색인 파일을 읽지 못해 새로 만듦: " + e.getMessage());
+            return false;
+        }
+
+        // 변경 기록: 온전한 묶음만 차례로 반영 (다른 전체 파일의 기록이거나 깨졌으면 거기서 멈춤 → 다음 저장 때 전체 다시 쓰기)
+        int logged = 0;
+        boolean logClean = true;
+        Path log = logPath(file);
+        if (Files.isRegularFile(log)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(log)))) {
+                if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION || in.readLong() != id) {
+                    logClean = false;
+                } else {
+                    while (in.available() > 0) {
+                        long batchSyncedAt = in.readLong();
+                        int batchMaxId = in.readInt();
+                        int newTermCount = in.readInt();
+                        List<String> batchTerms = new ArrayList<>(newTermCount);
+                        for (int i = 0; i < newTermCount; i++) batchTerms.add(in.readUTF());
+                        int docCount = in.readInt();
+                        Map<Integer, Doc> batchDocs = new LinkedHashMap<>();
+                        if (!readDocs(in, docCount, loadedTerms.size() + newTermCount, batchDocs)) {
+                            throw new IOException("term 번호 범위 오류");
+                        }
+                        loadedTerms.addAll(batchTerms);
+                        for (Map.Entry<Integer, Doc> e : batchDocs.entrySet()) {
+                            if (e.getValue() == null) loadedDocs.remove(e.getKey());
+                            else loadedDocs.put(e.getKey(), e.getValue());
+                        }
+                        syncedAt = batchSyncedAt;
+                        maxId = Math.max(maxId, batchMaxId);
+                        logged += docCount;
+                    }
+                }
+            } catch (IOException e) {
+                logClean = false;   // 덜 써진 마지막 묶음 등 → 그 앞까지만 반영
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            terms.clear();
+            postings.clear();
+            docs.clear();
+            totalLength = 0;
+            maxPostId = maxId;
+            for (String t : loadedTerms) termId(t);
+            Integer[] ids = loadedDocs.keySet().toArray(new Integer[0]);
+            Arrays.sort(ids);
+            // post_id 오름차순 → 목록 뒤에 붙이기만 하면 됨
+            for (int docId : ids) {
+                Doc d = loadedDocs.get(docId);
+                if (d != null) addLocked(docId, d);
+            }
+            syncedAtMs = syncedAt;
+            savedVersion = version;
+            dirty.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        synchronized (saveLock) {
+            baseId = id;
+            savedTerms = loadedTerms.size();
+            loggedDocs = logged;
+            needCompact = !logClean;
+        }
+        return true;
+    }
+
+    public Stats getStats() {
+        Stats s = new Stats();
+        s.ready = ready;
+        s.source = source;
+        lock.readLock().lock();
+        try {
+            s.docs = docs.size();
+            s.terms = termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+        s.searches = searches.sum();
+        s.syncs = syncs.sum();
+        s.saves = saves.sum();
+        s.lastLoadMs = lastLoadMs;
+        return s;
+    }
+}
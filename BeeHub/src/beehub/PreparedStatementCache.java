@@ -0,0 +1,220 @@
+package beehub;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 풀 커넥션 1개에 붙어 있는 PreparedStatement LRU 캐시
+ * - 키: SQL 문자열 (+ RETURN_GENERATED_KEYS 여부)
+ * - DAO 가 pstmt.close() 를 호출해도 실제로 닫지 않고 캐시에 돌려놓는다.
+ * - 같은 SQL 을 같은 커넥션에서 동시에 두 번 열면 두 번째 것은 캐시하지 않는다.
+ *   (그래도 같은 프록시로 감싸서 close()/getConnection() 은 풀 방식 그대로)
+ * - 커넥션이 풀에 반납될 때 close() 되지 않은 Statement 는 전부 폐기 (reclaim)
+ */
+class PreparedStatementCache {
+
+    // 풀 전체에서 합산하는 카운터
+    static class Counters {
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final AtomicLong evictions = new AtomicLong();
+    }
+
+    private static class Holder {
+        final PreparedStatement physical;
+        boolean inUse;
+        boolean evicted;
+
+        Holder(PreparedStatement physical) { this.physical = physical; }
+    }
+
+    private final Connection physicalConn;
+    private final int maxSize;
+    private final Counters counters;
+    private Connection owner;   // getConnection() 에서 돌려줄 풀 프록시
+    private final List<Holder> uncached = new ArrayList<>();   // 캐시하지 않고 내준 것 (사용 중)
+
+    private final LinkedHashMap<String, Holder> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Holder> eldest) {
+            if (size() <= maxSize) return false;
+
+            Holder h = eldest.getValue();
+            h.evicted = true;
+            counters.evictions.incrementAndGet();
+            if (!h.inUse) closeQuietly(h.physical);   // 사용 중이면 반납될 때 닫는다
+            return true;
+        }
+    };
+
+    PreparedStatementCache(Connection physicalConn, int maxSize, Counters counters) {
+        this.physicalConn = physicalConn;
+        this.maxSize = maxSize;
+        this.counters = counters;
+    }
+
+    void setOwner(Connection owner) {
+        this.owner = owner;
+    }
+
+    // ================================
+    // 1. 캐시에서 꺼내거나 새로 prepare
+    //    autoGeneratedKeys < 0 이면 prepareStatement(sql) 버전
+    // ================================
+    synchronized PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        String key = autoGeneratedKeys < 0 ? sql : autoGeneratedKeys + "|" + sql;
+
+        Holder h = cache.get(key);
+        if (h != null && !h.inUse) {
+            counters.hits.incrementAndGet();
+            h.inUse = true;
+            return wrap(h);
+        }
+
+        counters.misses.incrementAndGet();
+        PreparedStatement stmt = (autoGeneratedKeys < 0)
+                ? physicalConn.prepareStatement(sql)
+                : physicalConn.prepareStatement(sql, autoGeneratedKeys);
+
+        Holder created = new Holder(stmt);
+        created.inUse = true;
+        if (h == null && maxSize > 0) {
+            cache.put(key, created);
+        } else {
+            // 같은 SQL 이 이미 사용 중이거나 캐시 꺼짐 → 이번 것은 close() 할 때 실제로 닫기
+            created.evicted = true;
+            uncached.add(created);
+        }
+        return wrap(created);
+    }
+
+    private synchronized void giveBack(Holder h) {
+        if (!h.inUse) return;   // reclaim 에서 이미 정리됨
+        h.inUse = false;
+        if (h.evicted) {
+            uncached.remove(h);
+            closeQuietly(h.physical);
+            return;
+        }
+        try {
+            ResultSet rs = h.physical.getResultSet();
+            if (rs != null) rs.close();
+            h.physical.clearParameters();
+            h.physical.clearBatch();
+        } catch (SQLException e) {
+            // 재사용 준비 실패 → 캐시에서 빼고 닫기
+            h.evicted = true;
+            cache.values().remove(h);
+            closeQuietly(h.physical);
+        }
+    }
+
+    // ================================
+    // 2. 커넥션 반납 시: close() 안 된 Statement 폐기 → 다음 대여자는 항상 캐시를 그대로 쓸 수 있음
+    //    (예전 프록시는 물리 Statement 가 닫혀서 더 이상 쓸 수 없음)
+    //    반환값: 폐기한 개수
+    // ================================
+    synchronized int reclaim() {
+        int count = 0;
+        Iterator<Holder> it = cache.values().iterator();
+        while (it.hasNext()) {
+            Holder h = it.next();
+            if (!h.inUse) continue;
+            h.inUse = false;
+            h.evicted = true;
+            closeQuietly(h.physical);
+            counters.evictions.incrementAndGet();
+            it.remove();
+            count++;
+        }
+        for (Holder h : uncached) {
+            h.inUse = false;
+            closeQuietly(h.physical);
+            count++;
+        }
+        uncached.clear();
+        return count;
+    }
+
+    // ================================
+    // 3. 커넥션 폐기 시 전부 닫기
+    // ================================
+    synchronized void closeAll() {
+        Iterator<Holder> it = cache.values().iterator();
+        while (it.hasNext()) {
+            closeQuietly(it.next().physical);
+            it.remove();
+        }
+        for (Holder h : uncached) {
+            closeQuietly(h.physical);
+        }
+        uncached.clear();
+    }
+
+    synchronized int size() {
+        return cache.size();
+    }
+
+    private static void closeQuietly(Statement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException ignore) {
+        }
+    }
+
+    // close() 를 "캐시에 돌려놓기"로 바꿔주는 프록시
+    private PreparedStatement wrap(Holder h) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean logicallyClosed;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!logicallyClosed) {
+                            logicallyClosed = true;
+                            giveBack(h);
+                        }
+                        return null;
+                    case "isClosed":
+                        return logicallyClosed || h.physical.isClosed();
+                    case "getConnection":
+                        return owner != null ? owner : h.physical.getConnection();
+                    case "toString":
+                        return "CachedPreparedStatement[" + h.physical + "]";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        break;
+                }
+
+                if (logicallyClosed) {
+                    throw new SQLException("이미 닫힌 PreparedStatement 입니다.");
+                }
+                try {
+                    return method.invoke(h.physical, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        };
+
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, handler);
+    }
+}
@@ -0,0 +1,243 @@
+package beehub;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SQL 템플릿별 실행 통계 + 느린 쿼리 로그
+ * - DBUtil 이 내주는 Connection/PreparedStatement 프록시(JdbcInstrumentation)가 기록한다.
+ * - 관리자 화면(AdminMainFrame)에서 보거나, -Dbeehub.sql.statsFile=경로 지정 시 종료할 때 파일로 저장
+ *
+ * 설정
+ *  -Dbeehub.sql.instrument=false   : 계측 끄기
+ *  -Dbeehub.sql.slowMs=200         : 느린 쿼리 기준 (ms)
+ *  -Dbeehub.sql.slowLog=slow-query.log : 느린 쿼리 로그 파일
+ */
+public class QueryStats {
+
+    static {
+        DataSourceConfig.loadExternalProperties();   // beehub.properties 의 beehub.sql.* 반영
+    }
+
+    static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("beehub.sql.instrument", "true"));
+    static final long SLOW_THRESHOLD_MS = Long.getLong("beehub.sql.slowMs", 200L);
+    private static final String SLOW_LOG = System.getProperty("beehub.sql.slowLog", "slow-query.log");
+    private static final String STATS_FILE = System.getProperty("beehub.sql.statsFile");
+
+    private static final DateTimeFormatter TS_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    // 원본 SQL 문자열 → 통계 (같은 상수 문자열이면 정규화 없이 바로 찾기)
+    private static final Map<String, SqlStat> byRawSql = new ConcurrentHashMap<>();
+    // 공백 정규화된 템플릿 → 통계
+    private static final Map<String, SqlStat> byTemplate = new ConcurrentHashMap<>();
+
+    private static final AtomicLong slowCount = new AtomicLong();
+
+    static {
+        if (STATS_FILE != null && !STATS_FILE.isEmpty()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    dumpToFile(Paths.get(STATS_FILE));
+                } catch (IOException e) {
+                    System.err.println("SQL 통계 저장 실패: " + e.getMessage());
+                }
+            }, "beehub-sql-stats-dump"));
+        }
+    }
+
+    private QueryStats() {}
+
+    // ================================
+    // 📊 SQL 템플릿 1개의 통계
+    // ================================
+    public static class SqlStat {
+        public final String template;
+        final AtomicLong calls = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong rows = new AtomicLong();
+        final AtomicLong totalMicros = new AtomicLong();
+        final AtomicLong maxMicros = new AtomicLong();
+        final Histogram latency = new Histogram();
+
+        SqlStat(String template) { this.template = template; }
+
+        public long getCalls()  { return calls.get(); }
+        public long getErrors() { return errors.get(); }
+        public long getRows()   { return rows.get(); }
+        public double getAvgMs() {
+            long c = calls.get();
+            return c == 0 ? 0 : totalMicros.get() / 1000.0 / c;
+        }
+        public double getMaxMs() { return maxMicros.get() / 1000.0; }
+        public double percentileMs(double p) {
+            // 구간 상한값이 실제 최댓값보다 클 수 있으므로 max 로 자름
+            return Math.min(latency.percentile(p), maxMicros.get()) / 1000.0;
+        }
+    }
+
+    // ================================
+    // 📈 지연 시간 히스토그램 (µs, 2배 구간마다 8칸 → 오차 12.5% 이내)
+    // ================================
+    static class Histogram {
+        private static final int SUB_BITS = 3;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+        private static final int BUCKETS = SUB_COUNT + (63 - SUB_BITS) * SUB_COUNT;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong total = new AtomicLong();
+
+        void record(long micros) {
+            counts.incrementAndGet(index(Math.max(0, micros)));
+            total.incrementAndGet();
+        }
+
+        private static int index(long v) {
+            if (v < SUB_COUNT) return (int) v;
+            int exp = 63 - Long.numberOfLeadingZeros(v);
+            int sub = (int) ((v >>> (exp - SUB_BITS)) & (SUB_COUNT - 1));
+            return SUB_COUNT + (exp - SUB_BITS) * SUB_COUNT + sub;
+        }
+
+        // 구간의 상한값 (보고용)
+        private static long upperBound(int idx) {
+            if (idx < SUB_COUNT) return idx;
+            int exp = (idx - SUB_COUNT) / SUB_COUNT + SUB_BITS;
+            int sub = (idx - SUB_COUNT) % SUB_COUNT;
+            return ((long) (SUB_COUNT + sub + 1) << (exp - SUB_BITS)) - 1;
+        }
+
+        long percentile(double p) {
+            long n = total.get();
+            if (n == 0) return 0;
+            long rank = (long) Math.ceil(n * p / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= rank) return upperBound(i);
+            }
+            return upperBound(BUCKETS - 1);
+        }
+    }
+
+    // ================================
+    // 1. 기록 (JdbcInstrumentation 에서 호출)
+    // ================================
+    static SqlStat statFor(String sql) {
+        SqlStat stat = byRawSql.get(sql);
+        if (stat != null) return stat;
+
+        String template = normalize(sql);
+        stat = byTemplate.computeIfAbsent(template, SqlStat::new);
+        byRawSql.putIfAbsent(sql, stat);
+        return stat;
+    }
+
+    static void record(SqlStat stat, long micros, long rows, boolean error) {
+        stat.calls.incrementAndGet();
+        if (error) stat.errors.incrementAndGet();
+        if (rows > 0) stat.rows.addAndGet(rows);
+        stat.totalMicros.addAndGet(micros);
+        stat.maxMicros.accumulateAndGet(micros, Math::max);
+        stat.latency.record(micros);
+    }
+
+    static void logSlow(SqlStat stat, long micros, Map<Integer, Object> binds) {
+        slowCount.incrementAndGet();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(LocalDateTime.now().format(TS_FMT)).append("] ")
+          .append(String.format("%.1fms", micros / 1000.0)).append(" | ")
+          .append(stat.template);
+        if (binds != null && !binds.isEmpty()) {
+            sb.append(" | binds=").append(binds);
+        }
+        sb.append(System.lineSeparator());
+
+        try {
+            Files.write(Paths.get(SLOW_LOG), sb.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("느린 쿼리 로그 기록 실패: " + e.getMessage());
+        }
+    }
+
+    // 공백/개행 정리 → 같은 SQL 은 같은 템플릿으로 묶임
+    static String normalize(String sql) {
+        return sql.trim().replaceAll("\\s+", " ");
+    }
+
+    // ================================
+    // 2. 조회 / 출력
+    // ================================
+
+    /** 누적 실행 시간 순으로 정렬된 통계 목록 */
+    public static List<SqlStat> snapshot() {
+        List<SqlStat> list = new ArrayList<>(byTemplate.values());
+        list.sort(Comparator.comparingLong((SqlStat s) -> s.totalMicros.get()).reversed());
+        return list;
+    }
+
+    public static long getSlowCount() {
+        return slowCount.get();
+    }
+
+    public static void reset() {
+        byRawSql.clear();
+        byTemplate.clear();
+        slowCount.set(0);
+    }
+
+    public static void dump(Writer out) {
+        PrintWriter pw = new PrintWriter(out);
+        pw.printf("# BeeHub SQL 통계 (%s)%n", LocalDateTime.now().format(TS_FMT));
+        ConnectionPool.Stats pool = DBUtil.getPoolStats();
+        if (pool != null) pw.println("# pool: " + pool);
+        ReplicaRouter.Stats replica = DBUtil.getReplicaStats();
+        if (replica != null) pw.println("# replica: " + replica);
+        pw.printf("# slow queries (>= %dms): %d, log=%s%n", SLOW_THRESHOLD_MS, slowCount.get(), SLOW_LOG);
+        for (TxRetry.OpStat t : TxRetry.snapshot()) {
+            pw.printf("# tx %s: calls=%d, retries=%d, recovered=%d, exhausted=%d, failures=%d%n",
+                    t.operation, t.getCalls(), t.getRetries(), t.getRecovered(), t.getExhausted(), t.getFailures());
+        }
+        pw.println();
+
+        pw.printf("%8s %6s %9s %9s %9s %9s %9s %9s  %s%n",
+                "calls", "errors", "rows", "avg(ms)", "p50", "p95", "p99", "max", "sql");
+        for (SqlStat s : snapshot()) {
+            pw.printf("%8d %6d %9d %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    s.getCalls(), s.getErrors(), s.getRows(), s.getAvgMs(),
+                    s.percentileMs(50), s.percentileMs(95), s.percentileMs(99), s.getMaxMs(),
+                    s.template);
+        }
+        pw.flush();
+    }
+
+    public static String dumpToString() {
+        StringWriter sw = new StringWriter();
+        dump(sw);
+        return sw.toString();
+    }
+
+    public static void dumpToFile(Path path) throws IOException {
+        try (Writer w = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            dump(w);
+        }
+    }
+}
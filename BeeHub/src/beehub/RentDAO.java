@@ -5,8 +5,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 // RentManager의 역할을 대체하는 데이터 접근 객체 (DAO)
 public class RentDAO {
@@ -17,7 +23,7 @@ public class RentDAO {
     public static RentDAO getInstance() { return instance; }
 
     // ResultSet에서 Rent 객체로 데이터를 매핑
-    private Rent getRentFromResultSet(ResultSet rs) throws SQLException {
+    Rent getRentFromResultSet(ResultSet rs) throws SQLException {
         return new Rent(
             rs.getInt("rental_id"),
             rs.getInt("item_id"), // DB에서는 int item_id 사용
@@ -102,6 +108,169 @@ public class RentDAO {
     }
 
     
+    // ================================
+    // 📄 관리자 대여 목록 (필터 + 페이지 단위 조회)
+    // ================================
+
+    // 목록 필터 (null / false 인 조건은 적용 안 함)
+    public static class RentFilter {
+        public enum Status { ALL, ACTIVE, OVERDUE, RETURNED }
+
+        public Status status = Status.ALL;
+        public Integer itemId;          // 물품
+        public String renter;           // 학번(정확히) 또는 이름(앞부분)
+        public LocalDate rentFrom;      // 대여일 범위 (포함)
+        public LocalDate rentTo;
+    }
+
+    // 한 페이지 결과 + 다음 페이지 커서
+    public static class RentPage {
+        public final List<Rent> rows;
+        public final Integer nextCursor;   // 다음 페이지 조회 시 afterRentalId 로 넘길 값 (마지막 페이지면 null)
+
+        RentPage(List<Rent> rows, Integer nextCursor) {
+            this.rows = rows;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    // 상태별 건수 (상태 외 필터는 적용한 결과)
+    public static class RentCounts {
+        public int total;
+        public int active;      // 미반납 (연체 포함)
+        public int overdue;     // 미반납 + 반납 예정일 지남
+        public int returned;
+
+        public int of(RentFilter.Status status) {
+            switch (status) {
+                case ACTIVE:   return active;
+                case OVERDUE:  return overdue;
+                case RETURNED: return returned;
+                default:       return total;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("total=%d, active=%d, overdue=%d, returned=%d", total, active, overdue, returned);
+        }
+    }
+
+    private static final String RENT_COLUMNS =
+            "r.rental_id, r.item_id, r.item_name, r.renter_id, m.name AS renter_name, " +
+            "r.rent_date, r.due_date, r.return_date, r.is_returned ";
+
+    /**
+     * 대여 기록 한 페이지 (rental_id 내림차순, 키셋 방식)
+     * - afterRentalId: 앞 페이지의 nextCursor (첫 페이지면 null) → "rental_id < 커서" 로 이어서 읽으므로
+     *   뒤 페이지로 갈수록 느려지는 OFFSET 없이 PK 범위 검색만
+     * - pageSize + 1 건을 읽어 다음 페이지가 있는지 판단
+     */
+    public RentPage getRentalsPage(RentFilter filter, Integer afterRentalId, int pageSize, LocalDate today)
+            throws SQLException {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(RENT_COLUMNS)
+                .append("FROM RENTAL r JOIN members m ON r.renter_id = m.hakbun WHERE 1 = 1");
+        appendFilter(sql, params, filter, today, true);
+        if (afterRentalId != null) {
+            sql.append(" AND r.rental_id < ?");
+            params.add(afterRentalId);
+        }
+        sql.append(" ORDER BY r.rental_id DESC LIMIT ?");
+        params.add(pageSize + 1);
+
+        List<Rent> rows = new ArrayList<>();
+        try (Connection conn = DBUtil.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(getRentFromResultSet(rs));
+                }
+            }
+        }
+
+        Integer next = null;
+        if (rows.size() > pageSize) {
+            rows.remove(pageSize);
+            next = rows.get(pageSize - 1).getRentalId();
+        }
+        return new RentPage(rows, next);
+    }
+
+    /** 필터(상태 제외)에 맞는 상태별 건수 (쿼리 1번) */
+    public RentCounts countRentals(RentFilter filter, LocalDate today) throws SQLException {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(
+                "SELECT COUNT(*) AS total, " +
+                "       COALESCE(SUM(CASE WHEN r.is_returned = 0 THEN 1 ELSE 0 END), 0) AS active, " +
+                "       COALESCE(SUM(CASE WHEN r.is_returned = 0 AND r.due_date < ? THEN 1 ELSE 0 END), 0) AS overdue " +
+                "FROM RENTAL r JOIN members m ON r.renter_id = m.hakbun WHERE 1 = 1");
+        params.add(java.sql.Date.valueOf(today));
+        appendFilter(sql, params, filter, today, false);
+
+        RentCounts counts = new RentCounts();
+        try (Connection conn = DBUtil.getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    counts.total = rs.getInt("total");
+                    counts.active = rs.getInt("active");
+                    counts.overdue = rs.getInt("overdue");
+                    counts.returned = counts.total - counts.active;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static void appendFilter(StringBuilder sql, List<Object> params, RentFilter f,
+                                     LocalDate today, boolean withStatus) {
+        if (f == null) return;
+
+        if (withStatus) {
+            switch (f.status) {
+                case ACTIVE:
+                    sql.append(" AND r.is_returned = 0");
+                    break;
+                case OVERDUE:
+                    sql.append(" AND r.is_returned = 0 AND r.due_date < ?");
+                    params.add(java.sql.Date.valueOf(today));
+                    break;
+                case RETURNED:
+                    sql.append(" AND r.is_returned = 1");
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (f.itemId != null) {
+            sql.append(" AND r.item_id = ?");
+            params.add(f.itemId);
+        }
+        if (f.renter != null && !f.renter.isBlank()) {
+            String kw = f.renter.trim();
+            sql.append(" AND (r.renter_id = ? OR m.name LIKE ?)");
+            params.add(kw);
+            params.add(kw.replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        if (f.rentFrom != null) {
+            sql.append(" AND r.rent_date >= ?");
+            params.add(java.sql.Date.valueOf(f.rentFrom));
+        }
+        if (f.rentTo != null) {
+            sql.append(" AND r.rent_date <= ?");
+            params.add(java.sql.Date.valueOf(f.rentTo));
+        }
+    }
+
+    private static void bind(PreparedStatement pstmt, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            pstmt.setObject(i + 1, params.get(i));
+        }
+    }
+
     // 3. 사용자의 미반납 대여 건수 조회 (getCurrentRentalCount)
     // ItemDetailFrame에서 PenaltyManager가 호출하던 로직을 DB에서 가져옴
     public int getCurrentRentalCount(String renterId) {
@@ -129,29 +298,155 @@ public class RentDAO {
         return count;
     }
 
-    // 4. 물품 반납 처리 (returnItem)
+    // 4. 물품 반납 처리 (returnItem) → 여러 건 반납과 같은 트랜잭션 (재고 +1, 포인트/정지까지 함께)
     public boolean returnItem(int rentalId) {
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        String sql = "UPDATE RENTAL SET is_returned = TRUE, return_date = ? WHERE rental_id = ? AND is_returned = FALSE";
-        
         try {
-            conn = DBUtil.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setDate(1, java.sql.Date.valueOf(LocalDate.now())); // 현재 날짜로 반납일 기록
-            pstmt.setInt(2, rentalId);
-            
-            return pstmt.executeUpdate() > 0;
-            
+            return returnRentals(List.of(rentalId), LocalDate.now()).returned > 0;
         } catch (SQLException e) {
             System.err.println("returnItem DB 오류: " + e.getMessage());
             e.printStackTrace();
             return false;
-        } finally {
-            DBUtil.close(conn, pstmt);
         }
     }
     
+    // ================================
+    // 📦 여러 건 한 번에 반납 (관리자 반납함 처리)
+    // ================================
+
+    // 반납 시 포인트 (제때 반납 +10꿀, 연체 -50꿀)
+    public static final int RETURN_ON_TIME_POINT = 10;
+    public static final int RETURN_OVERDUE_POINT = -50;
+
+    // 반납 처리 결과
+    public static class ReturnSummary {
+        public int requested;    // 요청한 건수
+        public int returned;     // 실제로 반납 처리한 건수
+        public int skipped;      // 이미 반납됐거나 없는 대여 기록
+        public int onTime;       // 제때 반납 (+10꿀)
+        public int overdue;      // 연체 반납 (-50꿀 + 연체 일수만큼 대여 정지)
+        public int items;        // 재고를 늘린 물품 종류 수
+        public int members;      // 포인트/정지가 바뀐 회원 수
+
+        @Override
+        public String toString() {
+            return String.format("requested=%d, returned=%d, skipped=%d, onTime=%d, overdue=%d, items=%d, members=%d",
+                    requested, returned, skipped, onTime, overdue, items, members);
+        }
+    }
+
+    /**
+     * 대여 기록 여러 건 반납 (트랜잭션 1개)
+     * - 아직 반납 안 된 기록만 잠그고 골라서 한 번에 반납 처리
+     * - 재고: 물품별로 묶어서 UPDATE 1번씩 (ItemDAO.restock)
+     * - 포인트: 회원별로 합쳐서 UPDATE 1번씩, 연체면 연체 일수만큼 대여 정지 (기존 정지가 더 길면 유지)
+     * - 중간에 실패하면 전부 rollback
+     */
+    public ReturnSummary returnRentals(Collection<Integer> rentalIds, LocalDate today) throws SQLException {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(rentalIds));
+        if (ids.isEmpty()) return new ReturnSummary();
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+
+        return DBUtil.inTransaction("rental.bulkReturn", conn -> {
+            ReturnSummary summary = new ReturnSummary();
+            summary.requested = ids.size();
+
+            // 1️⃣ 아직 반납 안 된 기록만 잠그고 가져오기 (다른 관리자와 동시에 눌러도 한 번만 처리)
+            List<Integer> targets = new ArrayList<>();
+            Map<String, List<Integer>> returnedItems = new HashMap<>(); // 학번 → 반납한 item_id (대여 가능 캐시 갱신용)
+            Map<Integer, Integer> restock = new HashMap<>();       // item_id → 수량
+            Map<String, Integer> points = new HashMap<>();         // 학번 → 포인트 변화
+            Map<String, Long> banDays = new HashMap<>();           // 학번 → 가장 긴 연체 일수
+            List<Runnable> usage = new ArrayList<>();              // commit 후 이용 통계 기록
+
+            String lockSql = "SELECT rental_id, item_id, renter_id, rent_date, due_date FROM RENTAL "
+                           + "WHERE rental_id IN (" + placeholders + ") AND is_returned = FALSE FOR UPDATE";
+            try (PreparedStatement pstmt = conn.prepareStatement(lockSql)) {
+                for (int i = 0; i < ids.size(); i++) pstmt.setInt(i + 1, ids.get(i));
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        targets.add(rs.getInt("rental_id"));
+                        restock.merge(rs.getInt("item_id"), 1, Integer::sum);
+
+                        String renterId = rs.getString("renter_id");
+                        int itemId = rs.getInt("item_id");
+                        LocalDate rentDate = rs.getDate("rent_date").toLocalDate();
+                        LocalDate dueDate = rs.getDate("due_date").toLocalDate();
+                        returnedItems.computeIfAbsent(renterId, k -> new ArrayList<>()).add(itemId);
+                        usage.add(() -> ItemUsageAnalytics.getInstance().returned(itemId, rentDate, dueDate, today));
+                        long overdueDays = ChronoUnit.DAYS.between(dueDate, today);
+                        if (overdueDays > 0) {
+                            summary.overdue++;
+                            points.merge(renterId, RETURN_OVERDUE_POINT, Integer::sum);
+                            banDays.merge(renterId, overdueDays, Math::max);
+                        } else {
+                            summary.onTime++;
+                            points.merge(renterId, RETURN_ON_TIME_POINT, Integer::sum);
+                        }
+                    }
+                }
+            }
+            summary.returned = targets.size();
+            summary.skipped = ids.size() - targets.size();
+            if (targets.isEmpty()) return summary;
+
+            // 2️⃣ 재고 (물품별 1번, 러시 모드 카운터 때문에 반납 표시보다 먼저)
+            ItemDAO.getInstance().restock(conn, restock);
+            summary.items = restock.size();
+
+            // 3️⃣ 반납 표시 (한 문장)
+            String returnSql = "UPDATE RENTAL SET is_returned = TRUE, return_date = ? WHERE rental_id IN ("
+                             + String.join(", ", Collections.nCopies(targets.size(), "?")) + ")";
+            try (PreparedStatement pstmt = conn.prepareStatement(returnSql)) {
+                pstmt.setDate(1, java.sql.Date.valueOf(today));
+                for (int i = 0; i < targets.size(); i++) pstmt.setInt(i + 2, targets.get(i));
+                pstmt.executeUpdate();
+            }
+
+            // 4️⃣ 포인트 (회원별 1번)
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "UPDATE members SET point = point + ? WHERE hakbun = ?")) {
+                for (Map.Entry<String, Integer> e : points.entrySet()) {
+                    pstmt.setInt(1, e.getValue());
+                    pstmt.setString(2, e.getKey());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+            summary.members = points.size();
+
+            // 5️⃣ 연체 대여 정지 (PenaltyManager.setRentalBan 과 같은 규칙: 오늘부터 연체 일수만큼)
+            if (!banDays.isEmpty()) {
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "UPDATE members SET rental_ban_end_date = GREATEST(COALESCE(rental_ban_end_date, ?), ?) "
+                      + "WHERE hakbun = ?")) {
+                    for (Map.Entry<String, Long> e : banDays.entrySet()) {
+                        java.sql.Date until = java.sql.Date.valueOf(today.plusDays(e.getValue()));
+                        pstmt.setDate(1, until);
+                        pstmt.setDate(2, until);
+                        pstmt.setString(3, e.getKey());
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                }
+            }
+
+            // 6️⃣ commit 후 회원별 대여 가능 스냅샷 고쳐 쓰기 (RentalEligibility) + 메인 화면 일정 캐시 버리기 + 이용 통계
+            DBUtil.afterCommit(() -> {
+                returnedItems.forEach((renterId, itemIds) -> {
+                    Long days = banDays.get(renterId);
+                    LocalDate banUntil = (days == null) ? null : today.plusDays(days);
+                    for (int itemId : itemIds) {
+                        RentalEligibility.getInstance().returned(renterId, itemId, banUntil);
+                    }
+                    DashboardDAO.getInstance().invalidate(renterId);
+                });
+                usage.forEach(Runnable::run);
+            });
+            return summary;
+        });
+    }
+
     public boolean isItemCurrentlyRented(int itemId) {
          Connection conn = null;
          PreparedStatement pstmt = null;
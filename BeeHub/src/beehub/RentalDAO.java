@@ -7,78 +7,127 @@ import java.util.List;
 
 public class RentalDAO {
 
+    // 한 사람이 동시에 빌릴 수 있는 물품 수
+    public static final int MAX_ACTIVE_RENTALS = 2;
+
     // ============================================================
-    // ✅ (중요) 같은 사람이 같은 물품을 이미 대여 중인지 체크
+    // ✅ 대여 결과 (실패 이유를 화면에 그대로 보여줄 수 있게)
     // ============================================================
-    private boolean hasActiveRental(String userId, int itemId) {
-        String sql = "SELECT COUNT(*) " +
-                     "FROM RENTAL " +
-                     "WHERE renter_id = ? AND item_id = ? AND is_returned = 0";
+    public enum RentResult {
+        SUCCESS("대여가 완료되었습니다."),
+        ALREADY_RENTED("이미 이 물품을 대여 중입니다."),
+        LIMIT_REACHED("물품은 최대 " + MAX_ACTIVE_RENTALS + "개까지만\n동시 대여 가능합니다."),
+        OUT_OF_STOCK("남은 재고가 없습니다."),
+        ITEM_NOT_FOUND("물품 정보를 찾을 수 없습니다."),
+        UNKNOWN_USER("회원 정보를 찾을 수 없습니다."),
+        BANNED("연체 패널티로 인해\n대여가 정지된 상태입니다.");
 
-        try (Connection conn = DBUtil.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        public final String message;
 
-            pstmt.setString(1, userId);
-            pstmt.setInt(2, itemId);
+        RentResult(String message) { this.message = message; }
+    }
 
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    int count = rs.getInt(1);
-                    return count > 0;  // 이미 대여 중이면 true
-                }
-            }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+    private static final String LOCK_MEMBER_SQL =
+            "SELECT hakbun, rental_ban_end_date FROM members WHERE hakbun = ? FOR UPDATE";
 
-        // 에러 발생 시 기본 false (대여 중이 아닌 것으로 간주)
-        return false;
-    }
+    // 미반납 전체 건수 + 그중 이 물품 건수
+    private static final String ACTIVE_COUNT_SQL =
+            "SELECT COUNT(*) AS total, " +
+            "       COALESCE(SUM(CASE WHEN item_id = ? THEN 1 ELSE 0 END), 0) AS same_item " +
+            "FROM RENTAL WHERE renter_id = ? AND is_returned = 0";
+
+    private static final String INSERT_RENTAL_SQL =
+            "INSERT INTO RENTAL " +
+            "(item_id, item_name, renter_id, renter_name, rent_date, due_date, return_date, is_returned) " +
+            "VALUES (?, ?, ?, ?, ?, ?, NULL, 0)";
 
     // ============================================================
-    // ✅ 대여 생성 (재고 감소 → RENTAL INSERT)
+    // ✅ 대여 생성 (중복/개수 검사 → 재고 감소 → RENTAL INSERT, 트랜잭션 1개)
+    //    - 회원 행을 잠가서 같은 사람의 대여 요청은 한 번에 하나씩 (개수 제한이 정확)
+    //    - 재고는 "available_stock > 0" 조건부 UPDATE 한 문장으로 검사+감소 → 초과 대여 없음
+    //      (러시 모드면 ItemDAO 가 메모리 카운터에서 차감, 예외로 rollback 되면 자동으로 되돌림)
+    //    - RENTAL 의 uq_rental_active (미반납 중복 금지) 가 마지막 안전장치
+    //    - 데드락/락 대기 초과는 자동 재시도 (DBUtil.inTransaction(이름, 작업))
+    //    - 결과에 맞춰 RentalEligibility 캐시도 고침 (성공 → commit 후 반영, 거절 → 캐시가 낡았으니 버림)
     // ============================================================
-    public boolean createRental(Item item, String userId,
-                                LocalDate rentDate, LocalDate dueDate) throws SQLException {
-
+    public RentResult rentItem(Item item, String userId, String renterName,
+                               LocalDate rentDate, LocalDate dueDate) throws SQLException {
         int itemId = item.getItemId();
 
-        // ---------------------------------
-        // 0️⃣ 동일 물품 중복 대여 방지 체크
-        // ---------------------------------
-        if (hasActiveRental(userId, itemId)) {
-            return false;  // 이미 대여 중
-        }
+        RentResult result;
+        try {
+            result = DBUtil.inTransaction("rental.create", conn -> {
+                // 0️⃣ 회원 잠금 (없는 회원이면 실패) + 대여 정지 확인 (종료일 당일부터 대여 가능)
+                try (PreparedStatement pstmt = conn.prepareStatement(LOCK_MEMBER_SQL)) {
+                    pstmt.setString(1, userId);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        if (!rs.next()) return RentResult.UNKNOWN_USER;
+                        Date banEnd = rs.getDate("rental_ban_end_date");
+                        if (banEnd != null && banEnd.toLocalDate().isAfter(rentDate)) return RentResult.BANNED;
+                    }
+                }
 
-        // ---------------------------------
-        // 1️⃣ 재고 감소 시도
-        // ---------------------------------
-        boolean stockUpdated = ItemDAO.getInstance().decreaseAvailableStock(itemId);
-        if (!stockUpdated) {
-            return false;  // 재고 없음 → 대여 불가
-        }
+                // 1️⃣ 같은 물품 중복 / 최대 개수 확인
+                try (PreparedStatement pstmt = conn.prepareStatement(ACTIVE_COUNT_SQL)) {
+                    pstmt.setInt(1, itemId);
+                    pstmt.setString(2, userId);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        rs.next();
+                        if (rs.getInt("same_item") > 0) return RentResult.ALREADY_RENTED;
+                        if (rs.getInt("total") >= MAX_ACTIVE_RENTALS) return RentResult.LIMIT_REACHED;
+                    }
+                }
 
-        // ---------------------------------
-        // 2️⃣ RENTAL INSERT
-        // ---------------------------------
-        String sql = "INSERT INTO RENTAL " +
-                "(item_id, item_name, renter_id, renter_name, rent_date, due_date, return_date, is_returned) " +
-                "VALUES (?, ?, ?, ?, ?, ?, NULL, 0)";
+                // 2️⃣ 재고 감소 (남은 재고가 있을 때만)
+                if (!ItemDAO.getInstance().decreaseAvailableStock(conn, itemId)) {
+                    return itemExists(conn, itemId) ? RentResult.OUT_OF_STOCK : RentResult.ITEM_NOT_FOUND;
+                }
 
-        try (Connection conn = DBUtil.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                // 3️⃣ RENTAL INSERT (중복이면 예외 → 재고 감소까지 rollback)
+                try (PreparedStatement pstmt = conn.prepareStatement(INSERT_RENTAL_SQL)) {
+                    pstmt.setInt(1, itemId);
+                    pstmt.setString(2, item.getName());
+                    pstmt.setString(3, userId);
+                    pstmt.setString(4, renterName);
+                    pstmt.setDate(5, Date.valueOf(rentDate));
+                    pstmt.setDate(6, Date.valueOf(dueDate));
+                    pstmt.executeUpdate();
+                }
+                DBUtil.afterCommit(() -> {
+                    RentalEligibility.getInstance().rented(userId, itemId);
+                    DashboardDAO.getInstance().invalidate(userId);
+                    ItemUsageAnalytics.getInstance().rented(itemId, rentDate);
+                });
+                return RentResult.SUCCESS;
+            });
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // 회원 잠금 없이 RENTAL 에 직접 넣은 경로와 부딪힌 경우 (uq_rental_active)
+            result = RentResult.ALREADY_RENTED;
+        }
 
-            pstmt.setInt(1, itemId);
-            pstmt.setString(2, item.getName());
-            pstmt.setString(3, userId);
-            pstmt.setString(4, LoginSession.getUser().getName());  // 로그인한 사용자 이름
-            pstmt.setDate(5, Date.valueOf(rentDate));
-            pstmt.setDate(6, Date.valueOf(dueDate));
+        if (result == RentResult.ALREADY_RENTED || result == RentResult.LIMIT_REACHED
+                || result == RentResult.BANNED || result == RentResult.UNKNOWN_USER) {
+            RentalEligibility.getInstance().invalidate(userId);
+        }
+        return result;
+    }
 
-            pstmt.executeUpdate();
+    private boolean itemExists(Connection conn, int itemId) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT 1 FROM ITEM WHERE item_id = ?")) {
+            pstmt.setInt(1, itemId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
         }
+    }
 
-        return true; // 성공!
+    // ============================================================
+    // ✅ 대여 생성 (이전 방식 호환: 성공 여부만)
+    // ============================================================
+    public boolean createRental(Item item, String userId,
+                                LocalDate rentDate, LocalDate dueDate) throws SQLException {
+        String renterName = LoginSession.getUser().getName();  // 로그인한 사용자 이름
+        return rentItem(item, userId, renterName, rentDate, dueDate) == RentResult.SUCCESS;
     }
 
     // ============================================================
@@ -122,6 +171,107 @@ public class RentalDAO {
         return list;
     }
 
+    // ============================================================
+    // ✅ 내 대여 기록 페이지 조회 (마이페이지, 스크롤하면 다음 페이지)
+    //    - 필요한 컬럼만, 최근 대여일 순 (같은 날이면 rental_id 큰 순)
+    //    - 커서 = 마지막 행의 (rent_date, rental_id) → OFFSET 없이 idx_rental_renter_history 범위 검색
+    //    - 대여일이 없는 기록은 맨 뒤에 따로 조회 (DB 마다 NULL 정렬 위치가 달라서), 그 안에서는 rental_id 만으로 이어감
+    // ============================================================
+    public static class HistoryCursor {
+        public final LocalDate rentDate;   // null 이면 대여일 없는 기록 구간
+        public final int rentalId;
+
+        public HistoryCursor(LocalDate rentDate, int rentalId) {
+            this.rentDate = rentDate;
+            this.rentalId = rentalId;
+        }
+    }
+
+    public static class HistoryPage {
+        public final List<Rental> rows;
+        public final HistoryCursor nextCursor;   // 마지막 페이지면 null
+
+        HistoryPage(List<Rental> rows, HistoryCursor nextCursor) {
+            this.rows = rows;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    private static final String HISTORY_COLUMNS =
+            "SELECT rental_id, item_id, item_name, rent_date, due_date, return_date, is_returned FROM RENTAL ";
+
+    public HistoryPage getRentalHistoryPage(String userId, HistoryCursor after, int pageSize) throws SQLException {
+        if (pageSize <= 0) throw new IllegalArgumentException("pageSize 는 1 이상이어야 합니다: " + pageSize);
+
+        List<Rental> rows = new ArrayList<>();
+        try (Connection conn = DBUtil.getReadConnection()) {
+            // 1) 대여일 있는 기록
+            if (after == null || after.rentDate != null) {
+                String sql = HISTORY_COLUMNS + "WHERE renter_id = ? AND rent_date IS NOT NULL"
+                        + (after == null ? "" : " AND (rent_date < ? OR (rent_date = ? AND rental_id < ?))")
+                        + " ORDER BY rent_date DESC, rental_id DESC LIMIT ?";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    int i = 1;
+                    pstmt.setString(i++, userId);
+                    if (after != null) {
+                        pstmt.setDate(i++, Date.valueOf(after.rentDate));
+                        pstmt.setDate(i++, Date.valueOf(after.rentDate));
+                        pstmt.setInt(i++, after.rentalId);
+                    }
+                    pstmt.setInt(i, pageSize + 1);
+                    readHistoryRows(pstmt, userId, rows);
+                }
+            }
+
+            // 2) 모자라면 대여일 없는 기록 (rental_id 순)
+            if (rows.size() <= pageSize) {
+                boolean inNullPart = (after != null && after.rentDate == null);
+                String sql = HISTORY_COLUMNS + "WHERE renter_id = ? AND rent_date IS NULL"
+                        + (inNullPart ? " AND rental_id < ?" : "")
+                        + " ORDER BY rental_id DESC LIMIT ?";
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    int i = 1;
+                    pstmt.setString(i++, userId);
+                    if (inNullPart) pstmt.setInt(i++, after.rentalId);
+                    pstmt.setInt(i, pageSize + 1 - rows.size());
+                    readHistoryRows(pstmt, userId, rows);
+                }
+            }
+        }
+
+        HistoryCursor next = null;
+        if (rows.size() > pageSize) {
+            rows.remove(pageSize);
+            Rental last = rows.get(pageSize - 1);
+            next = new HistoryCursor(last.getRentDate(), last.getRentalId());
+        }
+        return new HistoryPage(rows, next);
+    }
+
+    private static void readHistoryRows(PreparedStatement pstmt, String userId, List<Rental> rows) throws SQLException {
+        try (ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                Rental r = new Rental();
+                r.setRentalId(rs.getInt("rental_id"));
+                r.setItemId(rs.getInt("item_id"));
+                r.setItemName(rs.getString("item_name"));
+                r.setRenterId(userId);
+
+                Date rentDt = rs.getDate("rent_date");
+                if (rentDt != null) r.setRentDate(rentDt.toLocalDate());
+
+                Date dueDt = rs.getDate("due_date");
+                if (dueDt != null) r.setDueDate(dueDt.toLocalDate());
+
+                Date returnDt = rs.getDate("return_date");
+                if (returnDt != null) r.setReturnDate(returnDt.toLocalDate());
+
+                r.setReturned(rs.getBoolean("is_returned"));
+                rows.add(r);
+            }
+        }
+    }
+
     // ============================================================
     // (추가 예정) 반납 처리 메서드
     // ============================================================
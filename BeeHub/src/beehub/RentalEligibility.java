@@ -0,0 +1,180 @@
+package beehub;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원별 대여 가능 여부 스냅샷 (대여 버튼 누를 때 DB 왕복 줄이기)
+ * - 대여 정지 종료일 + 미반납 물품 id 목록을 쿼리 1번(members LEFT JOIN RENTAL)으로 읽어 캐시
+ * - 대여 성공 / 반납 / 정지 변경이 이 프로그램 안에서 commit 되면 캐시도 바로 고쳐 씀 (다시 읽지 않음)
+ * - 캐시는 미리 걸러내는 용도: 최종 판단은 RentalDAO.rentItem 트랜잭션이 다시 확인
+ *   → 캐시가 "가능"이면 DB 왕복 없이 바로 대여 시도,
+ *     "불가"이면 다른 곳(관리자 PC 등)에서 바뀌었을 수 있으니 한 번 새로 읽고 다시 판단
+ *
+ * 설정
+ *  -Dbeehub.eligibility.ttlSec=300   : 스냅샷 유효 시간 (지나면 다음 조회 때 새로 읽음)
+ */
+public class RentalEligibility {
+
+    private static final RentalEligibility instance = new RentalEligibility();
+    public static RentalEligibility getInstance() { return instance; }
+
+    private static final long TTL_NANOS =
+            TimeUnit.SECONDS.toNanos(Math.max(0, Long.getLong("beehub.eligibility.ttlSec", 300L)));
+
+    private static final String SNAPSHOT_SQL =
+            "SELECT m.rental_ban_end_date, r.item_id " +
+            "FROM members m LEFT JOIN RENTAL r ON r.renter_id = m.hakbun AND r.is_returned = 0 " +
+            "WHERE m.hakbun = ?";
+
+    // ================================
+    // 📸 스냅샷 (바꿀 때는 새 객체로 교체)
+    // ================================
+    public static final class Snapshot {
+        public final LocalDate banEndDate;          // null 이면 정지 없음
+        public final Set<Integer> activeItemIds;    // 미반납 물품 id
+        final long loadedAtNanos;
+
+        Snapshot(LocalDate banEndDate, Set<Integer> activeItemIds, long loadedAtNanos) {
+            this.banEndDate = banEndDate;
+            this.activeItemIds = Collections.unmodifiableSet(activeItemIds);
+            this.loadedAtNanos = loadedAtNanos;
+        }
+
+        /** 남은 정지 일수 (PenaltyManager.getRentalBanDaysRemaining 과 같은 규칙: 종료일 당일부터 대여 가능) */
+        public long banDaysRemaining(LocalDate today) {
+            if (banEndDate == null || today.isAfter(banEndDate)) return 0;
+            return ChronoUnit.DAYS.between(today, banEndDate);
+        }
+
+        public int activeCount() {
+            return activeItemIds.size();
+        }
+
+        /** 이 물품을 빌릴 수 있는지 (재고는 확인하지 않음) */
+        public RentalDAO.RentResult check(int itemId, LocalDate today) {
+            if (banDaysRemaining(today) > 0) return RentalDAO.RentResult.BANNED;
+            if (activeItemIds.contains(itemId)) return RentalDAO.RentResult.ALREADY_RENTED;
+            if (activeCount() >= RentalDAO.MAX_ACTIVE_RENTALS) return RentalDAO.RentResult.LIMIT_REACHED;
+            return RentalDAO.RentResult.SUCCESS;
+        }
+
+        Snapshot withRented(int itemId) {
+            Set<Integer> ids = new HashSet<>(activeItemIds);
+            ids.add(itemId);
+            return new Snapshot(banEndDate, ids, loadedAtNanos);
+        }
+
+        Snapshot withReturned(int itemId, LocalDate newBanEnd) {
+            Set<Integer> ids = new HashSet<>(activeItemIds);
+            ids.remove(itemId);
+            LocalDate ban = banEndDate;
+            if (newBanEnd != null && (ban == null || newBanEnd.isAfter(ban))) ban = newBanEnd;
+            return new Snapshot(ban, ids, loadedAtNanos);
+        }
+    }
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    private RentalEligibility() {}
+
+    // ================================
+    // 1. 조회 (캐시 → 없거나 오래됐으면 쿼리 1번)
+    // ================================
+    public Snapshot get(String userId) throws SQLException {
+        Snapshot s = cached(userId);
+        return (s != null) ? s : refresh(userId);
+    }
+
+    // 유효 시간 안의 스냅샷 (없으면 null)
+    private Snapshot cached(String userId) {
+        Snapshot s = snapshots.get(userId);
+        if (s != null && System.nanoTime() - s.loadedAtNanos < TTL_NANOS) {
+            hits.increment();
+            return s;
+        }
+        return null;
+    }
+
+    /** 캐시 무시하고 새로 읽음 (없는 회원이면 null) */
+    public Snapshot refresh(String userId) throws SQLException {
+        loads.increment();
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SNAPSHOT_SQL)) {
+            pstmt.setString(1, userId);
+
+            boolean found = false;
+            LocalDate banEnd = null;
+            Set<Integer> ids = new HashSet<>();
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    found = true;
+                    java.sql.Date ban = rs.getDate("rental_ban_end_date");
+                    if (ban != null) banEnd = ban.toLocalDate();
+                    int itemId = rs.getInt("item_id");
+                    if (!rs.wasNull()) ids.add(itemId);
+                }
+            }
+            if (!found) {
+                snapshots.remove(userId);
+                return null;
+            }
+            Snapshot s = new Snapshot(banEnd, ids, System.nanoTime());
+            snapshots.put(userId, s);
+            return s;
+        }
+    }
+
+    /**
+     * 대여 전 확인: 캐시로 "가능"이면 DB 왕복 없음, "불가"면 새로 읽어 한 번 더 확인
+     * (없는 회원이면 UNKNOWN_USER)
+     */
+    public RentalDAO.RentResult check(String userId, int itemId, LocalDate today) throws SQLException {
+        Snapshot s = cached(userId);
+        if (s != null) {
+            RentalDAO.RentResult result = s.check(itemId, today);
+            if (result == RentalDAO.RentResult.SUCCESS) return result;
+        }
+
+        s = refresh(userId);
+        return (s == null) ? RentalDAO.RentResult.UNKNOWN_USER : s.check(itemId, today);
+    }
+
+    // ================================
+    // 2. commit 후 캐시 고쳐 쓰기 (캐시에 있는 회원만)
+    // ================================
+    void rented(String userId, int itemId) {
+        snapshots.computeIfPresent(userId, (id, s) -> s.withRented(itemId));
+    }
+
+    void returned(String userId, int itemId, LocalDate newBanEnd) {
+        snapshots.computeIfPresent(userId, (id, s) -> s.withReturned(itemId, newBanEnd));
+    }
+
+    public void invalidate(String userId) {
+        snapshots.remove(userId);
+    }
+
+    /** 정지 일괄 변경(OverdueScanner) 뒤처럼 여러 회원이 한꺼번에 바뀌었을 때 */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("users=%d, hits=%d, loads=%d", snapshots.size(), hits.sum(), loads.sum());
+    }
+}
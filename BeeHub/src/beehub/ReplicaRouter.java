@@ -0,0 +1,141 @@
+package beehub;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 읽기 전용 조회를 복제 DB 로 나눠 보내는 라우터 (DBUtil.getReadConnection 에서 사용)
+ * - 복제 DB 마다 커넥션 풀 1개, 돌아가면서(round-robin) 사용
+ * - 연결에 실패한 복제 DB 는 잠시 제외하고 주 DB 로 읽음
+ * - 같은 사용자가 방금 쓴 데이터가 복제 DB 에 아직 없을 수 있으므로,
+ *   쓰기 직후 stickyMs 동안은 그 사용자의 조회를 주 DB 로 보낸다.
+ */
+public class ReplicaRouter {
+
+    // 연결 실패한 복제 DB 를 다시 시도하기까지 기다리는 시간
+    private static final long DOWN_RETRY_MS = 10_000L;
+
+    // ================================
+    // 📊 라우팅 통계 (스냅샷)
+    // ================================
+    public static class Stats {
+        public int replicas;          // 설정된 복제 DB 수
+        public int healthy;           // 현재 사용 가능한 복제 DB 수
+        public long replicaReads;     // 복제 DB 로 보낸 조회
+        public long stickyReads;      // 쓰기 직후라서 주 DB 로 보낸 조회
+        public long fallbackReads;    // 복제 DB 가 모두 실패해서 주 DB 로 보낸 조회
+
+        @Override
+        public String toString() {
+            return String.format("replicas=%d, healthy=%d, replicaReads=%d, stickyReads=%d, fallbackReads=%d",
+                    replicas, healthy, replicaReads, stickyReads, fallbackReads);
+        }
+    }
+
+    private final List<String> urls;
+    private final ConnectionPool[] pools;
+    private final AtomicLongArray downUntil;   // 복제 DB 별 제외 종료 시각 (ms)
+    private final AtomicInteger next = new AtomicInteger();
+    private final long stickyMs;
+
+    // 사용자(학번) → 마지막 쓰기 시각 (ms)
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong stickyReads = new AtomicLong();
+    private final AtomicLong fallbackReads = new AtomicLong();
+
+    ReplicaRouter(DataSourceConfig config, ConnectionPool.Config poolConfig) {
+        this.urls = config.replicaUrls;
+        this.pools = new ConnectionPool[urls.size()];
+        this.downUntil = new AtomicLongArray(urls.size());
+        this.stickyMs = config.replicaStickyMs;
+
+        for (int i = 0; i < pools.length; i++) {
+            pools[i] = new ConnectionPool(urls.get(i), config.replicaUser, config.replicaPassword, poolConfig);
+        }
+    }
+
+    // 테이블 생성 등 복제 DB 별 초기화용
+    ConnectionPool[] pools() {
+        return pools;
+    }
+
+    // ================================
+    // 1. 쓰기 기록 (JdbcInstrumentation 에서 INSERT/UPDATE/DELETE 실행 시 호출)
+    // ================================
+    void markWrite(String userKey) {
+        lastWriteAt.put(userKey, System.currentTimeMillis());
+    }
+
+    // ================================
+    // 2. 조회용 커넥션 (null 이면 주 DB 에서 읽어야 함)
+    // ================================
+    Connection borrow(String userKey) {
+        long now = System.currentTimeMillis();
+
+        // 방금 쓴 사용자는 주 DB 에서 읽기 (복제 지연으로 자기 글이 안 보이는 문제 방지)
+        Long last = lastWriteAt.get(userKey);
+        if (last != null) {
+            if (now - last < stickyMs) {
+                stickyReads.incrementAndGet();
+                return null;
+            }
+            lastWriteAt.remove(userKey, last);
+        }
+
+        int n = pools.length;
+        int start = Math.floorMod(next.getAndIncrement(), n);
+        for (int i = 0; i < n; i++) {
+            int idx = (start + i) % n;
+            if (downUntil.get(idx) > now) continue;
+
+            try {
+                Connection conn = pools[idx].borrow();
+                try {
+                    conn.setReadOnly(true);   // 반납 시 풀이 원래대로 돌려놓음
+                } catch (SQLException e) {
+                    conn.close();
+                    throw e;
+                }
+                replicaReads.incrementAndGet();
+                return conn;
+            } catch (SQLException e) {
+                downUntil.set(idx, now + DOWN_RETRY_MS);
+                System.err.println("복제 DB 연결 실패 → " + (DOWN_RETRY_MS / 1000) + "초간 제외: "
+                        + urls.get(idx) + " (" + e.getMessage() + ")");
+            }
+        }
+
+        fallbackReads.incrementAndGet();
+        return null;
+    }
+
+    // ================================
+    // 3. 통계 / 종료
+    // ================================
+    Stats stats() {
+        long now = System.currentTimeMillis();
+        Stats s = new Stats();
+        s.replicas = pools.length;
+        for (int i = 0; i < pools.length; i++) {
+            if (downUntil.get(i) <= now) s.healthy++;
+        }
+        s.replicaReads = replicaReads.get();
+        s.stickyReads = stickyReads.get();
+        s.fallbackReads = fallbackReads.get();
+        return s;
+    }
+
+    void shutdown() {
+        for (ConnectionPool p : pools) {
+            p.shutdown();
+        }
+    }
+}
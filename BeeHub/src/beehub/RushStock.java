@@ -0,0 +1,502 @@
+package beehub;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 러시 모드 재고 카운터 (ItemDAO.setRushMode 로 켜고 끔)
+ * - 학기 초처럼 인기 물품에 대여가 몰리면 ITEM 행 1개의 잠금(UPDATE ... available_stock - 1)에 줄을 선다.
+ *   러시 모드에서는 물품별 남은 재고를 메모리 카운터가 관리하고(이쪽이 기준값),
+ *   DB 의 available_stock 은 flushMs 마다 모아서 한 번에 반영(write-behind)한다.
+ * - 카운터는 여러 칸(stripe)으로 나눠 스레드마다 다른 칸에서 CAS → 잠금 없이 감소,
+ *   모든 칸이 0 이면 DB 에 가지 않고 바로 거절
+ * - 물품 카운터를 처음 만들 때 RENTAL 의 미반납 건수로 다시 계산(total_stock - 미반납)하고
+ *   ITEM.available_stock 과의 차이는 다음 반영 때 맞춘다 → 반영 전에 프로그램이 죽어도 재시작하면 복구
+ *
+ * 여러 PC
+ * - 카운터는 이 프로그램 안에만 있으므로 두 PC 가 동시에 러시 모드면 같은 재고를 각자 내줘서 초과 대여가 생긴다.
+ *   → 켤 때 stock_rush_lease 행을 잡고(leaseSec 동안 유효, 주기적으로 연장) 다른 PC 가 잡고 있으면 켜지지 않음.
+ *   연장하다가 다른 PC 에 넘어간 것을 알게 되면 onLeaseLost 로 알려 ItemDAO 가 러시 모드를 끔.
+ * - 러시 모드가 아닌 PC 는 잠금이 살아 있는 동안 재고를 직접 줄이지 않음 (ItemDAO 의 재고 감소 UPDATE 가
+ *   stock_rush_lease 를 함께 검사 → 대여 거절). 잠금 직전에 시작된 대여는 ITEM 행을 잡고 있으므로,
+ *   카운터를 만들 때 ITEM / 미반납 RENTAL 을 잠그는 읽기로 그 대여가 끝난 뒤의 값을 읽음.
+ * - 그래도 반영할 때 DB 재고가 0 밑으로 내려가는 물품(잠금 만료 사이 등)은 반영하지 않고 카운터를 다시 계산 (DB 쪽 하한)
+ *
+ * 카운터 교체
+ * - 반영 실패 / 총 재고 변경으로 카운터를 다시 계산할 때, 이미 재고를 잡고 트랜잭션 중인 대여·반납(inFlight)이
+ *   남아 있으면 바로 바꾸지 않고 교체 표시(stale)만 → 마지막 작업이 끝날 때 치움.
+ *   (먼저 바꾸면 그 작업들의 commit/rollback 이 RENTAL 을 반영하기 전에 읽은 새 카운터에 더해져 재고가 어긋남)
+ *   교체 표시된 카운터는 새 작업을 받지 않고, 치워질 때까지 잠깐 기다렸다가 새로 읽음
+ *
+ * 설정
+ *  -Dbeehub.stock.rushMode=false  : 시작할 때 러시 모드 켜기
+ *  -Dbeehub.stock.stripes=8       : 물품당 칸 수 (2의 거듭제곱으로 올림)
+ *  -Dbeehub.stock.flushMs=200     : DB 반영 주기 (ms)
+ *  -Dbeehub.stock.leaseSec=30     : 러시 모드 잠금(stock_rush_lease) 유효 시간 (초, 1/3 마다 연장)
+ */
+public class RushStock {
+
+    static final boolean ENABLED_AT_START = Boolean.getBoolean("beehub.stock.rushMode");
+    private static final long FLUSH_MS = Math.max(10, Long.getLong("beehub.stock.flushMs", 200L));
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.max(1, Integer.getInteger("beehub.stock.stripes", 8)) * 2 - 1);
+    private static final int PAD = 16;   // 칸 사이 간격 (int 16개 = 64바이트, 캐시 라인 공유 방지)
+    private static final int LEASE_SEC = Math.max(3, Integer.getInteger("beehub.stock.leaseSec", 30));
+    static final String LEASE_NAME = "rush";
+    private static final long SWAP_WAIT_MS = 2_000;   // 교체 대기 중인 카운터가 치워지기를 기다리는 최대 시간
+    private static final String HOLDER = ManagementFactory.getRuntimeMXBean().getName();   // pid@호스트
+
+    // 프로그램 종료 시 반영용 (켜져 있는 인스턴스)
+    private static volatile RushStock current;
+
+    // ================================
+    // 📊 통계 (스냅샷)
+    // ================================
+    public static class Stats {
+        public int items;            // 카운터를 만든 물품 수
+        public long acquired;        // 메모리에서 재고 차감 성공
+        public long rejected;        // 재고 없음으로 바로 거절
+        public long released;        // rollback / 반납으로 되돌린 수
+        public long flushes;         // DB 반영 횟수
+        public long flushedRows;     // DB 에 반영한 물품 행 수 (누적)
+        public long pendingUnits;    // 아직 DB 에 반영하지 않은 변화량 (절댓값 합)
+
+        @Override
+        public String toString() {
+            return String.format("items=%d, acquired=%d, rejected=%d, released=%d, flushes=%d, flushedRows=%d, pending=%d",
+                    items, acquired, rejected, released, flushes, flushedRows, pendingUnits);
+        }
+    }
+
+    // 물품 1개의 카운터
+    private static final class Counter {
+        final int total;
+        final AtomicIntegerArray stripes = new AtomicIntegerArray(STRIPES * PAD);
+        final AtomicInteger pending = new AtomicInteger();   // DB 에 아직 반영 안 한 변화량 (대여 -1, 반납 +1)
+        final AtomicInteger inFlight = new AtomicInteger();  // 이 카운터로 재고를 잡고 commit/rollback 전인 작업 수
+        volatile boolean stale;                              // 다시 계산해야 함 (inFlight 가 0 이 되면 치움)
+
+        Counter(int total, int available) {
+            this.total = total;
+            for (int i = 0; i < STRIPES; i++) {
+                stripes.set(i * PAD, available / STRIPES + (i < available % STRIPES ? 1 : 0));
+            }
+        }
+
+        int available() {
+            int sum = 0;
+            for (int i = 0; i < STRIPES; i++) sum += stripes.get(i * PAD);
+            return sum;
+        }
+    }
+
+    private final Map<Integer, Counter> counters = new ConcurrentHashMap<>();
+    private final Consumer<List<Integer>> onFlushed;   // 반영된 물품 id (ItemDAO 캐시 갱신)
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+    private final Consumer<RushStock> onLeaseLost;     // 잠금을 다른 PC 에 뺏김 (ItemDAO 가 러시 모드를 끔)
+    private volatile boolean leaseLost;
+
+    // 통계는 여러 스레드가 동시에 올리므로 LongAdder (카운터 자체보다 경합이 커지지 않게)
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+
+    private RushStock(Consumer<List<Integer>> onFlushed, Consumer<RushStock> onLeaseLost) {
+        this.onFlushed = onFlushed;
+        this.onLeaseLost = onLeaseLost;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "beehub-stock-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, FLUSH_MS, FLUSH_MS, TimeUnit.MILLISECONDS);
+        flusher.scheduleWithFixedDelay(this::renewLease, LEASE_SEC / 3, LEASE_SEC / 3, TimeUnit.SECONDS);
+        current = this;
+    }
+
+    /** 러시 모드 시작. 다른 PC 가 이미 러시 모드면 (또는 잠금 테이블을 쓸 수 없으면) null */
+    static RushStock start(Consumer<List<Integer>> onFlushed, Consumer<RushStock> onLeaseLost) {
+        try {
+            if (!acquireLease()) {
+                System.err.println("[러시 모드] 다른 PC 가 러시 모드 중이라 켜지 않습니다. (stock_rush_lease)");
+                return null;
+            }
+        } catch (SQLException e) {
+            System.err.println("[러시 모드] 잠금(stock_rush_lease)을 잡지 못해 켜지 않습니다: " + e.getMessage());
+            return null;
+        }
+        return new RushStock(onFlushed, onLeaseLost);
+    }
+
+    // ================================
+    // 0. 러시 모드 잠금 (한 번에 한 PC 만, DB 시각 기준으로 만료)
+    // ================================
+    private static boolean acquireLease() throws SQLException {
+        return DBUtil.inTransaction("stock.lease", (Connection conn) -> {
+            String holder = null;
+            boolean live = false;
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "SELECT holder, CASE WHEN expires_at > CURRENT_TIMESTAMP THEN 1 ELSE 0 END AS live "
+                  + "FROM stock_rush_lease WHERE lease_name = ? FOR UPDATE")) {
+                pstmt.setString(1, LEASE_NAME);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (rs.next()) {
+                        holder = rs.getString("holder");
+                        live = rs.getInt("live") == 1;
+                    }
+                }
+            }
+            if (live && !HOLDER.equals(holder)) return false;
+
+            // 처음이면 INSERT (두 PC 가 동시에 넣으면 늦은 쪽은 키 충돌 → 예외로 켜지지 않음)
+            String sql = (holder == null)
+                    ? "INSERT INTO stock_rush_lease (holder, expires_at, lease_name) "
+                    + "VALUES (?, TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP), ?)"
+                    : "UPDATE stock_rush_lease SET holder = ?, expires_at = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) "
+                    + "WHERE lease_name = ?";
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, HOLDER);
+                pstmt.setInt(2, LEASE_SEC);
+                pstmt.setString(3, LEASE_NAME);
+                pstmt.executeUpdate();
+            }
+            return true;
+        });
+    }
+
+    // 연장: 아직 이 PC 것이면 만료 시각만 뒤로 (0행이면 만료 후 다른 PC 가 가져간 것)
+    private void renewLease() {
+        if (closed || leaseLost) return;
+        try {
+            int rows = DBUtil.inTransaction("stock.lease", (Connection conn) -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "UPDATE stock_rush_lease SET expires_at = TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP) "
+                      + "WHERE lease_name = ? AND holder = ?")) {
+                    pstmt.setInt(1, LEASE_SEC);
+                    pstmt.setString(2, LEASE_NAME);
+                    pstmt.setString(3, HOLDER);
+                    return pstmt.executeUpdate();
+                }
+            });
+            if (rows == 0) {
+                leaseLost = true;
+                System.err.println("[러시 모드] 잠금이 다른 PC 로 넘어갔습니다. 러시 모드를 끕니다.");
+                if (onLeaseLost != null) onLeaseLost.accept(this);
+            }
+        } catch (SQLException e) {
+            // DB 가 잠깐 안 되는 것은 다음 주기에 다시 (그 사이 만료되면 위에서 알게 됨)
+            System.err.println("[러시 모드] 잠금 연장 실패: " + e.getMessage());
+        }
+    }
+
+    private static void releaseLease() {
+        try {
+            DBUtil.inTransaction("stock.lease", (Connection conn) -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "DELETE FROM stock_rush_lease WHERE lease_name = ? AND holder = ?")) {
+                    pstmt.setString(1, LEASE_NAME);
+                    pstmt.setString(2, HOLDER);
+                    return pstmt.executeUpdate();
+                }
+            });
+        } catch (SQLException e) {
+            System.err.println("[러시 모드] 잠금 해제 실패 (만료되면 풀림): " + e.getMessage());
+        }
+    }
+
+    // ================================
+    // 1. 카운터 준비 (처음 쓰는 물품이면 RENTAL 기준으로 복구)
+    //    - conn: 호출한 쪽이 트랜잭션 중이면 그 커넥션 (풀에서 하나 더 빌리다가 풀이 바닥나는 것 방지)
+    // ================================
+    private Counter counter(Connection conn, int itemId) {
+        Counter c = counters.get(itemId);
+        if (c != null) return c;
+
+        // DB 조회는 맵 밖에서 (computeIfAbsent 안에서 하면 같은 칸의 다른 물품까지 조회가 끝날 때까지 막힘)
+        // 두 스레드가 동시에 읽으면 먼저 넣은 쪽을 씀 (같은 RENTAL 기준이라 값도 같음)
+        Counter loaded = load(conn, itemId);
+        if (loaded == null) return null;   // 없는 물품 (등록 안 됨)
+        c = counters.putIfAbsent(itemId, loaded);
+        return (c != null) ? c : loaded;
+    }
+
+    // 잠그는 읽기: 러시 모드 전에 시작한 다른 PC 의 대여가 ITEM 행을 잡고 있으면 끝날 때까지 기다리고,
+    // 미반납 건수는 트랜잭션 시작 시점이 아닌 최신 commit 기준으로 셈 (MySQL REPEATABLE READ)
+    private Counter load(Connection txConn, int itemId) {
+        try {
+            if (txConn != null) return load0(txConn, itemId);
+            return DBUtil.inTransaction((Connection conn) -> load0(conn, itemId));
+        } catch (SQLException e) {
+            throw new IllegalStateException("재고 카운터 준비 실패 (item_id=" + itemId + ")", e);
+        }
+    }
+
+    private static Counter load0(Connection conn, int itemId) throws SQLException {
+        int total;
+        int dbAvailable;
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT total_stock, available_stock FROM ITEM WHERE item_id = ? FOR UPDATE")) {
+            pstmt.setInt(1, itemId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) return null;
+                total = rs.getInt("total_stock");
+                dbAvailable = rs.getInt("available_stock");
+            }
+        }
+        int active = 0;
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT rental_id FROM RENTAL WHERE item_id = ? AND is_returned = 0 FOR UPDATE")) {
+            pstmt.setInt(1, itemId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) active++;
+            }
+        }
+        int available = Math.max(0, total - active);
+
+        // 반영 못 하고 끝난 변경이 있었으면 DB 값과의 차이를 반영 대기열에 → 다음 반영 때 복구
+        Counter c = new Counter(total, available);
+        c.pending.set(available - dbAvailable);
+        return c;
+    }
+
+    // 카운터를 잡음 (inFlight +1). 교체 표시된 카운터면 치워질 때까지 기다렸다가 새로 읽음
+    private Counter pin(Connection conn, int itemId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SWAP_WAIT_MS);
+        while (true) {
+            Counter c = counter(conn, itemId);
+            if (c == null) return null;
+            c.inFlight.incrementAndGet();
+            if (!c.stale) return c;
+
+            unpin(itemId, c);
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("재고 카운터 교체 대기 시간 초과 (item_id=" + itemId + ")");
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("재고 카운터 교체 대기 중 중단 (item_id=" + itemId + ")", e);
+            }
+        }
+    }
+
+    // 잡은 작업이 끝남 (commit/rollback 후). 마지막 작업이고 교체 표시돼 있으면 치움
+    private void unpin(int itemId, Counter c) {
+        if (c.inFlight.decrementAndGet() == 0 && c.stale) counters.remove(itemId, c);
+    }
+
+    // 다시 계산하도록 표시. 진행 중인 작업이 없으면 바로 치우고, 있으면 마지막 unpin 이 치움
+    // (stale 을 먼저 쓰고 inFlight 를 읽으므로, pin 과 엇갈려도 둘 중 한쪽은 반드시 상대를 봄)
+    private void retire(int itemId, Counter c) {
+        c.stale = true;
+        if (c.inFlight.get() == 0) counters.remove(itemId, c);
+    }
+
+    // 스레드마다 다른 칸에서 시작 (같은 칸 CAS 경쟁 줄이기)
+    private static int probe() {
+        long h = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & (STRIPES - 1);
+    }
+
+    // ================================
+    // 2. 대여: 메모리에서 1개 차감 (DB 잠금 없음)
+    // ================================
+
+    /**
+     * 재고 1개 확보. 없는 물품이거나 모든 칸이 0 이면 false (conn: 진행 중인 트랜잭션, 없으면 null)
+     * - true 면 commit 후 commitDecrement, rollback 후 release 를 반드시 1번 호출 (그때까지 카운터를 바꾸지 않음)
+     */
+    boolean tryAcquire(Connection conn, int itemId) {
+        Counter c = pin(conn, itemId);
+        if (c == null) {
+            rejected.increment();
+            return false;
+        }
+
+        int start = probe();
+        for (int k = 0; k < STRIPES; k++) {
+            int idx = ((start + k) & (STRIPES - 1)) * PAD;
+            for (int v = c.stripes.get(idx); v > 0; v = c.stripes.get(idx)) {
+                if (c.stripes.compareAndSet(idx, v, v - 1)) {
+                    acquired.increment();
+                    return true;
+                }
+            }
+        }
+        // 다른 스레드가 이미 지나온 칸에 되돌려 놓은 직후라면 한 번 더 시도해야 보이지만,
+        // 그 정도 차이는 "방금 재고가 없었다"와 구분할 필요가 없으므로 그대로 거절
+        unpin(itemId, c);
+        rejected.increment();
+        return false;
+    }
+
+    /** 지금 메모리 재고 (카운터가 없으면 -1) */
+    int available(int itemId) {
+        Counter c = counters.get(itemId);
+        return (c != null) ? c.available() : -1;
+    }
+
+    /** 확보한 재고를 DB 에 기록하지 못했을 때 (rollback) 되돌림 */
+    void release(int itemId) {
+        Counter c = counters.get(itemId);   // 잡혀 있으므로 tryAcquire 때와 같은 카운터
+        if (c == null) return;
+        c.stripes.incrementAndGet(probe() * PAD);
+        released.increment();
+        unpin(itemId, c);
+    }
+
+    /** 대여 트랜잭션 commit 후: DB 반영 대기열에 -1 */
+    void commitDecrement(int itemId) {
+        Counter c = counters.get(itemId);   // 잡혀 있으므로 tryAcquire 때와 같은 카운터
+        if (c == null) return;
+        c.pending.decrementAndGet();
+        unpin(itemId, c);
+        if (closed) flushQuietly();   // 러시 모드를 끈 뒤 끝난 대여 → 바로 반영
+    }
+
+    // ================================
+    // 3. 반납: 메모리 +n (총 재고를 넘지 않게), DB 반영 대기열에 +n
+    // ================================
+
+    /**
+     * 여러 건 반납용: 트랜잭션 안에서 RENTAL 을 반납 표시하기 "전에" 카운터를 준비해 두고,
+     * commit 후 returnUnits 로 한 번에 +n (준비를 나중에 하면 이미 반납된 건수로 계산돼 두 번 더해짐)
+     * - 준비한 물품은 commit 후 returnUnits, rollback 후 abandon 을 반드시 1번 호출 (그때까지 카운터를 바꾸지 않음)
+     */
+    void prepare(Connection conn, int itemId) {
+        pin(conn, itemId);
+    }
+
+    /** commit 후: 메모리 +n (총 재고를 넘지 않게), DB 반영 대기열에 +n. 돌려놓은 수량 반환 */
+    int returnUnits(int itemId, int n) {
+        Counter c = counters.get(itemId);   // prepare 로 잡혀 있으므로 같은 카운터
+        if (c == null) return 0;
+        int room = Math.max(0, Math.min(n, c.total - c.available()));
+        if (room > 0) {
+            c.stripes.addAndGet(probe() * PAD, room);
+            c.pending.addAndGet(room);
+            released.add(room);
+        }
+        unpin(itemId, c);
+        if (closed && room > 0) flushQuietly();
+        return room;
+    }
+
+    /** 반납 트랜잭션 rollback 후: prepare 로 잡은 카운터를 놓음 */
+    void abandon(int itemId) {
+        Counter c = counters.get(itemId);
+        if (c != null) unpin(itemId, c);
+    }
+
+    // ================================
+    // 4. DB 반영 (write-behind, 물품별 변화량을 batch UPDATE 한 번으로)
+    // ================================
+    synchronized void flush() throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        List<Counter> flushed = new ArrayList<>();   // 반영 중에 교체돼도 읽은 카운터에서 빼도록
+        List<Integer> deltas = new ArrayList<>();
+        for (Map.Entry<Integer, Counter> e : counters.entrySet()) {
+            int delta = e.getValue().pending.get();
+            if (delta != 0) {
+                ids.add(e.getKey());
+                flushed.add(e.getValue());
+                deltas.add(delta);
+            }
+        }
+        if (ids.isEmpty()) return;
+
+        // DB 쪽 하한: 다른 PC 가 직접 줄인 재고까지 합쳐 0 밑으로 내려가면 그 물품은 반영하지 않음
+        int[] counts = DBUtil.inTransaction("stock.flush", (Connection conn) -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "UPDATE ITEM SET available_stock = available_stock + ? "
+                  + "WHERE item_id = ? AND available_stock + ? >= 0")) {
+                for (int i = 0; i < ids.size(); i++) {
+                    pstmt.setInt(1, deltas.get(i));
+                    pstmt.setInt(2, ids.get(i));
+                    pstmt.setInt(3, deltas.get(i));
+                    pstmt.addBatch();
+                }
+                return pstmt.executeBatch();
+            }
+        });
+
+        // 반영하는 동안 새로 쌓인 변화량은 남겨둠
+        for (int i = 0; i < ids.size(); i++) {
+            if (counts[i] == 0) {
+                // 하한에 걸림 (또는 삭제된 물품) → 진행 중인 작업이 끝나면 RENTAL 기준으로 다시 계산
+                retire(ids.get(i), flushed.get(i));
+                System.err.println("[러시 모드] item_id=" + ids.get(i) + " 재고 반영 건너뜀 "
+                                 + "(다른 PC 의 대여와 겹침) → 카운터를 다시 계산합니다.");
+                continue;
+            }
+            flushed.get(i).pending.addAndGet(-deltas.get(i));
+        }
+        flushes.increment();
+        flushedRows.add(ids.size());
+        if (onFlushed != null) onFlushed.accept(ids);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 변화량은 그대로 남아 있으므로 다음 주기에 다시 시도
+            System.err.println("[러시 모드] 재고 DB 반영 실패: " + e.getMessage());
+        }
+    }
+
+    // ================================
+    // 5. 물품 정보 변경 / 종료
+    // ================================
+
+    /** 총 재고 수정·삭제 후: 반영하고, 진행 중인 대여·반납이 끝나면 카운터를 버림 (다음 사용 때 RENTAL 기준으로 다시 계산) */
+    void invalidate(int itemId) {
+        flushQuietly();
+        Counter c = counters.get(itemId);
+        if (c != null) retire(itemId, c);
+    }
+
+    /** 러시 모드 끄기: 남은 변화량을 반영하고 반영 스레드 종료 */
+    void close() {
+        closed = true;
+        flusher.shutdown();
+        flushQuietly();
+        if (current == this) current = null;
+        if (!leaseLost) releaseLease();
+    }
+
+    static void flushOnShutdown() {
+        RushStock r = current;
+        if (r != null) r.flushQuietly();
+    }
+
+    Stats stats() {
+        Stats s = new Stats();
+        s.items = counters.size();
+        s.acquired = acquired.sum();
+        s.rejected = rejected.sum();
+        s.released = released.sum();
+        s.flushes = flushes.sum();
+        s.flushedRows = flushedRows.sum();
+        for (Counter c : counters.values()) s.pendingUnits += Math.abs(c.pending.get());
+        return s;
+    }
+}
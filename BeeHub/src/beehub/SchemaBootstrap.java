@@ -0,0 +1,238 @@
+package beehub;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스키마 준비 (db/schema.sql)
+ * - initSchema 가 켜진 프로필(내장 DB 등)에서 DBUtil 이 풀을 만들 때 호출
+ *   · members 테이블이 없으면 전체 스키마 생성, 있으면 예전 스키마에 빠진 키/인덱스/통계 테이블 추가 (migrate)
+ * - 운영 MySQL(initSchema=false)에는 DDL 을 실행하지 않음 → db/migrate.sql 을 관리자가 직접 실행하고,
+ *   프로그램은 빠진 것이 있으면 경고만 출력 (check, 메타데이터 조회만)
+ * - H2 에는 MySQL 전용 함수 DATE_FORMAT 이 없으므로 같은 이름의 자바 함수를 등록
+ */
+public class SchemaBootstrap {
+
+    private static final String SCHEMA_RESOURCE = "/db/schema.sql";
+
+    private SchemaBootstrap() {}
+
+    // ================================
+    // 1. 필요할 때만 생성 + 빠진 것 추가 (initSchema 인 경우만)
+    // ================================
+    static void initialize(Connection conn) throws SQLException, IOException {
+        if (isH2(conn)) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE ALIAS IF NOT EXISTS DATE_FORMAT FOR \"beehub.SchemaBootstrap.dateFormat\"");
+            }
+        }
+        if (!tableExists(conn, "members")) {
+            createSchema(conn);
+            System.out.println("[DB] " + SCHEMA_RESOURCE + " 로 테이블을 생성했습니다.");
+        } else {
+            migrate(conn);
+        }
+    }
+
+    // 운영 DB: 읽기만 해서 db/migrate.sql 에서 빠진 것이 있으면 경고 (DDL 없음)
+    static void check(Connection conn) throws SQLException {
+        if (!tableExists(conn, "members")) {
+            System.err.println("[DB] members 테이블이 없습니다. db/schema.sql 을 먼저 실행하세요.");
+            return;
+        }
+        List<String> missing = new ArrayList<>();
+        if (tableExists(conn, "RENTAL") && !indexExists(conn, "RENTAL", "uq_rental_active")) {
+            missing.add("uq_rental_active (중복 대여 금지 키, 없으면 회원 행 잠금만으로 막음)");
+        }
+        if (!tableExists(conn, "item_usage_daily")) missing.add("item_usage_daily / item_usage_state (이용 통계 저장 안 됨)");
+        if (!tableExists(conn, "stock_rush_lease")) missing.add("stock_rush_lease (러시 모드 사용 불가)");
+        if (!missing.isEmpty()) {
+            System.err.println("[DB] 경고: db/migrate.sql 이 적용되지 않았습니다 → " + String.join(", ", missing));
+        }
+    }
+
+    // 추가형 변경만 (있으면 건너뜀) → 단계마다 따로 시도해서 하나가 실패해도 나머지는 적용
+    private static void migrate(Connection conn) {
+        try {
+            addActiveRentalKey(conn);
+            if (tableExists(conn, "RENTAL") && !indexExists(conn, "RENTAL", "uq_rental_active")) {
+                // 키가 없어도 RentalDAO.rentItem 은 회원 행 잠금으로 중복 대여를 막지만, 마지막 안전장치가 빠진 상태
+                System.err.println("[DB] 경고: RENTAL 에 uq_rental_active 가 없습니다. "
+                                 + "중복 미반납 대여를 정리한 뒤 db/migrate.sql 의 1) 을 적용하세요.");
+            }
+        } catch (SQLException e) {
+            System.err.println("[DB] 미반납 중복 대여 금지 키 확인 실패: " + e.getMessage());
+        }
+        try {
+            addRentalIndexes(conn);
+        } catch (SQLException e) {
+            System.err.println("[DB] 인덱스 추가 실패 (권한 확인 필요): " + e.getMessage());
+        }
+        try {
+            addUsageTables(conn);
+        } catch (SQLException e) {
+            System.err.println("[DB] 물품 이용 통계 테이블 추가 실패 (권한 확인 필요): " + e.getMessage());
+        }
+        try {
+            addRushLeaseTable(conn);
+        } catch (SQLException e) {
+            System.err.println("[DB] 러시 모드 잠금 테이블 추가 실패 (러시 모드를 켤 수 없음): " + e.getMessage());
+        }
+    }
+
+    // 예전 스키마로 만든 DB: 러시 모드(RushStock) 잠금 테이블 추가 (schema.sql 과 같은 정의)
+    private static void addRushLeaseTable(Connection conn) throws SQLException {
+        if (tableExists(conn, "stock_rush_lease")) return;
+        try (Statement st = conn.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS stock_rush_lease ("
+                     + "lease_name VARCHAR(30) NOT NULL PRIMARY KEY, holder VARCHAR(100) NOT NULL, "
+                     + "expires_at DATETIME NOT NULL)");
+        }
+        System.out.println("[DB] 러시 모드 잠금 테이블(stock_rush_lease)을 추가했습니다.");
+    }
+
+    // 예전 스키마로 만든 DB: 물품 이용 통계(ItemUsageAnalytics) 테이블 추가 (schema.sql 과 같은 정의)
+    private static void addUsageTables(Connection conn) throws SQLException {
+        if (tableExists(conn, "item_usage_daily")) return;
+        try (Statement st = conn.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS item_usage_daily ("
+                     + "item_id INT NOT NULL, stat_date DATE NOT NULL, "
+                     + "rent_count INT NOT NULL DEFAULT 0, return_count INT NOT NULL DEFAULT 0, "
+                     + "rent_days INT NOT NULL DEFAULT 0, overdue_count INT NOT NULL DEFAULT 0, "
+                     + "stockout_minutes INT NOT NULL DEFAULT 0, PRIMARY KEY (item_id, stat_date))");
+            st.execute("CREATE INDEX idx_usage_date ON item_usage_daily (stat_date)");
+            st.execute("CREATE TABLE IF NOT EXISTS item_usage_state ("
+                     + "item_id INT NOT NULL PRIMARY KEY, stockout_since DATETIME, last_restock_at DATETIME)");
+        }
+        System.out.println("[DB] 물품 이용 통계 테이블(item_usage_daily / item_usage_state)을 추가했습니다.");
+    }
+
+    // 예전 스키마로 만든 DB: 연체 검사(OverdueScanner) / 관리자 대여 목록 페이지 / 메인 화면 일정 / 마이페이지 대여 기록 / 게시글 검색 색인용 인덱스 추가
+    private static void addRentalIndexes(Connection conn) throws SQLException {
+        createIndexIfMissing(conn, "members", "idx_members_ban", "(rental_ban_end_date)");
+        if (tableExists(conn, "events")) {
+            createIndexIfMissing(conn, "events", "idx_events_date", "(event_date)");
+        }
+        if (tableExists(conn, "community_post")) {
+            createIndexIfMissing(conn, "community_post", "idx_post_updated", "(updated_at)");
+        }
+        if (!tableExists(conn, "RENTAL")) return;
+        createIndexIfMissing(conn, "RENTAL", "idx_rental_overdue", "(is_returned, due_date)");
+        createIndexIfMissing(conn, "RENTAL", "idx_rental_status_id", "(is_returned, rental_id)");
+        createIndexIfMissing(conn, "RENTAL", "idx_rental_rent_date", "(rent_date)");
+        createIndexIfMissing(conn, "RENTAL", "idx_rental_renter_history", "(renter_id, rent_date, rental_id)");
+    }
+
+    private static void createIndexIfMissing(Connection conn, String table, String index, String columns)
+            throws SQLException {
+        if (indexExists(conn, table, index)) return;
+        try (Statement st = conn.createStatement()) {
+            st.execute("CREATE INDEX " + index + " ON " + table + " " + columns);
+        }
+    }
+
+    // 예전 스키마로 만든 DB: RENTAL 에 미반납 중복 대여 금지 키 추가 (RentalDAO.rentItem 이 의존)
+    private static void addActiveRentalKey(Connection conn) throws SQLException {
+        if (!tableExists(conn, "RENTAL")) return;
+
+        try (Statement st = conn.createStatement()) {
+            if (!columnExists(conn, "RENTAL", "active_flag")) {
+                st.execute("ALTER TABLE RENTAL ADD COLUMN active_flag TINYINT "
+                         + "GENERATED ALWAYS AS (CASE WHEN is_returned = 0 THEN 1 ELSE NULL END)");
+            }
+            if (!indexExists(conn, "RENTAL", "uq_rental_active")) {
+                st.execute("CREATE UNIQUE INDEX uq_rental_active ON RENTAL (renter_id, item_id, active_flag)");
+                System.out.println("[DB] RENTAL 에 미반납 중복 대여 금지 키(uq_rental_active)를 추가했습니다.");
+            }
+        } catch (SQLException e) {
+            // 이미 같은 물품을 두 번 빌린 미반납 기록이 있으면 실패 → 정리 후 다시 시작해야 함
+            System.err.println("[DB] uq_rental_active 추가 실패 (중복 미반납 대여 확인 필요): " + e.getMessage());
+        }
+    }
+
+    private static boolean isH2(Connection conn) throws SQLException {
+        return conn.getMetaData().getDatabaseProductName().toUpperCase().contains("H2");
+    }
+
+    static boolean tableExists(Connection conn, String table) throws SQLException {
+        DatabaseMetaData md = conn.getMetaData();
+        for (String name : new String[]{ table, table.toUpperCase() }) {
+            try (ResultSet rs = md.getTables(conn.getCatalog(), null, name, new String[]{ "TABLE" })) {
+                if (rs.next()) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean columnExists(Connection conn, String table, String column) throws SQLException {
+        DatabaseMetaData md = conn.getMetaData();
+        for (String t : new String[]{ table, table.toLowerCase() }) {
+            for (String c : new String[]{ column, column.toUpperCase() }) {
+                try (ResultSet rs = md.getColumns(conn.getCatalog(), null, t, c)) {
+                    if (rs.next()) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean indexExists(Connection conn, String table, String index) throws SQLException {
+        DatabaseMetaData md = conn.getMetaData();
+        for (String t : new String[]{ table, table.toLowerCase() }) {
+            try (ResultSet rs = md.getIndexInfo(conn.getCatalog(), null, t, false, false)) {
+                while (rs.next()) {
+                    if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // ================================
+    // 2. schema.sql 실행 (; 로 끝나는 줄 단위로 문장 구분, -- 주석 줄 무시)
+    // ================================
+    public static void createSchema(Connection conn) throws SQLException, IOException {
+        InputStream in = SchemaBootstrap.class.getResourceAsStream(SCHEMA_RESOURCE);
+        if (in == null) throw new IOException(SCHEMA_RESOURCE + " 을 찾을 수 없습니다.");
+
+        StringBuilder sb = new StringBuilder();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+             Statement st = conn.createStatement()) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("--")) continue;
+                sb.append(line).append('\n');
+                if (trimmed.endsWith(";")) {
+                    st.execute(sb.substring(0, sb.lastIndexOf(";")));
+                    sb.setLength(0);
+                }
+            }
+        }
+    }
+
+    // ================================
+    // 3. H2 용 MySQL 호환 함수
+    // ================================
+
+    /** MySQL DATE_FORMAT 중 DAO 가 쓰는 지정자(%Y %m %d %H %i %s)만 지원 */
+    public static String dateFormat(Timestamp ts, String mysqlPattern) {
+        if (ts == null) return null;
+        String pattern = mysqlPattern
+                .replace("%Y", "yyyy").replace("%m", "MM").replace("%d", "dd")
+                .replace("%H", "HH").replace("%i", "mm").replace("%s", "ss");
+        return ts.toLocalDateTime().format(DateTimeFormatter.ofPattern(pattern));
+    }
+}
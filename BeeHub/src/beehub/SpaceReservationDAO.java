@@ -172,24 +172,23 @@ public class SpaceReservationDAO {
             "(space_id, reserve_date, time_slot, hakbun, people_count, status, created_at) " +
             "VALUES (?, ?, ?, ?, ?, 'RESERVED', NOW())";
 
-        try (Connection conn = DBUtil.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-            conn.setAutoCommit(false);
-
-            for (String slot : timeSlots) {
-                pstmt.setInt(1, spaceId);
-                pstmt.setDate(2, Date.valueOf(date));
-                pstmt.setString(3, slot);
-                pstmt.setString(4, hakbun);
-                pstmt.setInt(5, peopleCount);
-                pstmt.addBatch();
-            }
-
-            int[] results = pstmt.executeBatch();
-            conn.commit();
-
-            return results.length > 0;
+        // 여러 시간을 한 트랜잭션으로 INSERT (데드락/락 대기 초과 시 전체 재시도)
+        try {
+            return DBUtil.inTransaction("space.insertReservation", conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    for (String slot : timeSlots) {
+                        pstmt.setInt(1, spaceId);
+                        pstmt.setDate(2, Date.valueOf(date));
+                        pstmt.setString(3, slot);
+                        pstmt.setString(4, hakbun);
+                        pstmt.setInt(5, peopleCount);
+                        pstmt.addBatch();
+                    }
+
+                    int[] results = pstmt.executeBatch();
+                    return results.length > 0;
+                }
+            });
 
         } catch (SQLException e) {
             e.printStackTrace();
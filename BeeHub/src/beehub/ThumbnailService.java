@@ -0,0 +1,359 @@
+package beehub;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
+import javax.swing.JLabel;
+import javax.swing.SwingUtilities;
+
+/**
+ * 물품 이미지 썸네일 서비스
+ * - 원본 디코딩/축소는 EDT 밖(작업 스레드)에서, (경로, 크기) 당 한 번만
+ * - 메모리 LRU 캐시 (전체 픽셀 용량 제한) + 디스크 캐시 (원본 내용 SHA-256 + 크기 → PNG)
+ * - 같은 썸네일을 동시에 여러 카드가 요청하면 디코딩은 한 번만
+ * - 준비될 때까지 JLabel 에는 자리표시(placeholder)를 보여줌
+ *
+ * 사용 예)
+ *   ThumbnailService.getInstance().loadInto(iconLabel, item.getImagePath(), 65, 65,
+ *           () -> iconLabel.setText("📦"));
+ *
+ * 설정
+ *  -Dbeehub.thumb.memoryMb=16     : 메모리 캐시 상한 (MB, 픽셀 기준)
+ *  -Dbeehub.thumb.dir=.thumbs     : 디스크 캐시 폴더 (빈 값이면 디스크 캐시 끔)
+ *  -Dbeehub.thumb.threads=2       : 디코딩 스레드 수
+ */
+public class ThumbnailService {
+
+    private static final ThumbnailService instance = new ThumbnailService();
+    public static ThumbnailService getInstance() { return instance; }
+
+    private static final String LABEL_KEY = "beehub.ThumbnailService.key";
+    private static final Color PLACEHOLDER_BG = new Color(232, 232, 232);
+
+    private final long maxMemoryBytes = Long.getLong("beehub.thumb.memoryMb", 16L) * 1024 * 1024;
+    private final Path diskDir;
+    private final ExecutorService decoder;
+
+    // (경로, 크기) → 썸네일, 접근 순서 LRU (synchronized 로 보호)
+    private final LinkedHashMap<Key, ImageIcon> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes;
+
+    // 디코딩 중인 요청 (같은 키는 하나의 작업을 공유)
+    private final Map<Key, CompletableFuture<ImageIcon>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Long, Icon> placeholders = new ConcurrentHashMap<>();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong decodes = new AtomicLong();
+
+    private ThumbnailService() {
+        String dir = System.getProperty("beehub.thumb.dir", ".thumbs");
+        this.diskDir = dir.isEmpty() ? null : Paths.get(dir);
+
+        int threads = Math.max(1, Integer.getInteger("beehub.thumb.threads", 2));
+        AtomicInteger seq = new AtomicInteger();
+        this.decoder = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "beehub-thumb-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.NORM_PRIORITY - 1);   // 화면 그리기보다 뒤로
+            return t;
+        });
+    }
+
+    // 캐시 키: 이미지 경로 + 썸네일 크기
+    private static final class Key {
+        final String path;
+        final int width;
+        final int height;
+
+        Key(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return width == k.width && height == k.height && path.equals(k.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, width, height);
+        }
+    }
+
+    // ================================
+    // 1. 화면용: JLabel 에 자리표시 → 준비되면 썸네일
+    // ================================
+
+    /**
+     * label 에 썸네일을 넣는다 (EDT 에서 호출)
+     * - 메모리에 있으면 바로, 없으면 자리표시를 먼저 보여주고 준비되면 교체
+     * - 경로가 없거나 이미지를 읽을 수 없으면 onMissing 실행 (이모지 표시 등)
+     */
+    public void loadInto(JLabel label, String path, int width, int height, Runnable onMissing) {
+        if (path == null || path.isEmpty()) {
+            label.putClientProperty(LABEL_KEY, null);
+            if (onMissing != null) onMissing.run();
+            return;
+        }
+
+        Key key = new Key(path, width, height);
+        label.putClientProperty(LABEL_KEY, key);
+
+        ImageIcon cached = fromMemory(key);
+        if (cached != null) {
+            label.setIcon(cached);
+            label.setText("");
+            return;
+        }
+
+        label.setIcon(placeholder(width, height));
+        label.setText("");
+        load(path, width, height).whenComplete((icon, error) -> SwingUtilities.invokeLater(() -> {
+            if (!key.equals(label.getClientProperty(LABEL_KEY))) return;   // 그 사이 다른 이미지로 바뀜
+            if (icon != null) {
+                label.setIcon(icon);
+            } else {
+                label.setIcon(null);
+                if (onMissing != null) onMissing.run();
+            }
+        }));
+    }
+
+    // ================================
+    // 2. 썸네일 요청 (어느 스레드에서나)
+    // ================================
+    public CompletableFuture<ImageIcon> load(String path, int width, int height) {
+        Key key = new Key(path, width, height);
+        ImageIcon cached = fromMemory(key);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        return inFlight.computeIfAbsent(key, k -> {
+            CompletableFuture<ImageIcon> f = CompletableFuture.supplyAsync(() -> {
+                try {
+                    ImageIcon icon = new ImageIcon(produce(k));
+                    toMemory(k, icon);
+                    return icon;
+                } catch (IOException e) {
+                    System.err.println("썸네일 생성 실패: " + k.path + " (" + e.getMessage() + ")");
+                    throw new IllegalStateException(e);
+                }
+            }, decoder);
+            f.whenComplete((r, t) -> inFlight.remove(k));
+            return f;
+        });
+    }
+
+    /** 캐시에서 해당 경로의 썸네일 제거 (같은 경로에 다른 이미지를 저장했을 때) */
+    public void evict(String path) {
+        synchronized (memory) {
+            Iterator<Map.Entry<Key, ImageIcon>> it = memory.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Key, ImageIcon> e = it.next();
+                if (e.getKey().path.equals(path)) {
+                    memoryBytes -= bytesOf(e.getKey());
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (memory) {
+            return String.format("ThumbnailService[memory=%d개/%dKB, memoryHits=%d, diskHits=%d, decodes=%d]",
+                    memory.size(), memoryBytes / 1024, memoryHits.get(), diskHits.get(), decodes.get());
+        }
+    }
+
+    // ================================
+    // 3. 메모리 캐시 (LRU, 픽셀 용량 제한)
+    // ================================
+    private ImageIcon fromMemory(Key key) {
+        synchronized (memory) {
+            ImageIcon icon = memory.get(key);
+            if (icon != null) memoryHits.incrementAndGet();
+            return icon;
+        }
+    }
+
+    private void toMemory(Key key, ImageIcon icon) {
+        synchronized (memory) {
+            if (memory.put(key, icon) == null) memoryBytes += bytesOf(key);
+
+            Iterator<Map.Entry<Key, ImageIcon>> it = memory.entrySet().iterator();
+            while (memoryBytes > maxMemoryBytes && it.hasNext()) {
+                Map.Entry<Key, ImageIcon> eldest = it.next();
+                if (eldest.getKey().equals(key)) continue;   // 방금 넣은 것은 유지
+                memoryBytes -= bytesOf(eldest.getKey());
+                it.remove();
+            }
+        }
+    }
+
+    private static long bytesOf(Key key) {
+        return (long) key.width * key.height * 4;   // ARGB
+    }
+
+    // ================================
+    // 4. 디스크 캐시 → 없으면 원본 디코딩 + 축소
+    // ================================
+    private BufferedImage produce(Key key) throws IOException {
+        byte[] source = readSource(key.path);
+        String hash = sha256(source);
+        Path cached = (diskDir == null) ? null
+                : diskDir.resolve(hash + "_" + key.width + "x" + key.height + ".png");
+
+        if (cached != null && Files.isRegularFile(cached)) {
+            BufferedImage img = ImageIO.read(cached.toFile());
+            if (img != null) {
+                diskHits.incrementAndGet();
+                return img;
+            }
+        }
+
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(source));
+        if (original == null) throw new IOException("지원하지 않는 이미지 형식");
+        decodes.incrementAndGet();
+
+        BufferedImage thumb = scaleToFit(original, key.width, key.height);
+        if (cached != null) writeAtomically(thumb, cached);
+        return thumb;
+    }
+
+    // 클래스패스(/img/...) 먼저, 없으면 파일 경로 (기존 화면들과 같은 순서)
+    private static byte[] readSource(String path) throws IOException {
+        String resource = path.startsWith("/") ? path : "/" + path;
+        try (InputStream in = ThumbnailService.class.getResourceAsStream(resource)) {
+            if (in != null) return in.readAllBytes();
+        }
+        return Files.readAllBytes(Paths.get(path));
+    }
+
+    private void writeAtomically(BufferedImage img, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), "thumb", ".tmp");
+            try {
+                ImageIO.write(img, "png", tmp.toFile());
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // 디스크 캐시는 실패해도 화면 표시에는 지장 없음
+            System.err.println("썸네일 디스크 캐시 저장 실패: " + e.getMessage());
+        }
+    }
+
+    static String sha256(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ================================
+    // 5. 고품질 축소 (비율 유지, 가운데 정렬)
+    //    - 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 여러 번 줄임
+    // ================================
+    static BufferedImage scaleToFit(BufferedImage src, int width, int height) {
+        double ratio = Math.min((double) width / src.getWidth(), (double) height / src.getHeight());
+        int targetW = Math.max(1, (int) Math.round(src.getWidth() * ratio));
+        int targetH = Math.max(1, (int) Math.round(src.getHeight() * ratio));
+
+        BufferedImage current = scaleDown(src, targetW, targetH);
+
+        BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = canvas.createGraphics();
+        g.setComposite(AlphaComposite.SrcOver);
+        g.drawImage(current, (width - targetW) / 2, (height - targetH) / 2, null);
+        g.dispose();
+        return canvas;
+    }
+
+    // targetW × targetH 로 축소 (ImageStore 의 업로드 정규화에서도 사용)
+    static BufferedImage scaleDown(BufferedImage src, int targetW, int targetH) {
+        BufferedImage current = src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+        while (w / 2 >= targetW && h / 2 >= targetH) {
+            w /= 2;
+            h /= 2;
+            current = drawScaled(current, w, h);
+        }
+        if (w != targetW || h != targetH) {
+            current = drawScaled(current, targetW, targetH);
+        }
+        return current;
+    }
+
+    private static BufferedImage drawScaled(BufferedImage src, int w, int h) {
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.drawImage(src, 0, 0, w, h, null);
+        g.dispose();
+        return out;
+    }
+
+    // ================================
+    // 6. 자리표시 (크기별로 하나만 만들어 재사용)
+    // ================================
+    private Icon placeholder(int width, int height) {
+        return placeholders.computeIfAbsent(((long) width << 32) | height, k -> new Icon() {
+            @Override
+            public void paintIcon(Component c, Graphics g, int x, int y) {
+                Graphics2D g2 = (Graphics2D) g.create();
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2.setColor(PLACEHOLDER_BG);
+                int arc = Math.min(width, height) / 5;
+                g2.fillRoundRect(x + 4, y + 4, width - 8, height - 8, arc, arc);
+                g2.dispose();
+            }
+
+            @Override
+            public int getIconWidth() { return width; }
+
+            @Override
+            public int getIconHeight() { return height; }
+        });
+    }
+}
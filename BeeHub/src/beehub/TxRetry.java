@@ -0,0 +1,109 @@
+package beehub;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트랜잭션 재시도 정책 + 작업별 재시도 통계 (DBUtil.inTransaction(이름, 작업) 에서 사용)
+ * - 데드락(SQLState 40001, MySQL 1213), 락 대기 시간 초과(MySQL 1205, H2 50200) 만 재시도
+ * - 재시도 전 대기: 0 ~ min(최대, 기본 × 2^(n-1)) 사이 무작위 (동시에 실패한 요청이 다시 부딪히지 않게)
+ * - 트랜잭션 전체가 rollback 된 뒤 처음부터 다시 실행하므로,
+ *   작업 안에서 검사 → 변경을 같이 하는(다시 실행해도 결과가 같은) 단위에만 사용할 것
+ *
+ * 설정
+ *  -Dbeehub.tx.maxAttempts=4     : 최대 실행 횟수 (첫 실행 포함)
+ *  -Dbeehub.tx.baseDelayMs=20    : 첫 재시도 대기 상한 (ms)
+ *  -Dbeehub.tx.maxDelayMs=500    : 대기 상한의 최댓값 (ms)
+ */
+public class TxRetry {
+
+    static final int MAX_ATTEMPTS = Math.max(1, Integer.getInteger("beehub.tx.maxAttempts", 4));
+    static final long BASE_DELAY_MS = Long.getLong("beehub.tx.baseDelayMs", 20L);
+    static final long MAX_DELAY_MS = Long.getLong("beehub.tx.maxDelayMs", 500L);
+
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int H2_LOCK_TIMEOUT = 50200;
+
+    // 작업 이름 → 통계
+    private static final Map<String, OpStat> byOperation = new ConcurrentHashMap<>();
+
+    private TxRetry() {}
+
+    // ================================
+    // 📊 작업 1개의 재시도 통계
+    // ================================
+    public static class OpStat {
+        public final String operation;
+        final AtomicLong calls = new AtomicLong();       // 호출 수
+        final AtomicLong retries = new AtomicLong();     // 재시도 횟수 (첫 실행 제외)
+        final AtomicLong recovered = new AtomicLong();   // 재시도 끝에 성공
+        final AtomicLong exhausted = new AtomicLong();   // 재시도를 다 쓰고도 충돌로 실패
+        final AtomicLong failures = new AtomicLong();    // 재시도 대상이 아닌 오류로 실패
+
+        OpStat(String operation) { this.operation = operation; }
+
+        public long getCalls()     { return calls.get(); }
+        public long getRetries()   { return retries.get(); }
+        public long getRecovered() { return recovered.get(); }
+        public long getExhausted() { return exhausted.get(); }
+        public long getFailures()  { return failures.get(); }
+    }
+
+    static OpStat statFor(String operation) {
+        return byOperation.computeIfAbsent(operation, OpStat::new);
+    }
+
+    // ================================
+    // 1. 재시도 대상 판별 (원인/연결된 예외까지 확인)
+    // ================================
+    static boolean isRetryable(Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof SQLException) {
+                for (SQLException e = (SQLException) c; e != null; e = e.getNextException()) {
+                    if (isRetryableOne(e)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRetryableOne(SQLException e) {
+        if (e instanceof SQLTransactionRollbackException) return true;
+        if ("40001".equals(e.getSQLState())) return true;
+        int code = e.getErrorCode();
+        return code == MYSQL_DEADLOCK || code == MYSQL_LOCK_WAIT_TIMEOUT || code == H2_LOCK_TIMEOUT;
+    }
+
+    // ================================
+    // 2. 재시도 전 대기 시간 (attempt: 방금 실패한 실행 번호, 1부터)
+    // ================================
+    static long backoffMillis(int attempt) {
+        long cap = BASE_DELAY_MS << Math.min(attempt - 1, 20);
+        cap = Math.min(MAX_DELAY_MS, Math.max(1, cap));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    // ================================
+    // 3. 조회 / 초기화
+    // ================================
+
+    /** 재시도가 많은 순으로 정렬된 작업별 통계 */
+    public static List<OpStat> snapshot() {
+        List<OpStat> list = new ArrayList<>(byOperation.values());
+        list.sort(Comparator.comparingLong((OpStat s) -> s.retries.get()).reversed()
+                .thenComparing(s -> s.operation));
+        return list;
+    }
+
+    public static void reset() {
+        byOperation.clear();
+    }
+}
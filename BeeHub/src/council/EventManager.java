@@ -2,6 +2,7 @@
 package council;
 
 import beehub.DBUtil;
+import beehub.DashboardDAO;
 
 import java.sql.*;
 import java.time.LocalDateTime;
@@ -88,17 +89,24 @@ public class EventManager {
     //  참여 인원 카운트
     // =========================
     private static int getParticipantCount(int eventId) {
+        try (Connection conn = DBUtil.getReadConnection()) {
+            return getParticipantCount(conn, eventId);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return 0;
+    }
+
+    // 같은 커넥션(트랜잭션) 재사용 버전
+    private static int getParticipantCount(Connection conn, int eventId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM event_participation WHERE event_id = ?";
-        try (Connection conn = DBUtil.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, eventId);
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
                     return rs.getInt(1);
                 }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
         return 0;
     }
@@ -106,7 +114,7 @@ public class EventManager {
     // =========================
     //  ResultSet -> EventData 매핑
     // =========================
-    private static EventData mapRow(ResultSet rs) throws SQLException {
+    static EventData mapRow(ResultSet rs) throws SQLException {
         EventData d = new EventData();
 
         d.eventId   = rs.getInt("event_id");
@@ -207,7 +215,7 @@ public class EventManager {
                 "WHERE status IS NULL OR status <> 'DELETED' " +
                 "ORDER BY event_date DESC";
 
-        try (Connection conn = DBUtil.getConnection();
+        try (Connection conn = DBUtil.getReadConnection();   // 목록 조회 → 복제 DB 가능
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
 
@@ -354,6 +362,8 @@ public class EventManager {
                     pstmt.executeUpdate();
                 }
             }
+            // 메인 화면 일정 캐시 버리기 (행사는 모든 회원 화면에 보임)
+            DashboardDAO.getInstance().invalidateEvents();
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -384,60 +394,56 @@ public class EventManager {
                 "SELECT total_quantity, remaining_quantity " +
                 "FROM events WHERE event_id = ?";
 
-        try (Connection conn = DBUtil.getConnection()) {
-            conn.setAutoCommit(false);
-
-            try (PreparedStatement pCheck = conn.prepareStatement(sqlCheck);
-                 PreparedStatement p1 = conn.prepareStatement(sqlInsert);
-                 PreparedStatement p2 = conn.prepareStatement(sqlUpdate);
-                 PreparedStatement p3 = conn.prepareStatement(sqlSelect)) {
-
-                // 중복 체크
-                pCheck.setInt(1, event.eventId);
-                pCheck.setString(2, hakbun);
-                try (ResultSet rs = pCheck.executeQuery()) {
-                    if (rs.next() && rs.getInt(1) > 0) {
-                        conn.rollback();
-                        return false; // 이미 신청함
+        // 커넥션 1개 + 트랜잭션 1개 (DBUtil.inTransaction)
+        //  - 검사/수량 차감을 먼저 하고, 실패하면 아무것도 바꾸지 않은 상태로 false
+        //  - 신청이 몰려 데드락/락 대기 초과가 나면 처음(중복 체크)부터 다시 실행
+        int[] counts = new int[2];   // [0] total, [1] current
+        try {
+            boolean ok = DBUtil.inTransaction("event.insertApply", conn -> {
+                try (PreparedStatement pCheck = conn.prepareStatement(sqlCheck);
+                     PreparedStatement p1 = conn.prepareStatement(sqlInsert);
+                     PreparedStatement p2 = conn.prepareStatement(sqlUpdate);
+                     PreparedStatement p3 = conn.prepareStatement(sqlSelect)) {
+
+                    // 중복 체크
+                    pCheck.setInt(1, event.eventId);
+                    pCheck.setString(2, hakbun);
+                    try (ResultSet rs = pCheck.executeQuery()) {
+                        if (rs.next() && rs.getInt(1) > 0) {
+                            return false; // 이미 신청함
+                        }
                     }
-                }
 
-                // 1) 신청 기록 추가
-                p1.setInt(1, event.eventId);
-                p1.setString(2, hakbun);
-                p1.executeUpdate();
-
-                // 2) 남은 수량 감소
-                p2.setInt(1, event.eventId);
-                int updated = p2.executeUpdate();
-                if (updated == 0) {
-                    conn.rollback();
-                    return false; // 잔여 수량 없음
-                }
-
-                // 3) 현재/잔여 수량 다시 조회
-                p3.setInt(1, event.eventId);
-                try (ResultSet rs = p3.executeQuery()) {
-                    if (rs.next()) {
-                        int total  = rs.getInt("total_quantity");
-                        int remain = rs.getInt("remaining_quantity");
-                        event.totalCount = total;
+                    // 1) 남은 수량 감소
+                    p2.setInt(1, event.eventId);
+                    if (p2.executeUpdate() == 0) {
+                        return false; // 잔여 수량 없음
                     }
-                }
 
-                // 현재 인원 카운트 동기화
-                event.currentCount = getParticipantCount(event.eventId);
+                    // 2) 신청 기록 추가
+                    p1.setInt(1, event.eventId);
+                    p1.setString(2, hakbun);
+                    p1.executeUpdate();
+
+                    // 3) 현재/잔여 수량 다시 조회
+                    p3.setInt(1, event.eventId);
+                    try (ResultSet rs = p3.executeQuery()) {
+                        if (rs.next()) {
+                            counts[0] = rs.getInt("total_quantity");
+                        }
+                    }
 
-                conn.commit();
-                return true;
+                    // 현재 인원 카운트 (같은 커넥션)
+                    counts[1] = getParticipantCount(conn, event.eventId);
+                    return true;
+                }
+            });
 
-            } catch (Exception ex) {
-                conn.rollback();
-                ex.printStackTrace();
-                return false;
-            } finally {
-                conn.setAutoCommit(true);
+            if (ok) {
+                event.totalCount = counts[0];
+                event.currentCount = counts[1];
             }
+            return ok;
         } catch (Exception e) {
             e.printStackTrace();
             return false;
@@ -468,6 +474,7 @@ public class EventManager {
                 p2.executeUpdate();
 
                 conn.commit();
+                DashboardDAO.getInstance().invalidateEvents();
             } catch (Exception ex) {
                 conn.rollback();
                 ex.printStackTrace();
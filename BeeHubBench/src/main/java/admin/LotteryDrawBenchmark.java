@@ -0,0 +1,49 @@
+package admin;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import admin.LotteryManager.LotteryRound;
+import beehub.BenchDatabase;
+
+/**
+ * 경품 추첨 (AdminLotteryFrame.runLottery → LotteryManager.drawWinners)
+ * - 회차/응모자는 LotteryManager.getAllRounds() 로 내장 DB 에서 읽어온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LotteryDrawBenchmark {
+
+    private LotteryRound round;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        BenchDatabase.ensureSeeded();
+        List<LotteryRound> rounds = LotteryManager.getAllRounds();
+        round = rounds.get(0);
+        random = new Random(BenchDatabase.SEED);
+    }
+
+    @Benchmark
+    public LotteryRound drawWinners() {
+        LotteryManager.drawWinners(round, random);
+        return round;
+    }
+}
@@ -0,0 +1,87 @@
+package beehub;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import javax.sql.RowSetMetaData;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+
+/**
+ * 벤치마크용 내장 DB (H2, MySQL 호환 모드)
+ * - DBUtil 을 embedded 프로필로 실행 → 테이블은 DBUtil 이 db/schema.sql 로 생성
+ * - CampusDataGenerator 로 시드 고정 데이터 입력
+ * - 규모: -Dbeehub.bench.scale=N (기본 1 → 회원 3천, 물품 500, 대여 10만, 게시글 2만 ...)
+ */
+public final class BenchDatabase {
+
+    public static final long SEED = 20241201L;
+    public static final int SCALE = Integer.getInteger("beehub.bench.scale", 1);
+
+    // 빈 강의실 벤치마크가 조회하는 날짜 (학기 6주차 월요일)
+    public static final LocalDate CLASS_DATE = CampusDataGenerator.SEMESTER_START.plusWeeks(6);
+
+    static {
+        defaultProperty("beehub.db.profile", "embedded");
+        defaultProperty("beehub.overdue.scan", "false");   // 측정 중에 연체 검사가 끼어들지 않게
+        defaultProperty("beehub.usage.backfillDays", "0");  // 이용 통계 초기 채우기도 측정과 겹치지 않게
+        defaultProperty("beehub.postIndex.file", "");       // 게시글 검색 색인 파일을 남기지 않음
+        defaultProperty("beehub.postIndex.syncSec", "3600"); // 색인 따라잡기는 필요한 벤치마크가 직접 (syncNow)
+    }
+
+    private static volatile boolean seeded;
+
+    private BenchDatabase() {}
+
+    private static void defaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) System.setProperty(key, value);
+    }
+
+    // ================================
+    // 1. 데이터 입력 (JVM 당 1회)
+    // ================================
+    public static synchronized void ensureSeeded() {
+        if (seeded) return;
+        try (Connection conn = DBUtil.getConnection()) {
+            if (conn == null) throw new IllegalStateException("벤치마크 DB 연결 실패");
+            new CampusDataGenerator(conn, SEED, benchScale()).generate();
+            seeded = true;
+        } catch (SQLException e) {
+            throw new IllegalStateException("벤치마크 DB 준비 실패", e);
+        }
+    }
+
+    // 전교 규모의 1/10 (물품 목록은 그대로 500개)
+    static CampusDataGenerator.Scale benchScale() {
+        CampusDataGenerator.Scale scale = CampusDataGenerator.Scale.defaults().scaled(0.1 * SCALE);
+        scale.items = 500;
+        return scale;
+    }
+
+    // ================================
+    // 2. 조회 결과를 메모리에 복사 (매퍼 벤치마크에서 DB I/O 제외)
+    // ================================
+    public static CachedRowSet query(String sql) {
+        ensureSeeded();
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            CachedRowSet rowSet = RowSetProvider.newFactory().createCachedRowSet();
+            rowSet.populate(rs);
+
+            // CachedRowSet 은 컬럼 "이름"으로 찾으므로 AS 별칭(renter_name 등)을 이름으로 맞춰준다
+            ResultSetMetaData src = rs.getMetaData();
+            RowSetMetaData md = (RowSetMetaData) rowSet.getMetaData();
+            for (int i = 1; i <= src.getColumnCount(); i++) {
+                md.setColumnName(i, src.getColumnLabel(i));
+            }
+            return rowSet;
+        } catch (SQLException e) {
+            throw new IllegalStateException("벤치마크 조회 실패: " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,683 @@
+package beehub;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 부하/규모 테스트용 캠퍼스 데이터 생성기
+ * - 기존 스키마(members, ITEM, RENTAL, community_*, events, event_participation,
+ *   lottery_*, space_*, class_timetable)에 그대로 INSERT
+ * - 여러 행을 한 문장으로 묶은 INSERT (기본 500행) + 문장마다 커밋
+ * - 같은 seed 면 항상 같은 데이터 (날짜 기준도 고정: --today)
+ * - 빈 DB 를 가정 (AUTO_INCREMENT 가 1부터 연속으로 증가)
+ *
+ * 실행 예)
+ *   java -cp BeeHubBench/target/benchmarks.jar beehub.CampusDataGenerator \
+ *        --url=jdbc:mysql://localhost:3306/beehub_load --user=root --pass=1234 --scale=1.0 --seed=42
+ *   java -Dbeehub.db.profile=embedded -Dbeehub.db.url="jdbc:h2:./beehub_load;MODE=MySQL;DATABASE_TO_LOWER=TRUE" \
+ *        -cp BeeHubBench/target/benchmarks.jar beehub.CampusDataGenerator --scale=0.1
+ *
+ * 옵션
+ *   --scale=F        기본 규모(회원 3만, 물품 500, 대여 100만 ...)에 곱할 배수
+ *   --members=N 등    테이블별 건수 직접 지정 (Scale 필드 이름과 같음)
+ *   --seed=N         난수 시드 (기본 42)
+ *   --batch=N        INSERT 한 문장에 넣을 행 수 (기본 500)
+ *   --today=날짜      "오늘" 기준일 (기본 2024-12-01)
+ *   --schema         db/schema.sql 로 테이블부터 생성 (내장 DB 프로필은 DBUtil 이 자동 생성)
+ *   --driver/--url/--user/--pass  DBUtil 접속 정보 (-Dbeehub.db.* 와 같음)
+ */
+public class CampusDataGenerator {
+
+    // ================================
+    // 📏 생성 규모
+    // ================================
+    public static class Scale {
+        public int members = 30_000;
+        public int items = 500;
+        public int rentals = 1_000_000;
+        public int posts = 200_000;
+        public int comments = 1_000_000;
+        public int likes = 1_000_000;
+        public int events = 400;
+        public int lotteryRounds = 20;
+        public int semesterWeeks = 16;
+        public double lotteryEntryRate = 0.2;      // 회차당 응모 회원 비율
+        public double reservationFillRate = 0.35;  // 세미나실/실습실 시간당 예약 확률
+
+        public static Scale defaults() {
+            return new Scale();
+        }
+
+        /** 건수 필드에 factor 를 곱한 복사본 (비율/기간은 그대로) */
+        public Scale scaled(double factor) {
+            Scale s = new Scale();
+            s.members  = atLeast(1, members * factor);
+            s.items    = atLeast(1, items * factor);
+            s.rentals  = atLeast(0, rentals * factor);
+            s.posts    = atLeast(1, posts * factor);
+            s.comments = atLeast(0, comments * factor);
+            s.likes    = atLeast(0, likes * factor);
+            s.events   = atLeast(0, events * factor);
+            s.lotteryRounds = lotteryRounds;
+            s.semesterWeeks = semesterWeeks;
+            s.lotteryEntryRate = lotteryEntryRate;
+            s.reservationFillRate = reservationFillRate;
+            return s;
+        }
+
+        private static int atLeast(int min, double v) {
+            return Math.max(min, (int) Math.round(v));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("members=%d, items=%d, rentals=%d, posts=%d, comments=%d, likes=%d, "
+                    + "events=%d, lotteryRounds=%d, semesterWeeks=%d",
+                    members, items, rentals, posts, comments, likes, events, lotteryRounds, semesterWeeks);
+        }
+    }
+
+    public static final LocalDate DEFAULT_TODAY = LocalDate.of(2024, 12, 1);
+    // 2학기 개강일 (월요일)
+    public static final LocalDate SEMESTER_START = LocalDate.of(2024, 9, 2);
+
+    static final String[] MAJORS = {
+        "소프트웨어융합학과", "정보보호학과", "데이터사이언스학과", "디지털미디어학과", "경영학과",
+        "국어국문학과", "영어영문학과", "화학생명환경과학부", "식품영양학과", "의류학과"
+    };
+    private static final String[] LAST_NAMES = { "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권" };
+    private static final String[] FIRST_NAMES = {
+        "서연", "지우", "하은", "민서", "수아", "지민", "예은", "채원", "유진", "다인",
+        "소윤", "지유", "윤서", "하린", "수빈", "예린", "가은", "나연", "서현", "도연"
+    };
+    private static final String[] ITEM_NAMES = {
+        "보조배터리", "노트북 충전기", "C타입 케이블", "우산", "계산기", "HDMI 젠더", "공학용 계산기",
+        "삼각대", "마우스", "멀티탭", "돗자리", "블루투스 키보드", "USB 메모리", "담요"
+    };
+    static final String[] BUILDINGS = { "50주년기념관", "인문사회관", "제2과학관", "조형예술관", "바롬인성교육관", "샬롬하우스" };
+    private static final String[] WORDS = {
+        "과제", "시험", "기숙사", "학식", "동아리", "분실물", "중고거래", "스터디", "공모전", "장학금",
+        "수강신청", "도서관", "축제", "택배", "셔틀버스", "교양", "전공", "알바", "휴학", "졸업"
+    };
+    private static final String[] PRIZES = { "에어팟", "스타벅스 기프티콘", "문화상품권", "학식 식권", "보조배터리", "텀블러" };
+
+    private final Connection conn;
+    private final Random rnd;
+    private final Scale scale;
+    private final int rowsPerInsert;
+    private final LocalDate today;
+
+    // 다른 테이블에서 참조하는 값 (메모리에 보관)
+    private String[] memberNames;
+    private String[] memberNicknames;
+    private String[] itemNames;
+    private int[] itemStock;
+    private final List<int[]> bookableRooms = new ArrayList<>();   // {space_id, min, max}
+
+    public CampusDataGenerator(Connection conn, long seed, Scale scale, int rowsPerInsert, LocalDate today) {
+        this.conn = conn;
+        this.rnd = new Random(seed);
+        this.scale = scale;
+        this.rowsPerInsert = rowsPerInsert;
+        this.today = today;
+    }
+
+    public CampusDataGenerator(Connection conn, long seed, Scale scale) {
+        this(conn, seed, scale, 500, DEFAULT_TODAY);
+    }
+
+    static String hakbun(int i) {
+        return String.format("%d%05d", 2018 + i % 7, i);
+    }
+
+    // ================================
+    // 1. 전체 생성
+    // ================================
+    public void generate() throws SQLException {
+        boolean oldAutoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            timed("members", this::generateMembers);
+            timed("ITEM", this::generateItems);
+            timed("RENTAL", this::generateRentals);
+            timed("community_post/comment/like", this::generateCommunity);
+            timed("events/event_participation", this::generateEvents);
+            timed("space_info/class_timetable", this::generateSpacesAndTimetable);
+            timed("space_reservation", this::generateReservations);
+            timed("lottery_round/lottery_entry", this::generateLottery);
+        } finally {
+            conn.setAutoCommit(oldAutoCommit);
+        }
+    }
+
+    private interface Step {
+        long run() throws SQLException;
+    }
+
+    private void timed(String name, Step step) throws SQLException {
+        long start = System.nanoTime();
+        long rows = step.run();
+        System.out.printf("[데이터생성] %-30s %,10d건 (%.1fs)%n", name, rows, (System.nanoTime() - start) / 1e9);
+    }
+
+    // ================================
+    // 2. 테이블별 생성
+    // ================================
+    private long generateMembers() throws SQLException {
+        int n = scale.members;
+        memberNames = new String[n];
+        memberNicknames = new String[n];
+
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "members",
+                "hakbun, pw, name, nickname, major, phone, point, role, is_fee_paid, dept_fee_yn", rowsPerInsert)) {
+            for (int i = 0; i < n; i++) {
+                String name = LAST_NAMES[rnd.nextInt(LAST_NAMES.length)] + FIRST_NAMES[rnd.nextInt(FIRST_NAMES.length)];
+                String nickname = rnd.nextInt(4) == 0 ? "" : "꿀벌" + i;
+                memberNames[i] = name;
+                memberNicknames[i] = nickname.isEmpty() ? name : nickname;
+
+                // 앞쪽 회원은 학과별 학생회 계정
+                String role = i < MAJORS.length ? "COUNCIL" : "USER";
+                String major = i < MAJORS.length ? MAJORS[i] : MAJORS[rnd.nextInt(MAJORS.length)];
+                ins.add(hakbun(i), "1234", name, nickname, major,
+                        String.format("010-%04d-%04d", rnd.nextInt(10_000), rnd.nextInt(10_000)),
+                        rnd.nextInt(1_000), role,
+                        rnd.nextInt(10) < 7 ? "Y" : "N", rnd.nextInt(10) < 5 ? "Y" : "N");
+            }
+            ins.add("admin", "1234", "관리자", "관리자", null, null, 0, "ADMIN", "N", "N");
+            return ins.total();
+        }
+    }
+
+    private long generateItems() throws SQLException {
+        int n = scale.items;
+        itemNames = new String[n];
+        itemStock = new int[n];
+
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "ITEM",
+                "name, total_stock, available_stock, max_rent_days, target_major, image_path, is_active", rowsPerInsert)) {
+            for (int i = 0; i < n; i++) {
+                itemNames[i] = ITEM_NAMES[i % ITEM_NAMES.length] + " " + (i / ITEM_NAMES.length + 1);
+                itemStock[i] = 1 + rnd.nextInt(20);
+                ins.add(itemNames[i], itemStock[i], itemStock[i], 1 + rnd.nextInt(7),
+                        rnd.nextInt(4) == 0 ? MAJORS[rnd.nextInt(MAJORS.length)] : "전체",
+                        "img/item" + (i % ITEM_NAMES.length) + ".png",
+                        rnd.nextInt(25) == 0 ? 0 : 1);
+            }
+            return ins.total();
+        }
+    }
+
+    /**
+     * 최근 4년치 대여 기록. 대부분 반납 완료,
+     * 최근 2주 안에 빌린 것 일부만 미반납 (회원+물품 조합당 1건, 재고 이하, 일부는 연체)
+     */
+    private long generateRentals() throws SQLException {
+        int[] active = new int[scale.items];
+        Set<Long> activePairs = new HashSet<>();
+
+        long total;
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "RENTAL",
+                "item_id, item_name, renter_id, renter_name, rent_date, due_date, return_date, is_returned", rowsPerInsert)) {
+            for (int i = 0; i < scale.rentals; i++) {
+                int item = rnd.nextInt(scale.items);
+                int member = MAJORS.length + rnd.nextInt(Math.max(1, scale.members - MAJORS.length));
+                member = Math.min(member, scale.members - 1);
+
+                LocalDate rent = today.minusDays(rnd.nextInt(4 * 365));
+                LocalDate due = rent.plusDays(1 + rnd.nextInt(7));
+
+                boolean unreturned = false;
+                if (!rent.isBefore(today.minusDays(14)) && rnd.nextInt(3) == 0
+                        && active[item] < itemStock[item]
+                        && activePairs.add(((long) member << 20) | item)) {
+                    unreturned = true;
+                    active[item]++;
+                }
+
+                LocalDate returned = unreturned ? null : due.minusDays(rnd.nextInt(2)).plusDays(rnd.nextInt(20) == 0 ? 3 : 0);
+                if (returned != null && returned.isAfter(today)) returned = today;
+
+                ins.add(item + 1, itemNames[item], hakbun(member), memberNames[member],
+                        Date.valueOf(rent), Date.valueOf(due),
+                        returned == null ? null : Date.valueOf(returned), unreturned ? 0 : 1);
+            }
+            total = ins.total();
+        }
+
+        // 미반납 수만큼 대여 가능 재고 차감
+        try (PreparedStatement ps = conn.prepareStatement(
+                "UPDATE ITEM SET available_stock = total_stock - ? WHERE item_id = ?")) {
+            for (int i = 0; i < active.length; i++) {
+                if (active[i] == 0) continue;
+                ps.setInt(1, active[i]);
+                ps.setInt(2, i + 1);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            conn.commit();
+        }
+        return total;
+    }
+
+    /** 게시글 → 댓글 → 좋아요. 글마다 개수는 한쪽으로 치우치게 (인기글) 분배하고 like_count/comment_count 와 맞춘다 */
+    private long generateCommunity() throws SQLException {
+        int posts = scale.posts;
+        int[] commentCounts = skewedCounts(posts, scale.comments, Integer.MAX_VALUE);
+        int[] likeCounts = skewedCounts(posts, scale.likes, scale.members);
+
+        LocalDateTime first = today.minusYears(3).atTime(9, 0);
+        long spanMinutes = Duration.between(first, today.atStartOfDay()).toMinutes();
+        LocalDateTime[] createdAt = new LocalDateTime[posts];
+
+        long total;
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "community_post",
+                "writer_hakbun, writer_nickname, title, content, like_count, comment_count, is_deleted, created_at, updated_at",
+                rowsPerInsert)) {
+            for (int p = 0; p < posts; p++) {
+                int writer = rnd.nextInt(scale.members);
+                createdAt[p] = first.plusMinutes(spanMinutes * p / posts + rnd.nextInt(5));
+                String title = WORDS[rnd.nextInt(WORDS.length)] + " " + WORDS[rnd.nextInt(WORDS.length)]
+                             + (rnd.nextBoolean() ? " 질문 있어요" : " 정보 공유합니다");
+                Timestamp ts = Timestamp.valueOf(createdAt[p]);
+                ins.add(hakbun(writer), memberNicknames[writer], title,
+                        title + " " + WORDS[rnd.nextInt(WORDS.length)] + " 관련해서 아시는 분 댓글 부탁드려요.",
+                        likeCounts[p], commentCounts[p], rnd.nextInt(50) == 0 ? 1 : 0, ts, ts);
+            }
+            total = ins.total();
+        }
+
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "community_comment",
+                "post_id, writer_hakbun, writer_nickname, content, created_at, updated_at", rowsPerInsert)) {
+            for (int p = 0; p < posts; p++) {
+                for (int c = 0; c < commentCounts[p]; c++) {
+                    int writer = rnd.nextInt(scale.members);
+                    Timestamp ts = Timestamp.valueOf(createdAt[p].plusMinutes(1 + rnd.nextInt(60 * 24)));
+                    ins.add(p + 1, hakbun(writer), memberNicknames[writer],
+                            WORDS[rnd.nextInt(WORDS.length)] + " 저도 궁금해요", ts, ts);
+                }
+            }
+            total += ins.total();
+        }
+
+        // 같은 글에 같은 회원이 두 번 좋아요 하지 않도록 임의 시작점부터 연속된 회원
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "community_post_like",
+                "post_id, liker_hakbun, created_at", rowsPerInsert)) {
+            for (int p = 0; p < posts; p++) {
+                int offset = rnd.nextInt(scale.members);
+                for (int l = 0; l < likeCounts[p]; l++) {
+                    ins.add(p + 1, hakbun((offset + l) % scale.members),
+                            Timestamp.valueOf(createdAt[p].plusMinutes(1 + rnd.nextInt(60 * 24 * 3))));
+                }
+            }
+            total += ins.total();
+        }
+        return total;
+    }
+
+    // total 개를 slots 칸에 나눠 담기 (앞쪽 칸일수록 많이, 칸당 max 이하)
+    private int[] skewedCounts(int slots, int total, int max) {
+        int[] counts = new int[slots];
+        int placed = 0;
+        int attempts = 0;
+        while (placed < total && attempts < total * 2L + 1_000) {
+            attempts++;
+            double u = rnd.nextDouble();
+            int idx = slots - 1 - (int) (slots * u * u);   // 최근 글(뒤쪽)에 몰리게
+            idx = Math.max(0, Math.min(slots - 1, idx));
+            if (counts[idx] >= max) continue;
+            counts[idx]++;
+            placed++;
+        }
+        return counts;
+    }
+
+    private long generateEvents() throws SQLException {
+        String[] fees = { "NONE", "NONE", "SCHOOL", "DEPT" };
+        int[] applied = new int[scale.events];
+        LocalDateTime[] applyStart = new LocalDateTime[scale.events];
+
+        long total;
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "events",
+                "event_type, event_name, event_date, location, apply_start, apply_end, total_quantity, remaining_quantity, "
+              + "secret_code, description, status, target_major, owner_hakbun, required_fee, created_at, updated_at",
+                rowsPerInsert)) {
+            for (int e = 0; e < scale.events; e++) {
+                applyStart[e] = today.minusDays(365).atTime(10, 0).plusHours(rnd.nextInt(24 * 400));
+                LocalDateTime applyEnd = applyStart[e].plusDays(3 + rnd.nextInt(5));
+                LocalDateTime eventDate = applyEnd.plusDays(1 + rnd.nextInt(7));
+                int quantity = 20 + rnd.nextInt(300);
+                applied[e] = rnd.nextInt(Math.min(quantity, scale.members) + 1);
+
+                String status = eventDate.isBefore(today.atStartOfDay()) ? "CLOSED"
+                              : applyStart[e].isBefore(today.atStartOfDay()) ? "PROGRESS" : "SCHEDULED";
+                int owner = rnd.nextInt(Math.min(MAJORS.length, scale.members));
+                Timestamp created = Timestamp.valueOf(applyStart[e].minusDays(7));
+
+                ins.add(rnd.nextBoolean() ? "SNACK" : "ACTIVITY",
+                        WORDS[rnd.nextInt(WORDS.length)] + " " + (rnd.nextBoolean() ? "간식 행사" : "특강") + " " + (e + 1),
+                        Timestamp.valueOf(eventDate), BUILDINGS[rnd.nextInt(BUILDINGS.length)],
+                        Timestamp.valueOf(applyStart[e]), Timestamp.valueOf(applyEnd),
+                        quantity, quantity - applied[e],
+                        rnd.nextInt(3) == 0 ? "BEE" + (1000 + rnd.nextInt(9000)) : null,
+                        "행사 안내 " + (e + 1), status,
+                        rnd.nextBoolean() ? "전체" : MAJORS[owner], hakbun(owner),
+                        fees[rnd.nextInt(fees.length)], created, created);
+            }
+            total = ins.total();
+        }
+
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "event_participation",
+                "event_id, participant_hakbun, participation_type, participation_date, quantity, note", rowsPerInsert)) {
+            for (int e = 0; e < scale.events; e++) {
+                int offset = rnd.nextInt(scale.members);
+                for (int p = 0; p < applied[e]; p++) {
+                    ins.add(e + 1, hakbun((offset + p) % scale.members), "APPLY",
+                            Timestamp.valueOf(applyStart[e].plusMinutes(p)), 1, null);
+                }
+            }
+            total += ins.total();
+        }
+        return total;
+    }
+
+    /** 건물마다 강의실 40개 + 세미나실/실습실 2개씩, 강의실은 한 학기 주간 시간표 반복 */
+    private long generateSpacesAndTimetable() throws SQLException {
+        long total;
+        List<int[]> lecture = new ArrayList<>();   // {space_id}
+
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "space_info",
+                "building_name, room_name, room_type, min_people, max_people, oper_time, is_active", rowsPerInsert)) {
+            int spaceId = 0;
+            for (String building : BUILDINGS) {
+                for (int r = 0; r < 40; r++) {
+                    spaceId++;
+                    lecture.add(new int[]{ spaceId });
+                    ins.add(building, (1 + r / 10) + String.format("%02d", r % 10 + 1) + "호", "강의실",
+                            1, 40 + rnd.nextInt(80), "09:00~21:00", 1);
+                }
+                for (String type : new String[]{ "세미나실", "실습실" }) {
+                    for (int r = 1; r <= 2; r++) {
+                        spaceId++;
+                        int min = 2 + rnd.nextInt(3);
+                        int max = min + 4 + rnd.nextInt(8);
+                        bookableRooms.add(new int[]{ spaceId, min, max });
+                        ins.add(building, type + " " + r, type, min, max, "09:00~21:00", 1);
+                    }
+                }
+            }
+            total = ins.total();
+        }
+
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "class_timetable",
+                "space_id, class_date, start_hour, end_hour, course_name", rowsPerInsert)) {
+            for (int[] room : lecture) {
+                for (int dow = 0; dow < 5; dow++) {
+                    // 요일별 시간표 (매주 같은 수업)
+                    List<int[]> classes = new ArrayList<>();
+                    int hour = 9;
+                    while (hour < 18) {
+                        int len = 1 + rnd.nextInt(3);
+                        if (rnd.nextInt(3) != 0) classes.add(new int[]{ hour, Math.min(hour + len, 21) });
+                        hour += len;
+                    }
+                    String course = WORDS[rnd.nextInt(WORDS.length)] + "의 이해";
+                    for (int week = 0; week < scale.semesterWeeks; week++) {
+                        Date day = Date.valueOf(SEMESTER_START.plusWeeks(week).plusDays(dow));
+                        for (int[] c : classes) {
+                            ins.add(room[0], day, c[0], c[1], course);
+                        }
+                    }
+                }
+            }
+            total += ins.total();
+        }
+        return total;
+    }
+
+    private long generateReservations() throws SQLException {
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "space_reservation",
+                "space_id, reserve_date, time_slot, hakbun, people_count, status, created_at", rowsPerInsert)) {
+            LocalDate end = SEMESTER_START.plusWeeks(scale.semesterWeeks);
+            for (LocalDate day = SEMESTER_START; day.isBefore(end); day = day.plusDays(1)) {
+                if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) continue;
+                for (int[] room : bookableRooms) {
+                    for (int hour = 9; hour < 21; hour++) {
+                        if (rnd.nextDouble() >= scale.reservationFillRate) continue;
+
+                        String status = "RESERVED";
+                        int r = rnd.nextInt(20);
+                        if (r < 2) status = "CANCELED";
+                        else if (r < 3 && day.isBefore(today)) status = "NO_SHOW";
+
+                        ins.add(room[0], Date.valueOf(day), String.format("%02d:00~%02d:00", hour, hour + 1),
+                                hakbun(rnd.nextInt(scale.members)), room[1] + rnd.nextInt(room[2] - room[1] + 1),
+                                status, Timestamp.valueOf(day.minusDays(1 + rnd.nextInt(14)).atTime(9 + rnd.nextInt(12), 0)));
+                    }
+                }
+            }
+            return ins.total();
+        }
+    }
+
+    /** 매달 1회차. 지난 회차는 추첨 완료(당첨 표시), 회차마다 회원 일부가 응모 */
+    private long generateLottery() throws SQLException {
+        int rounds = scale.lotteryRounds;
+        int[] winners = new int[rounds];
+        boolean[] drawn = new boolean[rounds];
+
+        long total;
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "lottery_round",
+                "round_name, prize_name, winner_count, announcement_date, application_start, application_end, "
+              + "pickup_location, pickup_start, pickup_end, is_drawn", rowsPerInsert)) {
+            for (int r = 0; r < rounds; r++) {
+                LocalDateTime start = today.minusMonths(rounds - 1 - r).withDayOfMonth(1).atTime(9, 0);
+                LocalDateTime end = start.plusDays(14);
+                drawn[r] = end.isBefore(today.atStartOfDay());
+                winners[r] = 5 + rnd.nextInt(46);
+                ins.add((r + 1) + "회차: " + PRIZES[r % PRIZES.length] + " 추첨", PRIZES[r % PRIZES.length], winners[r],
+                        Date.valueOf(end.toLocalDate().plusDays(2)), Timestamp.valueOf(start), Timestamp.valueOf(end),
+                        BUILDINGS[rnd.nextInt(BUILDINGS.length)] + " 학생회실",
+                        Timestamp.valueOf(end.plusDays(3)), Timestamp.valueOf(end.plusDays(10)), drawn[r] ? 1 : 0);
+            }
+            total = ins.total();
+        }
+
+        int perRound = (int) Math.min(scale.members, Math.round(scale.members * scale.lotteryEntryRate));
+        try (MultiRowInsert ins = new MultiRowInsert(conn, "lottery_entry",
+                "round_id, hakbun, entry_count, is_win, created_at", rowsPerInsert)) {
+            for (int r = 0; r < rounds; r++) {
+                int offset = rnd.nextInt(scale.members);
+                LocalDateTime start = today.minusMonths(rounds - 1 - r).withDayOfMonth(1).atTime(9, 0);
+                for (int e = 0; e < perRound; e++) {
+                    // 추첨 완료 회차는 응모 순서 앞쪽 winner_count 명을 당첨으로 (응모 순서가 이미 무작위)
+                    int win = drawn[r] && e < winners[r] ? 1 : 0;
+                    ins.add(r + 1, hakbun((offset + e) % scale.members), 1 + rnd.nextInt(5), win,
+                            Timestamp.valueOf(start.plusMinutes(rnd.nextInt(60 * 24 * 14))));
+                }
+            }
+            total += ins.total();
+        }
+        return total;
+    }
+
+    // ================================
+    // 📦 여러 행 INSERT (INSERT INTO t (...) VALUES (...), (...), ...)
+    // ================================
+    static final class MultiRowInsert implements AutoCloseable {
+        private final Connection conn;
+        private final String table;
+        private final String columns;
+        private final int columnCount;
+        private final int rowsPerStatement;
+        private final Object[] buffer;
+        private PreparedStatement full;   // rowsPerStatement 행짜리 문장은 재사용
+        private int rows;
+        private long total;
+
+        MultiRowInsert(Connection conn, String table, String columns, int rowsPerStatement) {
+            this.conn = conn;
+            this.table = table;
+            this.columns = columns;
+            this.columnCount = columns.split(",").length;
+            this.rowsPerStatement = Math.max(1, rowsPerStatement);
+            this.buffer = new Object[columnCount * this.rowsPerStatement];
+        }
+
+        void add(Object... values) throws SQLException {
+            if (values.length != columnCount) {
+                throw new IllegalArgumentException(table + ": 컬럼 " + columnCount + "개, 값 " + values.length + "개");
+            }
+            System.arraycopy(values, 0, buffer, rows * columnCount, columnCount);
+            rows++;
+            if (rows == rowsPerStatement) flush();
+        }
+
+        long total() throws SQLException {
+            flush();
+            return total;
+        }
+
+        private void flush() throws SQLException {
+            if (rows == 0) return;
+
+            boolean isFull = rows == rowsPerStatement;
+            PreparedStatement ps;
+            if (isFull) {
+                if (full == null) full = conn.prepareStatement(sql(rowsPerStatement));
+                ps = full;
+            } else {
+                ps = conn.prepareStatement(sql(rows));
+            }
+            try {
+                for (int i = 0; i < rows * columnCount; i++) {
+                    ps.setObject(i + 1, buffer[i]);
+                }
+                ps.executeUpdate();
+                conn.commit();
+            } finally {
+                if (!isFull) ps.close();
+            }
+            total += rows;
+            rows = 0;
+        }
+
+        private String sql(int rowCount) {
+            StringBuilder row = new StringBuilder("(");
+            for (int c = 0; c < columnCount; c++) row.append(c == 0 ? "?" : ", ?");
+            row.append(')');
+
+            StringBuilder sb = new StringBuilder("INSERT INTO ").append(table)
+                    .append(" (").append(columns).append(") VALUES ");
+            for (int r = 0; r < rowCount; r++) {
+                if (r > 0) sb.append(", ");
+                sb.append(row);
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                if (full != null) full.close();
+            }
+        }
+    }
+
+    // ================================
+    // ▶ 명령행 실행
+    // ================================
+    public static void main(String[] args) throws Exception {
+        long seed = 42;
+        int batch = 500;
+        boolean schema = false;
+        LocalDate today = DEFAULT_TODAY;
+        Scale scale = Scale.defaults();
+        List<String[]> overrides = new ArrayList<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            String[] kv = arg.substring(2).split("=", 2);
+            String key = kv[0];
+            String value = kv.length > 1 ? kv[1] : "";
+
+            switch (key) {
+                case "seed":   seed = Long.parseLong(value); break;
+                case "batch":  batch = Integer.parseInt(value); break;
+                case "schema": schema = true; break;
+                case "today":  today = LocalDate.parse(value); break;
+                case "scale":  scale = scale.scaled(Double.parseDouble(value)); break;
+                case "driver": case "url": case "user": case "pass":
+                    System.setProperty("beehub.db." + key, value);
+                    break;
+                default:
+                    overrides.add(new String[]{ key, value });
+            }
+        }
+        // 대량 INSERT 에서는 SQL 계측(바인드 값 기록)을 끈다 (-Dbeehub.sql.instrument=true 로 켤 수 있음)
+        if (System.getProperty("beehub.sql.instrument") == null) {
+            System.setProperty("beehub.sql.instrument", "false");
+        }
+        // 데이터만 넣는 도구이므로 연체 정지를 기록하지 않음 (BenchDatabase 와 같음)
+        if (System.getProperty("beehub.overdue.scan") == null) {
+            System.setProperty("beehub.overdue.scan", "false");
+        }
+        if (System.getProperty("beehub.usage.backfillDays") == null) {
+            System.setProperty("beehub.usage.backfillDays", "0");   // 이용 통계 채우기도 앱이 처음 실행될 때
+        }
+        if (System.getProperty("beehub.postIndex.file") == null) {
+            System.setProperty("beehub.postIndex.file", "");         // 게시글 검색 색인 파일을 남기지 않음
+        }
+        for (String[] o : overrides) {
+            java.lang.reflect.Field f;
+            try {
+                f = Scale.class.getField(o[0]);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalArgumentException("알 수 없는 옵션: --" + o[0]);
+            }
+            if (f.getType() == int.class) f.setInt(scale, Integer.parseInt(o[1]));
+            else f.setDouble(scale, Double.parseDouble(o[1]));
+        }
+
+        System.out.println("[데이터생성] seed=" + seed + ", batch=" + batch + ", today=" + today);
+        System.out.println("[데이터생성] " + scale);
+
+        try (Connection conn = DBUtil.getConnection()) {
+            if (conn == null) {
+                System.err.println("DB 연결 실패 (--url/--user/--pass 확인)");
+                System.exit(1);
+            }
+            if (schema) SchemaBootstrap.createSchema(conn);
+
+            try (Statement st = conn.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM members")) {
+                if (rs.next() && rs.getInt(1) > 0) {
+                    System.err.println("members 테이블이 비어 있지 않습니다. 빈 DB 에서 실행하세요.");
+                    System.exit(1);
+                }
+            }
+
+            long start = System.nanoTime();
+            new CampusDataGenerator(conn, seed, scale, batch, today).generate();
+            System.out.printf("[데이터생성] 완료 (%.1fs)%n", (System.nanoTime() - start) / 1e9);
+        } finally {
+            DBUtil.shutdown();
+        }
+    }
+}
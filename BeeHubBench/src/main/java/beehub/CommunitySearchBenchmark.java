@@ -0,0 +1,64 @@
+package beehub;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 커뮤니티 게시글 검색 (내장 DB, 게시판 첫 페이지 PAGE_SIZE 개)
+ * - likePage: CommunityDAO.getPostsPage (제목/작성자 LIKE, 색인이 준비되기 전 게시판이 쓰는 방식)
+ * - searchPage: 게시판과 같은 방식 → 검색어가 있으면 CommunityDAO.searchPostsPage (색인 순위 + PK 조회),
+ *   없으면 getPostsPage
+ * - indexSearch: PostSearchIndex 의 bigram 색인 + BM25 순위만 (제목/본문/작성자, DB 조회 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommunitySearchBenchmark {
+
+    private static final int PAGE_SIZE = 8;   // CommunityFrame.itemsPerPage
+
+    // "" = 전체 목록, "과제" = 흔한 단어, "꿀벌12" = 작성자, "없는검색어" = 결과 없음
+    @Param({ "", "과제", "꿀벌12", "없는검색어" })
+    public String keyword;
+
+    private CommunityDAO dao;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchDatabase.ensureSeeded();
+        PostSearchIndex.getInstance().syncNow();   // 입력한 게시글을 색인에 반영
+        dao = new CommunityDAO();
+    }
+
+    @Benchmark
+    public CommunityDAO.PostPage likePage() throws SQLException {
+        return dao.getPostsPage(keyword, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CommunityDAO.PostPage searchPage() throws SQLException {
+        return keyword.isEmpty()
+                ? dao.getPostsPage(keyword, null, 0, PAGE_SIZE)
+                : dao.searchPostsPage(keyword, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public int[] indexSearch() {
+        return PostSearchIndex.getInstance().searchUncached(keyword);
+    }
+}
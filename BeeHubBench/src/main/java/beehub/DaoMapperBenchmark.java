@@ -0,0 +1,63 @@
+package beehub;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.rowset.CachedRowSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * ResultSet → DTO 매핑 비용 (ItemDAO / RentDAO)
+ * - 목록 화면과 같은 SQL 결과를 CachedRowSet 에 올려두고 매핑만 측정 (DB I/O 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DaoMapperBenchmark {
+
+    private CachedRowSet items;
+    private CachedRowSet rentals;
+
+    @Setup
+    public void setUp() {
+        // ItemDAO.getAllItemsAdmin() 과 같은 조회
+        items = BenchDatabase.query("SELECT * FROM ITEM ORDER BY name");
+        // RentDAO.getAllRentals() 와 같은 조회
+        rentals = BenchDatabase.query(
+                "SELECT r.rental_id, r.item_id, r.item_name, r.renter_id, m.name AS renter_name, "
+              + "r.rent_date, r.due_date, r.return_date, r.is_returned "
+              + "FROM RENTAL r JOIN members m ON r.renter_id = m.hakbun ORDER BY r.rental_id DESC");
+    }
+
+    @Benchmark
+    public void itemFromResultSet(Blackhole bh) throws SQLException {
+        ItemDAO dao = ItemDAO.getInstance();
+        items.beforeFirst();
+        while (items.next()) {
+            bh.consume(dao.getItemFromResultSet(items));
+        }
+    }
+
+    @Benchmark
+    public void rentFromResultSet(Blackhole bh) throws SQLException {
+        RentDAO dao = RentDAO.getInstance();
+        rentals.beforeFirst();
+        while (rentals.next()) {
+            bh.consume(dao.getRentFromResultSet(rentals));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package beehub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.rowset.CachedRowSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 빈 강의실 화면의 점유 시간 계산 (EmptyClassFrame.applyOccupancy)
+ * - 강의실/시간표는 내장 DB 의 space_info, class_timetable 에서 읽어온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmptyClassBenchmark {
+
+    private List<EmptyClassFrame.ClassRoom> rooms;
+    private List<ClassTimetableDAO.ClassSchedule> schedules;
+
+    @Setup
+    public void setUp() throws Exception {
+        CachedRowSet rs = BenchDatabase.query(
+                "SELECT building_name, room_name FROM space_info "
+              + "WHERE is_active = 1 AND room_type = '강의실' ORDER BY building_name, room_name");
+        rooms = new ArrayList<>();
+        while (rs.next()) {
+            rooms.add(new EmptyClassFrame.ClassRoom(rs.getString("building_name"), rs.getString("room_name"),
+                    new ArrayList<>()));
+        }
+        schedules = ClassTimetableDAO.getInstance().getSchedulesByDate(BenchDatabase.CLASS_DATE);
+    }
+
+    @Benchmark
+    public int applyOccupancy() {
+        return EmptyClassFrame.applyOccupancy(rooms, schedules);
+    }
+}
@@ -0,0 +1,73 @@
+package beehub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 물품 검색 (ItemSearchIndex, ItemListFrame.searchItems 의 상위 100개)
+ * - 물품은 내장 DB 의 목록(500개)을 이름 뒤 번호만 바꿔 items 개까지 늘려서 사용
+ * - 비교용으로 기존 방식(name.contains 전체 스캔)도 같이 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemSearchBenchmark {
+
+    // 초성 / 여러 단어 / 오타 / 흔한 단어
+    @Param({ "ㄴㅌㅂ", "공학 계산기", "키보두", "우산" })
+    public String keyword;
+
+    @Param({ "500", "5000" })
+    public int items;
+
+    private List<Item> catalog;
+    private ItemSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        BenchDatabase.ensureSeeded();
+        List<Item> base = ItemDAO.getInstance().getAllItems();
+
+        catalog = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            Item src = base.get(i % base.size());
+            Item item = new Item(src.getName() + "-" + (i / base.size()), src.getTotalStock(),
+                    src.getMaxRentDays(), src.getTargetMajor(), src.getImagePath());
+            item.setItemId(i + 1);
+            catalog.add(item);
+        }
+
+        index = new ItemSearchIndex();
+        index.rebuild(catalog);
+    }
+
+    @Benchmark
+    public List<Item> indexSearch() {
+        return index.search(keyword, 100);
+    }
+
+    @Benchmark
+    public List<Item> containsScan() {
+        List<Item> result = new ArrayList<>();
+        for (Item item : catalog) {
+            if (item.getName().contains(keyword)) result.add(item);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,187 @@
+package beehub;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 대여 동시성 검사 (RentalDAO.rentItem) — JMH 가 아닌 단독 실행
+ * - 재고 stock 개인 물품에 threads 명이 동시에 대여 요청 (그중 일부는 같은 학생이 두 번 요청)
+ * - 끝난 뒤 DB 에서 확인: 성공 수 ≤ 재고, 남은 재고 = 재고 - 성공 수,
+ *   미반납 RENTAL 수 = 성공 수, 같은 학생의 미반납 중복 없음 → 하나라도 어긋나면 종료 코드 1
+ * - 라운드마다 새 물품을 쓰고, 라운드별 처리량(요청/초)과 실패 이유별 건수를 출력
+ *
+ * 실행
+ *   java -cp BeeHubBench/target/benchmarks.jar beehub.RentalContentionCheck
+ *   -Dbeehub.check.threads=400 -Dbeehub.check.stock=50 -Dbeehub.check.rounds=5
+ *   -Dbeehub.check.duplicateEvery=4   : n 번째 스레드마다 앞 스레드와 같은 학생으로 요청
+ *   -Dbeehub.stock.rushMode=true      : 러시 모드(메모리 재고 카운터)로 같은 검사
+ */
+public class RentalContentionCheck {
+
+    private static final int THREADS = Integer.getInteger("beehub.check.threads", 400);
+    private static final int STOCK = Integer.getInteger("beehub.check.stock", 50);
+    private static final int ROUNDS = Integer.getInteger("beehub.check.rounds", 5);
+    private static final int DUPLICATE_EVERY = Integer.getInteger("beehub.check.duplicateEvery", 4);
+
+    public static void main(String[] args) throws Exception {
+        BenchDatabase.ensureSeeded();
+        RentalDAO dao = new RentalDAO();
+        boolean ok = true;
+
+        System.out.printf("threads=%d, stock=%d, rounds=%d, pool.maxSize=%s, rushMode=%s%n",
+                THREADS, STOCK, ROUNDS, System.getProperty("beehub.pool.maxSize", "10"),
+                ItemDAO.getInstance().isRushMode());
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            Item item = insertItem("경합 실험복 " + round, STOCK);
+            String[] renters = pickRenters(round);
+
+            Map<RentalDAO.RentResult, AtomicInteger> results = new EnumMap<>(RentalDAO.RentResult.class);
+            for (RentalDAO.RentResult r : RentalDAO.RentResult.values()) results.put(r, new AtomicInteger());
+            AtomicInteger errors = new AtomicInteger();
+            AtomicLongArray latencyNs = new AtomicLongArray(THREADS);
+
+            CountDownLatch ready = new CountDownLatch(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(THREADS);
+            LocalDate today = LocalDate.now();
+
+            for (int i = 0; i < THREADS; i++) {
+                final int idx = i;
+                Thread t = new Thread(() -> {
+                    ready.countDown();
+                    try {
+                        start.await();
+                        long t0 = System.nanoTime();
+                        RentalDAO.RentResult r = dao.rentItem(item, renters[idx], "경합" + idx,
+                                today, today.plusDays(3));
+                        latencyNs.set(idx, System.nanoTime() - t0);
+                        results.get(r).incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                        System.err.println("요청 " + idx + " 실패: " + e);
+                    } finally {
+                        done.countDown();
+                    }
+                }, "rent-" + i);
+                t.start();
+            }
+
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            double seconds = (System.nanoTime() - begin) / 1e9;
+
+            int success = results.get(RentalDAO.RentResult.SUCCESS).get();
+            ItemDAO.getInstance().flushRushStock();   // 러시 모드면 모아둔 재고 변경을 먼저 반영
+            Verification v = verify(item.getItemId());
+            boolean roundOk = success <= STOCK
+                    && v.availableStock == STOCK - success
+                    && v.activeRentals == success
+                    && v.duplicateRenters == 0
+                    && errors.get() == 0;
+            ok &= roundOk;
+
+            long[] sorted = new long[THREADS];
+            for (int i = 0; i < THREADS; i++) sorted[i] = latencyNs.get(i);
+            java.util.Arrays.sort(sorted);
+
+            System.out.printf("[round %d] %.0f req/s (%.1f ms), p50=%.2f ms, p99=%.2f ms, %s, errors=%d%n",
+                    round, THREADS / seconds, seconds * 1000,
+                    sorted[THREADS / 2] / 1e6, sorted[(int) (THREADS * 0.99)] / 1e6, results, errors.get());
+            System.out.printf("          DB: available_stock=%d, active rentals=%d, duplicate renters=%d → %s%n",
+                    v.availableStock, v.activeRentals, v.duplicateRenters, roundOk ? "OK" : "불일치!");
+        }
+
+        for (TxRetry.OpStat s : TxRetry.snapshot()) {
+            System.out.printf("tx %s: calls=%d, retries=%d, recovered=%d, exhausted=%d, failures=%d%n",
+                    s.operation, s.getCalls(), s.getRetries(), s.getRecovered(), s.getExhausted(), s.getFailures());
+        }
+        System.out.println("pool: " + DBUtil.getPoolStats());
+        if (ItemDAO.getInstance().isRushMode()) {
+            System.out.println("rush: " + ItemDAO.getInstance().getRushStats());
+        }
+        System.out.println(ok ? "결과: 초과 대여/중복 대여 없음" : "결과: 검사 실패");
+        DBUtil.shutdown();
+        System.exit(ok ? 0 : 1);
+    }
+
+    // 라운드마다 다른 학생들, DUPLICATE_EVERY 번째마다 바로 앞 학생과 같은 학번
+    private static String[] pickRenters(int round) throws SQLException {
+        String[] renters = new String[THREADS];
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "SELECT hakbun FROM members WHERE role = 'USER' AND hakbun NOT IN "
+                   + "(SELECT renter_id FROM RENTAL WHERE is_returned = 0) ORDER BY hakbun LIMIT ? OFFSET ?")) {
+            ps.setInt(1, THREADS);
+            ps.setInt(2, (round - 1) * THREADS);
+            try (ResultSet rs = ps.executeQuery()) {
+                int i = 0;
+                while (i < THREADS && rs.next()) {
+                    renters[i] = (DUPLICATE_EVERY > 0 && i > 0 && i % DUPLICATE_EVERY == 0)
+                            ? renters[i - 1] : rs.getString(1);
+                    i++;
+                }
+                if (i < THREADS) throw new IllegalStateException("회원 수 부족: -Dbeehub.bench.scale 을 늘리세요");
+            }
+        }
+        return renters;
+    }
+
+    private static Item insertItem(String name, int stock) throws SQLException {
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "INSERT INTO ITEM (name, total_stock, available_stock, max_rent_days, target_major, image_path, is_active) "
+                   + "VALUES (?, ?, ?, 3, NULL, NULL, 1)", Statement.RETURN_GENERATED_KEYS)) {
+            ps.setString(1, name);
+            ps.setInt(2, stock);
+            ps.setInt(3, stock);
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                keys.next();
+                Item item = new Item(name, stock, 3, null, null);
+                item.setItemId(keys.getInt(1));
+                return item;
+            }
+        }
+    }
+
+    private static final class Verification {
+        int availableStock;
+        int activeRentals;
+        int duplicateRenters;
+    }
+
+    private static Verification verify(int itemId) throws SQLException {
+        Verification v = new Verification();
+        try (Connection conn = DBUtil.getConnection()) {
+            try (PreparedStatement ps = conn.prepareStatement("SELECT available_stock FROM ITEM WHERE item_id = ?")) {
+                ps.setInt(1, itemId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    v.availableStock = rs.getInt(1);
+                }
+            }
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "SELECT COUNT(*), COUNT(DISTINCT renter_id) FROM RENTAL WHERE item_id = ? AND is_returned = 0")) {
+                ps.setInt(1, itemId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    v.activeRentals = rs.getInt(1);
+                    v.duplicateRenters = rs.getInt(1) - rs.getInt(2);
+                }
+            }
+        }
+        return v;
+    }
+}
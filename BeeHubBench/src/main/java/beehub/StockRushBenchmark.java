@@ -0,0 +1,84 @@
+package beehub;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 인기 물품 1개에 대여가 몰릴 때 재고 차감 (ItemDAO.decreaseAvailableStock, 대여 트랜잭션 안에서)
+ * - rowLock: 기존 방식, ITEM 행을 잠그는 조건부 UPDATE
+ * - rush   : 러시 모드, 메모리 카운터에서 차감 + DB 는 flushMs 마다 모아서 반영
+ * - hotItem  : 재고가 충분한 물품 (차감 성공 경로)
+ * - soldOut  : 재고가 0 인 물품 (거절 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class StockRushBenchmark {
+
+    @Param({ "rowLock", "rush" })
+    public String mode;
+
+    private int hotItemId;
+    private int soldOutItemId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        BenchDatabase.ensureSeeded();
+        hotItemId = insertItem("러시 벤치 실험복", 1_000_000_000);
+        soldOutItemId = insertItem("러시 벤치 품절", 0);
+        ItemDAO.getInstance().setRushMode("rush".equals(mode));
+    }
+
+    @TearDown
+    public void tearDown() {
+        ItemDAO.getInstance().setRushMode(false);
+    }
+
+    @Benchmark
+    public boolean hotItem() throws SQLException {
+        return DBUtil.inTransaction(conn -> ItemDAO.getInstance().decreaseAvailableStock(conn, hotItemId));
+    }
+
+    @Benchmark
+    public boolean soldOut() throws SQLException {
+        return DBUtil.inTransaction(conn -> ItemDAO.getInstance().decreaseAvailableStock(conn, soldOutItemId));
+    }
+
+    private static int insertItem(String name, int stock) throws SQLException {
+        try (Connection conn = DBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "INSERT INTO ITEM (name, total_stock, available_stock, max_rent_days, target_major, image_path, is_active) "
+                   + "VALUES (?, ?, ?, 3, NULL, NULL, 1)", Statement.RETURN_GENERATED_KEYS)) {
+            ps.setString(1, name);
+            ps.setInt(2, stock);
+            ps.setInt(3, stock);
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                keys.next();
+                return keys.getInt(1);
+            }
+        }
+    }
+}
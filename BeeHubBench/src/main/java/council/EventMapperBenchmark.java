@@ -0,0 +1,49 @@
+package council;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.rowset.CachedRowSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import beehub.BenchDatabase;
+
+/**
+ * ResultSet → EventData 매핑 (EventManager.mapRow)
+ * - mapRow 는 행마다 참여 인원 COUNT 쿼리를 실행하므로 내장 DB 왕복이 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    private CachedRowSet events;
+
+    @Setup
+    public void setUp() {
+        // EventManager.getAllEvents() 와 같은 조회
+        events = BenchDatabase.query("SELECT * FROM events WHERE status IS NULL OR status <> 'DELETED' ORDER BY event_date DESC");
+    }
+
+    @Benchmark
+    public void mapRow(Blackhole bh) throws SQLException {
+        events.beforeFirst();
+        while (events.next()) {
+            bh.consume(EventManager.mapRow(events));
+        }
+    }
+}